@@ -0,0 +1,101 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link OpenSslCertManager} and the {@link JcaCertManager} on the operations used by the operators to
+ * issue a certificate: the same steps as {@code Ca.generateSignedCert} (CSR, certificate signed by the CA and PKCS#12
+ * keystore) and adding the CA certificate to a truststore.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CertManagerBenchmark {
+    @Param({"openssl", "jca"})
+    public String manager;
+
+    private CertManager certManager;
+    private byte[] caKey;
+    private byte[] caCert;
+
+    private File caCertFile;
+    private File csrFile;
+    private File keyFile;
+    private File certFile;
+    private File keyStoreFile;
+    private File trustStoreFile;
+
+    private final Subject subject = new Subject.Builder()
+            .withCommonName("my-cluster-kafka")
+            .withOrganizationName("io.strimzi")
+            .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.myproject.svc")
+            .addDnsName("my-cluster-kafka-bootstrap.myproject.svc")
+            .build();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        certManager = "openssl".equals(manager) ? new OpenSslCertManager() : new JcaCertManager();
+
+        // The same CA is used by both managers so that only the issuance is measured
+        File caKeyFile = File.createTempFile("ca-", ".key");
+        caCertFile = File.createTempFile("ca-", ".crt");
+        new JcaCertManager().generateSelfSignedCert(caKeyFile, caCertFile, new Subject.Builder().withCommonName("cluster-ca").build(), 365);
+        caKey = Files.readAllBytes(caKeyFile.toPath());
+        caCert = Files.readAllBytes(caCertFile.toPath());
+        caKeyFile.delete();
+
+        csrFile = File.createTempFile("tls-", ".csr");
+        keyFile = File.createTempFile("tls-", ".key");
+        certFile = File.createTempFile("tls-", ".crt");
+        keyStoreFile = File.createTempFile("tls-", ".p12");
+        trustStoreFile = File.createTempFile("tls-", ".truststore");
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        caCertFile.delete();
+        csrFile.delete();
+        keyFile.delete();
+        certFile.delete();
+        keyStoreFile.delete();
+        trustStoreFile.delete();
+    }
+
+    @Benchmark
+    public byte[] generateSignedCert() throws Exception {
+        certManager.generateCsr(keyFile, csrFile, subject);
+        certManager.generateCert(csrFile, caKey, caCert, certFile, subject, 365);
+        certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, "changeit");
+        return Files.readAllBytes(keyStoreFile.toPath());
+    }
+
+    @Benchmark
+    public byte[] addCertToTrustStore() throws Exception {
+        Files.write(trustStoreFile.toPath(), new byte[0]);
+        certManager.addCertToTrustStore(caCertFile, "ca.crt", trustStoreFile, "changeit");
+        return Files.readAllBytes(trustStoreFile.toPath());
+    }
+}
@@ -10,6 +10,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public interface CertManager {
     /**
@@ -110,4 +111,14 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Executor which should be used to generate several certificates at the same time. When it runs the tasks in
+     * parallel, the certificate manager has to be thread-safe.
+     *
+     * @return Executor for generating certificates. By default, the tasks run one by one in the calling thread.
+     */
+    default Executor executor() {
+        return Runnable::run;
+    }
 }
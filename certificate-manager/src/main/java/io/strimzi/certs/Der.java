@@ -0,0 +1,337 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal ASN.1 DER encoder and decoder. It supports only the types needed to build and read X.509 certificates,
+ * PKCS#10 certificate signing requests and private keys. The JDK can parse certificates and keys, but it has no public
+ * API for creating them.
+ */
+class Der {
+    static final int BOOLEAN = 0x01;
+    static final int INTEGER = 0x02;
+    static final int BIT_STRING = 0x03;
+    static final int OCTET_STRING = 0x04;
+    static final int NULL = 0x05;
+    static final int OBJECT_IDENTIFIER = 0x06;
+    static final int UTF8_STRING = 0x0c;
+    static final int IA5_STRING = 0x16;
+    static final int UTC_TIME = 0x17;
+    static final int GENERALIZED_TIME = 0x18;
+    static final int SEQUENCE = 0x30;
+    static final int SET = 0x31;
+
+    private static final DateTimeFormatter UTC_TIME_FORMAT = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    private Der() { }
+
+    /**
+     * Encodes a single TLV (tag, length, value)
+     *
+     * @param tag       Tag
+     * @param content   Encoded content
+     *
+     * @return  DER encoding
+     */
+    static byte[] tlv(int tag, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 6);
+        out.write(tag);
+
+        int length = content.length;
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int octets = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | octets);
+            for (int i = octets - 1; i >= 0; i--) {
+                out.write(length >>> (8 * i));
+            }
+        }
+
+        out.writeBytes(content);
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... elements) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] element : elements) {
+            out.writeBytes(element);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return tlv(SEQUENCE, concat(elements));
+    }
+
+    static byte[] sequence(List<byte[]> elements) {
+        return sequence(elements.toArray(new byte[0][]));
+    }
+
+    static byte[] set(byte[]... elements) {
+        return tlv(SET, concat(elements));
+    }
+
+    /**
+     * @param tagNumber Number of the context specific tag
+     * @param elements  Encoded elements
+     *
+     * @return  Constructed context specific element, used for EXPLICIT tagging
+     */
+    static byte[] explicit(int tagNumber, byte[]... elements) {
+        return tlv(0xa0 | tagNumber, concat(elements));
+    }
+
+    /**
+     * @param tagNumber Number of the context specific tag
+     * @param content   Content of the element
+     *
+     * @return  Primitive context specific element, used for IMPLICIT tagging of primitive types
+     */
+    static byte[] implicit(int tagNumber, byte[] content) {
+        return tlv(0x80 | tagNumber, content);
+    }
+
+    static byte[] bool(boolean value) {
+        return tlv(BOOLEAN, new byte[] {value ? (byte) 0xff : 0});
+    }
+
+    static byte[] integer(BigInteger value) {
+        return tlv(INTEGER, value.toByteArray());
+    }
+
+    static byte[] integer(long value) {
+        return integer(BigInteger.valueOf(value));
+    }
+
+    static byte[] nullValue() {
+        return tlv(NULL, new byte[0]);
+    }
+
+    static byte[] octetString(byte[] value) {
+        return tlv(OCTET_STRING, value);
+    }
+
+    /**
+     * @param value Bytes of the bit string
+     *
+     * @return  Bit string without unused bits
+     */
+    static byte[] bitString(byte[] value) {
+        return bitString(value, 0);
+    }
+
+    static byte[] bitString(byte[] value, int unusedBits) {
+        byte[] content = new byte[value.length + 1];
+        content[0] = (byte) unusedBits;
+        System.arraycopy(value, 0, content, 1, value.length);
+        return tlv(BIT_STRING, content);
+    }
+
+    static byte[] utf8String(String value) {
+        return tlv(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static byte[] ia5String(String value) {
+        return tlv(IA5_STRING, value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Encodes the time as UTCTime for the years 1950 - 2049 and as GeneralizedTime otherwise (see RFC 5280)
+     *
+     * @param instant   Time
+     *
+     * @return  DER encoding
+     */
+    static byte[] time(Instant instant) {
+        ZonedDateTime time = instant.atZone(ZoneOffset.UTC);
+        if (time.getYear() >= 1950 && time.getYear() < 2050) {
+            return tlv(UTC_TIME, UTC_TIME_FORMAT.format(time).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return tlv(GENERALIZED_TIME, GENERALIZED_TIME_FORMAT.format(time).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        if (arcs.length < 2) {
+            throw new IllegalArgumentException("Invalid object identifier " + oid);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeArc(out, new BigInteger(arcs[0]).multiply(BigInteger.valueOf(40)).add(new BigInteger(arcs[1])));
+        for (int i = 2; i < arcs.length; i++) {
+            writeArc(out, new BigInteger(arcs[i]));
+        }
+
+        return tlv(OBJECT_IDENTIFIER, out.toByteArray());
+    }
+
+    private static void writeArc(ByteArrayOutputStream out, BigInteger arc) {
+        int groups = Math.max(1, (arc.bitLength() + 6) / 7);
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = arc.shiftRight(7 * i).intValue() & 0x7f;
+            out.write(i > 0 ? group | 0x80 : group);
+        }
+    }
+
+    /**
+     * Decodes the DER element at the beginning of the data
+     *
+     * @param data  DER encoded data
+     *
+     * @return  Decoded element
+     *
+     * @throws IOException  When the data are not valid DER
+     */
+    static Element parse(byte[] data) throws IOException {
+        return parse(data, 0, data.length);
+    }
+
+    private static Element parse(byte[] data, int offset, int limit) throws IOException {
+        if (limit - offset < 2) {
+            throw new IOException("Truncated DER element");
+        }
+
+        int tag = data[offset] & 0xff;
+        if ((tag & 0x1f) == 0x1f) {
+            throw new IOException("Multi-byte DER tags are not supported");
+        }
+
+        int position = offset + 1;
+        int length = data[position++] & 0xff;
+        if (length >= 0x80) {
+            int octets = length & 0x7f;
+            if (octets == 0 || octets > 4 || position + octets > limit) {
+                throw new IOException("Invalid DER length");
+            }
+            length = 0;
+            for (int i = 0; i < octets; i++) {
+                length = (length << 8) | (data[position++] & 0xff);
+            }
+        }
+
+        if (length < 0 || position + length > limit) {
+            throw new IOException("Truncated DER element");
+        }
+
+        return new Element(data, tag, offset, position, position + length);
+    }
+
+    /**
+     * Decoded DER element. It references the original data instead of copying them.
+     */
+    static class Element {
+        private final byte[] data;
+        private final int tag;
+        private final int offset;
+        private final int contentOffset;
+        private final int end;
+
+        private Element(byte[] data, int tag, int offset, int contentOffset, int end) {
+            this.data = data;
+            this.tag = tag;
+            this.offset = offset;
+            this.contentOffset = contentOffset;
+            this.end = end;
+        }
+
+        int tag() {
+            return tag;
+        }
+
+        /**
+         * @return  The whole element including its tag and length
+         */
+        byte[] encoded() {
+            return Arrays.copyOfRange(data, offset, end);
+        }
+
+        byte[] content() {
+            return Arrays.copyOfRange(data, contentOffset, end);
+        }
+
+        /**
+         * @return  Elements nested in this constructed element
+         *
+         * @throws IOException  When the content is not valid DER
+         */
+        List<Element> children() throws IOException {
+            if ((tag & 0x20) == 0) {
+                throw new IOException("DER element with tag " + tag + " is not constructed");
+            }
+
+            List<Element> children = new ArrayList<>();
+            int position = contentOffset;
+            while (position < end) {
+                Element child = parse(data, position, end);
+                children.add(child);
+                position = child.end;
+            }
+
+            return children;
+        }
+
+        Element child(int index) throws IOException {
+            List<Element> children = children();
+            if (index >= children.size()) {
+                throw new IOException("DER element has only " + children.size() + " children");
+            }
+            return children.get(index);
+        }
+
+        /**
+         * @return  Content of a bit string without the unused bits octet
+         *
+         * @throws IOException  When the element is not a bit string
+         */
+        byte[] bitStringValue() throws IOException {
+            expect(BIT_STRING);
+            return Arrays.copyOfRange(data, contentOffset + 1, end);
+        }
+
+        String oidValue() throws IOException {
+            expect(OBJECT_IDENTIFIER);
+
+            StringBuilder oid = new StringBuilder();
+            BigInteger arc = BigInteger.ZERO;
+            boolean first = true;
+            for (int i = contentOffset; i < end; i++) {
+                arc = arc.shiftLeft(7).or(BigInteger.valueOf(data[i] & 0x7f));
+                if ((data[i] & 0x80) == 0) {
+                    if (first) {
+                        int firstArc = Math.min(arc.divide(BigInteger.valueOf(40)).intValue(), 2);
+                        oid.append(firstArc).append('.').append(arc.subtract(BigInteger.valueOf(40L * firstArc)));
+                        first = false;
+                    } else {
+                        oid.append('.').append(arc);
+                    }
+                    arc = BigInteger.ZERO;
+                }
+            }
+
+            return oid.toString();
+        }
+
+        private void expect(int expectedTag) throws IOException {
+            if (tag != expectedTag) {
+                throw new IOException("Expected DER tag " + expectedTag + " but found " + tag);
+            }
+        }
+    }
+}
@@ -0,0 +1,926 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static io.strimzi.certs.OpenSslCertManager.UTC;
+
+/**
+ * A certificate manager which uses only the Java Cryptography Architecture. Unlike the {@link OpenSslCertManager}, it
+ * does not start any processes and it does not need any temporary files. All operations are available on byte arrays
+ * with PEM encoded keys, certificates and certificate signing requests. The {@link CertManager} methods working with
+ * files only read their inputs and write their outputs.
+ *
+ * The issued certificates follow the configuration used by the {@link OpenSslCertManager}:
+ * <ul>
+ *     <li>The CA certificates use 4096 bit RSA keys and the other certificates 2048 bit RSA keys</li>
+ *     <li>The certificates are signed using SHA-512 and have a random 159 bit serial number</li>
+ *     <li>The CA certificates have the {@code keyCertSign} and {@code cRLSign} key usages and a critical
+ *     {@code basicConstraints} extension with the path length</li>
+ *     <li>The other certificates have the {@code digitalSignature} and {@code keyEncipherment} key usages and the
+ *     subject alternative names of the {@link Subject}</li>
+ * </ul>
+ *
+ * CA keys in PKCS#8, PKCS#1 (RSA) and SEC1 (EC) format are supported.
+ *
+ * The key pairs of the certificates signed by the CA can be taken from a {@link KeyPairPool} and the certificates can
+ * be generated in parallel using the {@link #executor()}. When bound to a meter registry, the time spent waiting for
+ * the key pairs and signing the certificates is recorded.
+ */
+public class JcaCertManager implements CertManager, MeterBinder {
+    private static final Logger LOGGER = LogManager.getLogger(JcaCertManager.class);
+
+    /**
+     * Size of the RSA keys of the CA certificates
+     */
+    public static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Size of the RSA keys of the certificates signed by the CA
+     */
+    public static final int KEY_SIZE = 2048;
+
+    private static final String CERTIFICATE = "CERTIFICATE";
+    private static final String CERTIFICATE_REQUEST = "CERTIFICATE REQUEST";
+    private static final String PRIVATE_KEY = "PRIVATE KEY";
+    private static final String RSA_PRIVATE_KEY = "RSA PRIVATE KEY";
+    private static final String EC_PRIVATE_KEY = "EC PRIVATE KEY";
+    private static final Pattern PEM = Pattern.compile("-----BEGIN ([A-Z0-9 ]+)-----([A-Za-z0-9+/=\\s]+)-----END \\1-----");
+
+    private static final String OID_RSA = "1.2.840.113549.1.1.1";
+    private static final String OID_EC = "1.2.840.10045.2.1";
+    private static final String OID_EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_ORGANIZATION_NAME = "2.5.4.10";
+    private static final String OID_SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String OID_KEY_USAGE = "2.5.29.15";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String OID_AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+
+    // keyCertSign (bit 5) and cRLSign (bit 6)
+    private static final byte[] CA_KEY_USAGE = Der.bitString(new byte[] {0x06}, 1);
+    // digitalSignature (bit 0) and keyEncipherment (bit 2)
+    private static final byte[] KEY_USAGE = Der.bitString(new byte[] {(byte) 0xa0}, 5);
+
+    private static final Map<String, String> SIGNATURE_ALGORITHMS = Map.of(
+            "1.2.840.113549.1.1.11", "SHA256withRSA",
+            "1.2.840.113549.1.1.12", "SHA384withRSA",
+            "1.2.840.113549.1.1.13", "SHA512withRSA",
+            "1.2.840.10045.4.3.2", "SHA256withECDSA",
+            "1.2.840.10045.4.3.3", "SHA384withECDSA",
+            "1.2.840.10045.4.3.4", "SHA512withECDSA");
+
+    private final SecureRandom random = new SecureRandom();
+    private final KeyPairPool keyPairPool;
+    private final Executor executor;
+
+    private volatile Timer keyPairTimer;
+    private volatile Timer issuanceTimer;
+
+    /**
+     * Creates the certificate manager which generates the key pairs on demand and the certificates one by one
+     */
+    public JcaCertManager() {
+        this(null, Runnable::run);
+    }
+
+    /**
+     * Creates the certificate manager
+     *
+     * @param keyPairPool   Pool of the key pairs for the certificates signed by the CA or null to generate them on demand
+     * @param executor      Executor used to generate several certificates at the same time
+     */
+    public JcaCertManager(KeyPairPool keyPairPool, Executor executor) {
+        this.keyPairPool = keyPairPool;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Creates the certificate manager with a pool of key pairs generated by a single background thread and an executor
+     * which generates the certificates in parallel on all available processors
+     *
+     * @param keyPairPoolSize   Maximal number of key pairs kept in the pool
+     *
+     * @return  New certificate manager
+     */
+    public static JcaCertManager withKeyPairPool(int keyPairPoolSize) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "certificate-issuance-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        return new JcaCertManager(new KeyPairPool(KEY_SIZE, keyPairPoolSize, 1), executor);
+    }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Registers the timers of the key pair generation and of the certificate signing and the metrics of the key pair
+     * pool
+     *
+     * @param registry  Meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        keyPairTimer = Timer.builder("strimzi.certificate.key.pair")
+                .description("Time spent obtaining the key pairs of new certificates, either from the pool or by generating them")
+                .register(registry);
+        issuanceTimer = Timer.builder("strimzi.certificate.issuance")
+                .description("Time spent signing new certificates by the CA")
+                .register(registry);
+
+        if (keyPairPool != null) {
+            keyPairPool.bindTo(registry);
+        }
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    ////////////////////
+    // CertManager methods working with files
+    ////////////////////
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = Instant.now();
+        generateRootCaCert(keyFile, certFile, sbj, now.atZone(UTC), now.plus(days, ChronoUnit.DAYS).atZone(UTC), 0);
+    }
+
+    public void generateRootCaCert(File keyFile, File certFile, Subject subject,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+
+        CertAndKey ca = generateRootCaCert(subject, notBefore.toInstant(), notAfter.toInstant(), pathLength);
+        Files.write(keyFile.toPath(), ca.key());
+        Files.write(certFile.toPath(), ca.cert());
+    }
+
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+
+        CertAndKey ca = generateIntermediateCaCert(Files.readAllBytes(issuerCaKeyFile.toPath()), Files.readAllBytes(issuerCaCertFile.toPath()),
+                subject, notBefore.toInstant(), notAfter.toInstant(), pathLength);
+        Files.write(subjectKeyFile.toPath(), ca.key());
+        Files.write(subjectCertFile.toPath(), ca.cert());
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+
+        Files.write(certFile.toPath(), renewSelfSignedCert(Files.readAllBytes(keyFile.toPath()), sbj, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(trustStoreFile);
+
+        // An empty file is treated as a new truststore
+        byte[] trustStore = trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null;
+        Files.write(trustStoreFile.toPath(), addCertToTrustStore(Files.readAllBytes(certFile.toPath()), certAlias, trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(keyStoreFile);
+
+        Files.write(keyStoreFile.toPath(),
+                keyStore(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()), alias, keyStorePassword));
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        Objects.requireNonNull(trustStoreFile);
+
+        Files.write(trustStoreFile.toPath(), deleteFromTrustStore(aliases, Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword));
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+
+        KeyPair keyPair = generateKeyPair(KEY_SIZE);
+        Files.write(csrFile.toPath(), generateCsr(keyPair, sbj));
+        Files.write(keyFile.toPath(), privateKeyPem(keyPair.getPrivate()));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = Instant.now();
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, now.atZone(UTC), now.plus(days, ChronoUnit.DAYS).atZone(UTC));
+    }
+
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+
+        Files.write(crtFile.toPath(), generateCert(Files.readAllBytes(csrFile.toPath()), caKey, caCert, sbj, notBefore.toInstant(), notAfter.toInstant()));
+    }
+
+    ////////////////////
+    // In-memory methods
+    ////////////////////
+
+    /**
+     * Generates a new key pair or takes it from the key pair pool when the pool has keys of the requested size
+     *
+     * @param keySize   Size of the RSA key
+     *
+     * @return  New RSA key pair
+     */
+    protected KeyPair generateKeyPair(int keySize) {
+        long start = System.nanoTime();
+        try {
+            if (keyPairPool != null && keyPairPool.keySize() == keySize) {
+                return keyPairPool.take();
+            }
+
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("RSA key pair generator is not available", e);
+        } finally {
+            record(keyPairTimer, start);
+        }
+    }
+
+    /**
+     * Generates a self-signed root CA certificate with a new key
+     *
+     * @param subject       Subject of the CA
+     * @param notBefore     Start of the validity
+     * @param notAfter      End of the validity
+     * @param pathLength    Maximal number of intermediate CAs below this CA
+     *
+     * @return  PEM encoded private key (PKCS#8) and certificate
+     *
+     * @throws IOException  If the certificate could not be created
+     */
+    public CertAndKey generateRootCaCert(Subject subject, Instant notBefore, Instant notAfter, int pathLength) throws IOException {
+        checkCa(subject, notBefore, notAfter, pathLength);
+
+        KeyPair keyPair = generateKeyPair(CA_KEY_SIZE);
+        byte[] name = name(subject);
+        byte[] publicKeyInfo = keyPair.getPublic().getEncoded();
+
+        byte[] cert = certificate(name, name, publicKeyInfo, notBefore, notAfter,
+                caExtensions(publicKeyInfo, pathLength, null), keyPair.getPrivate());
+        LOGGER.debug("Generated root CA certificate for subject {}", subject);
+
+        return new CertAndKey(privateKeyPem(keyPair.getPrivate()), cert);
+    }
+
+    /**
+     * Generates an intermediate CA certificate with a new key
+     *
+     * @param issuerCaKey   PEM encoded private key of the issuing CA
+     * @param issuerCaCert  PEM encoded certificate of the issuing CA
+     * @param subject       Subject of the intermediate CA
+     * @param notBefore     Start of the validity
+     * @param notAfter      End of the validity
+     * @param pathLength    Maximal number of intermediate CAs below this CA
+     *
+     * @return  PEM encoded private key (PKCS#8) and certificate
+     *
+     * @throws IOException  If the certificate could not be created
+     */
+    public CertAndKey generateIntermediateCaCert(byte[] issuerCaKey, byte[] issuerCaCert, Subject subject,
+                                                 Instant notBefore, Instant notAfter, int pathLength) throws IOException {
+        checkCa(subject, notBefore, notAfter, pathLength);
+
+        X509Certificate issuer = certificate(issuerCaCert);
+        KeyPair keyPair = generateKeyPair(CA_KEY_SIZE);
+        byte[] publicKeyInfo = keyPair.getPublic().getEncoded();
+
+        byte[] cert = certificate(issuer.getSubjectX500Principal().getEncoded(), name(subject), publicKeyInfo, notBefore, notAfter,
+                caExtensions(publicKeyInfo, pathLength, issuer), privateKey(issuerCaKey));
+        LOGGER.debug("Generated intermediate CA certificate for subject {}", subject);
+
+        return new CertAndKey(privateKeyPem(keyPair.getPrivate()), cert);
+    }
+
+    /**
+     * Renews the self-signed CA certificate, keeping the existing private key
+     *
+     * @param key       PEM encoded RSA private key of the CA
+     * @param subject   Subject of the CA
+     * @param days      Validity of the new certificate
+     *
+     * @return  PEM encoded certificate
+     *
+     * @throws IOException  If the certificate could not be created
+     */
+    public byte[] renewSelfSignedCert(byte[] key, Subject subject, int days) throws IOException {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(subject);
+        if (days <= 0) {
+            throw new IllegalArgumentException("Invalid validityDays " + days);
+        }
+
+        PrivateKey privateKey = privateKey(key);
+        if (!(privateKey instanceof RSAPrivateCrtKey)) {
+            throw new IOException("Only RSA keys can be used to renew the self-signed certificate, but the key is " + privateKey.getAlgorithm());
+        }
+
+        byte[] publicKeyInfo;
+        try {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+            publicKeyInfo = KeyFactory.getInstance("RSA")
+                    .generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()))
+                    .getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to derive the public key", e);
+        }
+
+        Instant now = Instant.now();
+        byte[] name = name(subject);
+        byte[] cert = certificate(name, name, publicKeyInfo, now, now.plus(days, ChronoUnit.DAYS),
+                caExtensions(publicKeyInfo, 0, null), privateKey);
+        LOGGER.debug("Renewed self-signed certificate for subject {}", subject);
+
+        return cert;
+    }
+
+    /**
+     * Generates a certificate signing request
+     *
+     * @param keyPair   Key pair of the requested certificate
+     * @param subject   Subject of the requested certificate
+     *
+     * @return  PEM encoded certificate signing request
+     *
+     * @throws IOException  If the certificate signing request could not be created
+     */
+    public byte[] generateCsr(KeyPair keyPair, Subject subject) throws IOException {
+        Objects.requireNonNull(keyPair);
+        Objects.requireNonNull(subject);
+
+        List<byte[]> attributes = new ArrayList<>(1);
+        if (subject.subjectAltNames() != null && !subject.subjectAltNames().isEmpty()) {
+            attributes.add(Der.sequence(
+                    Der.oid(OID_EXTENSION_REQUEST),
+                    Der.set(Der.sequence(extension(OID_SUBJECT_ALT_NAME, false, subjectAltNames(subject))))));
+        }
+
+        byte[] info = Der.sequence(
+                Der.integer(0),
+                name(subject),
+                keyPair.getPublic().getEncoded(),
+                Der.explicit(0, attributes.toArray(new byte[0][])));
+
+        return pem(CERTIFICATE_REQUEST, sign(info, keyPair.getPrivate(), "SHA256"));
+    }
+
+    /**
+     * Generates a certificate signed by the CA from a certificate signing request. Same as with the
+     * {@link OpenSslCertManager}, the subject is taken from the request and the subject alternative names from
+     * the {@code sbj} parameter.
+     *
+     * @param csr           PEM encoded certificate signing request
+     * @param caKey         PEM encoded private key of the CA
+     * @param caCert        PEM encoded certificate of the CA
+     * @param sbj           Subject with the subject alternative names
+     * @param notBefore     Start of the validity
+     * @param notAfter      End of the validity
+     *
+     * @return  PEM encoded certificate
+     *
+     * @throws IOException  If the request is not valid or the certificate could not be created
+     */
+    public byte[] generateCert(byte[] csr, byte[] caKey, byte[] caCert, Subject sbj, Instant notBefore, Instant notAfter) throws IOException {
+        Objects.requireNonNull(csr);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        long start = System.nanoTime();
+        Der.Element request = Der.parse(pemContent(csr, CERTIFICATE_REQUEST));
+        Der.Element info = request.child(0);
+        byte[] subject = info.child(1).encoded();
+        byte[] publicKeyInfo = info.child(2).encoded();
+
+        if (!verify(info.encoded(), request.child(1).child(0).oidValue(), request.child(2).bitStringValue(), publicKeyInfo)) {
+            throw new IOException("Signature of the certificate signing request is not valid");
+        }
+
+        X509Certificate issuer = certificate(caCert);
+        byte[] cert = certificate(issuer.getSubjectX500Principal().getEncoded(), subject, publicKeyInfo, notBefore, notAfter,
+                extensions(publicKeyInfo, sbj, issuer), privateKey(caKey));
+        record(issuanceTimer, start);
+        LOGGER.debug("Generated certificate for subject {}", sbj);
+
+        return cert;
+    }
+
+    /**
+     * Generates a new key and a certificate signed by the CA directly, without a certificate signing request
+     *
+     * @param sbj       Subject of the certificate
+     * @param caKey     PEM encoded private key of the CA
+     * @param caCert    PEM encoded certificate of the CA
+     * @param days      Validity of the certificate
+     *
+     * @return  PEM encoded private key (PKCS#8) and certificate
+     *
+     * @throws IOException  If the certificate could not be created
+     */
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        Objects.requireNonNull(sbj);
+
+        KeyPair keyPair = generateKeyPair(KEY_SIZE);
+        byte[] publicKeyInfo = keyPair.getPublic().getEncoded();
+        long start = System.nanoTime();
+        X509Certificate issuer = certificate(caCert);
+        Instant now = Instant.now();
+
+        byte[] cert = certificate(issuer.getSubjectX500Principal().getEncoded(), name(sbj), publicKeyInfo, now, now.plus(days, ChronoUnit.DAYS),
+                extensions(publicKeyInfo, sbj, issuer), privateKey(caKey));
+        record(issuanceTimer, start);
+        LOGGER.debug("Generated certificate for subject {}", sbj);
+
+        return new CertAndKey(privateKeyPem(keyPair.getPrivate()), cert);
+    }
+
+    /**
+     * Adds the certificate to the PKCS#12 truststore
+     *
+     * @param cert          PEM or DER encoded certificate
+     * @param alias         Alias of the certificate in the truststore
+     * @param trustStore    Existing truststore or null to create a new one
+     * @param password      Password of the truststore
+     *
+     * @return  Updated truststore
+     *
+     * @throws IOException  If the truststore could not be read or written
+     * @throws CertificateException If the certificate could not be read
+     * @throws KeyStoreException If the truststore could not be updated
+     * @throws NoSuchAlgorithmException If the truststore algorithms are not supported
+     */
+    public byte[] addCertToTrustStore(byte[] cert, String alias, byte[] trustStore, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(password);
+
+        KeyStore store = loadPkcs12(trustStore, password);
+        store.setEntry(alias, new KeyStore.TrustedCertificateEntry(certificate(cert)), null);
+        return storePkcs12(store, password);
+    }
+
+    /**
+     * Removes the entries from the PKCS#12 truststore
+     *
+     * @param aliases       Aliases of the entries which should be removed
+     * @param trustStore    Existing truststore
+     * @param password      Password of the truststore
+     *
+     * @return  Updated truststore
+     *
+     * @throws IOException  If the truststore could not be read or written
+     * @throws CertificateException If the certificates in the truststore could not be read
+     * @throws KeyStoreException If the truststore could not be updated
+     * @throws NoSuchAlgorithmException If the truststore algorithms are not supported
+     */
+    public byte[] deleteFromTrustStore(List<String> aliases, byte[] trustStore, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStore);
+        Objects.requireNonNull(password);
+
+        KeyStore store = loadPkcs12(trustStore, password);
+        for (String alias : aliases) {
+            store.deleteEntry(alias);
+        }
+        return storePkcs12(store, password);
+    }
+
+    /**
+     * Creates a PKCS#12 keystore with the private key and the certificate
+     *
+     * @param key       PEM encoded private key
+     * @param cert      PEM or DER encoded certificate
+     * @param alias     Alias of the key and certificate in the keystore
+     * @param password  Password of the keystore
+     *
+     * @return  The keystore
+     *
+     * @throws IOException  If the key, the certificate or the keystore could not be read or written
+     */
+    public byte[] keyStore(byte[] key, byte[] cert, String alias, String password) throws IOException {
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(password);
+
+        try {
+            KeyStore store = loadPkcs12(null, password);
+            store.setKeyEntry(alias, privateKey(key), password.toCharArray(), new Certificate[] {certificate(cert)});
+            return storePkcs12(store, password);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore", e);
+        }
+    }
+
+    ////////////////////
+    // Helpers
+    ////////////////////
+
+    private static void checkValidity(Instant notBefore, Instant notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private static void checkCa(Subject subject, Instant notBefore, Instant notAfter, int pathLength) {
+        Objects.requireNonNull(subject);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.subjectAltNames() != null && !subject.subjectAltNames().isEmpty()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+    }
+
+    private BigInteger serialNumber() {
+        // Same as the rand_serial option of openssl: a positive 159 bit number
+        return new BigInteger(159, random).setBit(0);
+    }
+
+    private byte[] certificate(byte[] issuer, byte[] subject, byte[] publicKeyInfo, Instant notBefore, Instant notAfter,
+                               List<byte[]> extensions, PrivateKey signingKey) throws IOException {
+        byte[] tbsCertificate = Der.sequence(
+                Der.explicit(0, Der.integer(2)),
+                Der.integer(serialNumber()),
+                signatureAlgorithm(signingKey, "SHA512"),
+                issuer,
+                Der.sequence(Der.time(notBefore), Der.time(notAfter)),
+                subject,
+                publicKeyInfo,
+                Der.explicit(3, Der.sequence(extensions)));
+
+        return pem(CERTIFICATE, sign(tbsCertificate, signingKey, "SHA512"));
+    }
+
+    private static List<byte[]> caExtensions(byte[] publicKeyInfo, int pathLength, X509Certificate issuer) throws IOException {
+        List<byte[]> extensions = new ArrayList<>(4);
+        extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(publicKeyInfo))));
+        addAuthorityKeyIdentifier(extensions, issuer);
+        extensions.add(extension(OID_BASIC_CONSTRAINTS, true, Der.sequence(Der.bool(true), Der.integer(pathLength))));
+        extensions.add(extension(OID_KEY_USAGE, true, CA_KEY_USAGE));
+        return extensions;
+    }
+
+    private static List<byte[]> extensions(byte[] publicKeyInfo, Subject sbj, X509Certificate issuer) throws IOException {
+        List<byte[]> extensions = new ArrayList<>(5);
+        extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(publicKeyInfo))));
+        addAuthorityKeyIdentifier(extensions, issuer);
+        extensions.add(extension(OID_BASIC_CONSTRAINTS, true, Der.sequence()));
+        extensions.add(extension(OID_KEY_USAGE, true, KEY_USAGE));
+        if (sbj.subjectAltNames() != null && !sbj.subjectAltNames().isEmpty()) {
+            extensions.add(extension(OID_SUBJECT_ALT_NAME, false, subjectAltNames(sbj)));
+        }
+        return extensions;
+    }
+
+    /**
+     * The authority key identifier is copied from the subject key identifier of the issuer. It is not added when the
+     * issuer does not have one (for example for CA certificates provided by the user).
+     */
+    private static void addAuthorityKeyIdentifier(List<byte[]> extensions, X509Certificate issuer) throws IOException {
+        byte[] issuerKeyIdentifier = issuer != null ? issuer.getExtensionValue(OID_SUBJECT_KEY_IDENTIFIER) : null;
+        if (issuerKeyIdentifier != null) {
+            // The extension value is an OCTET STRING containing the DER encoded OCTET STRING with the identifier
+            byte[] keyIdentifier = Der.parse(Der.parse(issuerKeyIdentifier).content()).content();
+            extensions.add(extension(OID_AUTHORITY_KEY_IDENTIFIER, false, Der.sequence(Der.implicit(0, keyIdentifier))));
+        }
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        if (critical) {
+            return Der.sequence(Der.oid(oid), Der.bool(true), Der.octetString(value));
+        } else {
+            return Der.sequence(Der.oid(oid), Der.octetString(value));
+        }
+    }
+
+    /**
+     * @return  SHA-1 hash of the public key, same as the "hash" subject key identifier of openssl
+     */
+    private static byte[] keyIdentifier(byte[] publicKeyInfo) throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(Der.parse(publicKeyInfo).child(1).bitStringValue());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    /**
+     * Encodes the subject as a distinguished name with the same attributes and order as {@link Subject#toString()}
+     */
+    /* test */ static byte[] name(Subject subject) {
+        List<byte[]> rdns = new ArrayList<>(2);
+        if (subject.organizationName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(OID_ORGANIZATION_NAME), Der.utf8String(subject.organizationName()))));
+        }
+        if (subject.commonName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(OID_COMMON_NAME), Der.utf8String(subject.commonName()))));
+        }
+        return Der.sequence(rdns);
+    }
+
+    /**
+     * Encodes the subject alternative names. The keys of the map have the same format as in the openssl
+     * configuration file (for example {@code DNS.1} or {@code IP.2}).
+     */
+    private static byte[] subjectAltNames(Subject sbj) throws IOException {
+        List<byte[]> names = new ArrayList<>(sbj.subjectAltNames().size());
+
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey().contains(".") ? entry.getKey().substring(0, entry.getKey().indexOf('.')) : entry.getKey();
+            String value = entry.getValue();
+
+            switch (type) {
+                case "DNS":
+                    names.add(Der.implicit(2, value.getBytes(StandardCharsets.US_ASCII)));
+                    break;
+                case "IP":
+                    if (!value.matches("[0-9.]+|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*")) {
+                        throw new IllegalArgumentException("Invalid IP address " + value);
+                    }
+                    names.add(Der.implicit(7, InetAddress.getByName(value).getAddress()));
+                    break;
+                case "email":
+                    names.add(Der.implicit(1, value.getBytes(StandardCharsets.US_ASCII)));
+                    break;
+                case "URI":
+                    names.add(Der.implicit(6, value.getBytes(StandardCharsets.US_ASCII)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported subject alternative name type " + type);
+            }
+        }
+
+        return Der.sequence(names);
+    }
+
+    private static byte[] signatureAlgorithm(PrivateKey key, String digest) {
+        switch (key.getAlgorithm()) {
+            case "RSA":
+                for (Map.Entry<String, String> algorithm : SIGNATURE_ALGORITHMS.entrySet()) {
+                    if (algorithm.getValue().equals(digest + "withRSA")) {
+                        return Der.sequence(Der.oid(algorithm.getKey()), Der.nullValue());
+                    }
+                }
+                break;
+            case "EC":
+                for (Map.Entry<String, String> algorithm : SIGNATURE_ALGORITHMS.entrySet()) {
+                    if (algorithm.getValue().equals(digest + "withECDSA")) {
+                        return Der.sequence(Der.oid(algorithm.getKey()));
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+
+        throw new IllegalArgumentException("Unsupported key algorithm " + key.getAlgorithm());
+    }
+
+    /**
+     * Signs the data and returns the signed structure shared by certificates and certificate signing requests:
+     * a sequence of the data, the signature algorithm and the signature.
+     */
+    private static byte[] sign(byte[] data, PrivateKey key, String digest) throws IOException {
+        String algorithm = digest + "with" + ("EC".equals(key.getAlgorithm()) ? "ECDSA" : key.getAlgorithm());
+
+        try {
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initSign(key);
+            signature.update(data);
+            return Der.sequence(data, signatureAlgorithm(key, digest), Der.bitString(signature.sign()));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to sign using " + algorithm, e);
+        }
+    }
+
+    private static boolean verify(byte[] data, String algorithmOid, byte[] signatureValue, byte[] publicKeyInfo) throws IOException {
+        String algorithm = SIGNATURE_ALGORITHMS.get(algorithmOid);
+        if (algorithm == null) {
+            throw new IOException("Unsupported signature algorithm " + algorithmOid);
+        }
+
+        try {
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initVerify(publicKey(publicKeyInfo));
+            signature.update(data);
+            return signature.verify(signatureValue);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to verify the signature", e);
+        }
+    }
+
+    private static String keyAlgorithm(String oid) throws IOException {
+        switch (oid) {
+            case OID_RSA:
+                return "RSA";
+            case OID_EC:
+                return "EC";
+            default:
+                throw new IOException("Unsupported key algorithm " + oid);
+        }
+    }
+
+    private static PublicKey publicKey(byte[] publicKeyInfo) throws IOException {
+        try {
+            String algorithm = keyAlgorithm(Der.parse(publicKeyInfo).child(0).child(0).oidValue());
+            return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(publicKeyInfo));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to read the public key", e);
+        }
+    }
+
+    /**
+     * Reads the PEM encoded private key
+     *
+     * @param key   Private key in PKCS#8, PKCS#1 (RSA) or SEC1 (EC) format
+     *
+     * @return  The private key
+     *
+     * @throws IOException  If the key could not be read
+     */
+    static PrivateKey privateKey(byte[] key) throws IOException {
+        Objects.requireNonNull(key);
+
+        Matcher matcher = PEM.matcher(new String(key, StandardCharsets.US_ASCII));
+        if (!matcher.find()) {
+            throw new IOException("The private key is not PEM encoded");
+        }
+
+        byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+        byte[] pkcs8;
+        switch (matcher.group(1)) {
+            case PRIVATE_KEY:
+                pkcs8 = der;
+                break;
+            case RSA_PRIVATE_KEY:
+                pkcs8 = Der.sequence(Der.integer(0), Der.sequence(Der.oid(OID_RSA), Der.nullValue()), Der.octetString(der));
+                break;
+            case EC_PRIVATE_KEY:
+                // The named curve is in the [0] parameters of the SEC1 structure
+                String curve = null;
+                for (Der.Element element : Der.parse(der).children()) {
+                    if (element.tag() == 0xa0) {
+                        curve = element.child(0).oidValue();
+                    }
+                }
+                if (curve == null) {
+                    throw new IOException("The EC private key does not specify the named curve");
+                }
+                pkcs8 = Der.sequence(Der.integer(0), Der.sequence(Der.oid(OID_EC), Der.oid(curve)), Der.octetString(der));
+                break;
+            default:
+                throw new IOException("Unsupported private key type " + matcher.group(1));
+        }
+
+        try {
+            String algorithm = keyAlgorithm(Der.parse(pkcs8).child(1).child(0).oidValue());
+            return KeyFactory.getInstance(algorithm).generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to read the private key", e);
+        }
+    }
+
+    static X509Certificate certificate(byte[] cert) throws IOException {
+        Objects.requireNonNull(cert);
+
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(cert));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the certificate", e);
+        }
+    }
+
+    private static byte[] pemContent(byte[] pem, String type) throws IOException {
+        Matcher matcher = PEM.matcher(new String(pem, StandardCharsets.US_ASCII));
+        while (matcher.find()) {
+            if (type.equals(matcher.group(1))) {
+                return Base64.getMimeDecoder().decode(matcher.group(2));
+            }
+        }
+
+        throw new IOException("No PEM encoded " + type + " found");
+    }
+
+    private static byte[] pem(String type, byte[] der) {
+        return ("-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] privateKeyPem(PrivateKey key) {
+        return pem(PRIVATE_KEY, key.getEncoded());
+    }
+
+    private static KeyStore loadPkcs12(byte[] store, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(store != null ? new ByteArrayInputStream(store) : null, password.toCharArray());
+        return keyStore;
+    }
+
+    private static byte[] storePkcs12(KeyStore store, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.store(out, password.toCharArray());
+        return out.toByteArray();
+    }
+}
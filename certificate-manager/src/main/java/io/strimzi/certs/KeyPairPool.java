@@ -0,0 +1,176 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Bounded pool of RSA key pairs generated in advance. The key pairs are generated by low priority background threads
+ * which keep the pool full, so they use mainly the CPU time which is not needed by the rest of the operator. When the
+ * pool is empty, for example after many certificates were issued at once, the key pair is generated in the calling
+ * thread instead of waiting for the background threads.
+ */
+public class KeyPairPool implements MeterBinder, AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+
+    /**
+     * Default number of key pairs kept in the pool
+     */
+    public static final int DEFAULT_CAPACITY = 8;
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final int keySize;
+    private final BlockingQueue<KeyPair> keyPairs;
+    private final Supplier<KeyPair> generator;
+    private final ExecutorService executor;
+    private final LongAdder generatedOnDemand = new LongAdder();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates the pool and starts the background generation of the key pairs
+     *
+     * @param keySize   Size of the RSA keys
+     * @param capacity  Maximal number of key pairs kept in the pool
+     * @param threads   Number of the background threads generating the key pairs
+     */
+    public KeyPairPool(int keySize, int capacity, int threads) {
+        this(keySize, capacity, threads, rsaGenerator(keySize));
+    }
+
+    /*test*/ KeyPairPool(int keySize, int capacity, int threads, Supplier<KeyPair> generator) {
+        if (capacity < 1 || threads < 1) {
+            throw new IllegalArgumentException("The capacity and the number of threads of the key pair pool have to be positive");
+        }
+
+        this.keySize = keySize;
+        this.keyPairs = new ArrayBlockingQueue<>(capacity);
+        this.generator = generator;
+
+        int poolNumber = POOL_NUMBER.incrementAndGet();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "key-pair-pool-" + poolNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        for (int i = 0; i < threads; i++) {
+            executor.execute(this::fill);
+        }
+    }
+
+    private static Supplier<KeyPair> rsaGenerator(int keySize) {
+        SecureRandom random = new SecureRandom();
+
+        return () -> {
+            try {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(keySize, random);
+                return generator.generateKeyPair();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("RSA key pair generator is not available", e);
+            }
+        };
+    }
+
+    /**
+     * Generates the key pairs until the pool is closed. It blocks while the pool is full.
+     */
+    private void fill() {
+        try {
+            while (!closed) {
+                keyPairs.put(generator.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to generate key pair in advance, the key pairs will be generated on demand", e);
+        }
+    }
+
+    /**
+     * Takes a key pair from the pool. When the pool is empty, the key pair is generated in the calling thread.
+     *
+     * @return  New key pair which was not returned before
+     */
+    public KeyPair take() {
+        KeyPair keyPair = keyPairs.poll();
+
+        if (keyPair == null) {
+            generatedOnDemand.increment();
+            keyPair = generator.get();
+        }
+
+        return keyPair;
+    }
+
+    /**
+     * @return  Size of the RSA keys in the pool
+     */
+    public int keySize() {
+        return keySize;
+    }
+
+    /**
+     * @return  Number of key pairs currently available in the pool
+     */
+    public int available() {
+        return keyPairs.size();
+    }
+
+    /**
+     * @return  Number of key pairs which were generated in the calling thread because the pool was empty
+     */
+    public long generatedOnDemand() {
+        return generatedOnDemand.sum();
+    }
+
+    /**
+     * Registers the gauge with the number of available key pairs and the counter of key pairs generated on demand
+     *
+     * @param registry  Meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("strimzi.certificate.key.pairs.available", this, KeyPairPool::available)
+                .description("Number of key pairs generated in advance which are available for new certificates")
+                .tag("key-size", String.valueOf(keySize))
+                .register(registry);
+
+        FunctionCounter.builder("strimzi.certificate.key.pairs.generated.on.demand", this, KeyPairPool::generatedOnDemand)
+                .description("Number of key pairs which were not available in the pool and had to be generated on demand")
+                .tag("key-size", String.valueOf(keySize))
+                .register(registry);
+    }
+
+    /**
+     * Stops the background generation and drops the key pairs from the pool
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        keyPairs.clear();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyPairPoolTest {
+    private static final KeyPair KEY_PAIR;
+
+    static {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(1024);
+            KEY_PAIR = generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void testPoolIsFilledInBackground() throws InterruptedException {
+        AtomicInteger generated = new AtomicInteger();
+
+        try (KeyPairPool pool = new KeyPairPool(1024, 3, 2, () -> {
+            generated.incrementAndGet();
+            return KEY_PAIR;
+        })) {
+            waitForAvailable(pool, 3);
+
+            assertThat(pool.take(), is(sameInstance(KEY_PAIR)));
+            assertThat(pool.generatedOnDemand(), is(0L));
+
+            // The taken key pair is replaced
+            waitForAvailable(pool, 3);
+            assertThat(generated.get() >= 4, is(true));
+        }
+    }
+
+    @Test
+    public void testKeyPairIsGeneratedOnDemandWhenPoolIsEmpty() throws InterruptedException {
+        CountDownLatch background = new CountDownLatch(1);
+
+        try (KeyPairPool pool = new KeyPairPool(1024, 2, 1, () -> {
+            if (Thread.currentThread().getName().startsWith("key-pair-pool-")) {
+                try {
+                    // Blocks the background generation until the pool is closed
+                    background.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return KEY_PAIR;
+        })) {
+            assertThat(pool.available(), is(0));
+            assertThat(pool.take(), is(sameInstance(KEY_PAIR)));
+            assertThat(pool.take(), is(sameInstance(KEY_PAIR)));
+            assertThat(pool.generatedOnDemand(), is(2L));
+        } finally {
+            background.countDown();
+        }
+    }
+
+    @Test
+    public void testMetrics() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        try (KeyPairPool pool = new KeyPairPool(1024, 2, 1, () -> KEY_PAIR)) {
+            pool.bindTo(registry);
+            waitForAvailable(pool, 2);
+
+            assertThat(registry.get("strimzi.certificate.key.pairs.available").tag("key-size", "1024").gauge().value(), is(2.0));
+            assertThat(registry.get("strimzi.certificate.key.pairs.generated.on.demand").functionCounter().count(), is(0.0));
+        }
+    }
+
+    @Test
+    public void testRsaKeyPairs() throws InterruptedException {
+        try (KeyPairPool pool = new KeyPairPool(1024, 2, 1)) {
+            waitForAvailable(pool, 2);
+
+            KeyPair first = pool.take();
+            KeyPair second = pool.take();
+            assertThat(((RSAPublicKey) first.getPublic()).getModulus().bitLength(), is(1024));
+            assertThat(first.getPublic(), is(not(second.getPublic())));
+        }
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(1024, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(1024, 1, 0));
+    }
+
+    private static void waitForAvailable(KeyPairPool pool, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (pool.available() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for " + expected + " key pairs in the pool");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates a Kafka configuration with 200 known broker options against the config model of the default Kafka
+ * version. Each option is set to a value which is valid for its type, so the benchmark measures the validation
+ * without the cost of building error messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class KafkaConfigurationBenchmark {
+    private static final int PROPERTIES = 200;
+
+    private KafkaVersion kafkaVersion;
+    private KafkaConfiguration configuration;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+        Map<String, String> options = new HashMap<>();
+        Iterator<Map.Entry<String, ConfigModel>> models = KafkaConfiguration.readConfigModel(kafkaVersion).entrySet().iterator();
+        while (options.size() < PROPERTIES && models.hasNext()) {
+            Map.Entry<String, ConfigModel> model = models.next();
+            String value = validValue(model.getValue());
+            if (value != null) {
+                options.put(model.getKey(), value);
+            }
+        }
+
+        configuration = KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, options);
+    }
+
+    private static String validValue(ConfigModel model) {
+        switch (model.getType()) {
+            case BOOLEAN:
+                return "true";
+            case INT:
+            case LONG:
+            case SHORT:
+            case DOUBLE:
+                return model.getMinimum() != null ? model.getMinimum().toString() : "1";
+            case STRING:
+                if (model.getValues() != null && !model.getValues().isEmpty()) {
+                    return model.getValues().get(0);
+                }
+                // Values matching the patterns would have to be generated, so these options are skipped
+                return model.getPattern() == null ? "value" : null;
+            case LIST:
+                return model.getItems() != null && !model.getItems().isEmpty() ? model.getItems().get(0) : "a,b";
+            default:
+                return "value";
+        }
+    }
+
+    @Benchmark
+    public List<String> validate() {
+        return configuration.validate(kafkaVersion);
+    }
+}
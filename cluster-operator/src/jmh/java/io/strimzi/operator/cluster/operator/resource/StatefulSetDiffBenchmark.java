@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares the {@link StatefulSetDiff} with a plain JsonDiff of the same Kafka StatefulSets. The current StatefulSet
+ * is the desired one with the fields which are set by Kubernetes (status, revision history limit and generation
+ * annotation), so the diff is empty when {@code change} is {@code none}. Otherwise the Kafka image is changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class StatefulSetDiffBenchmark {
+    @Param({"none", "image"})
+    public String change;
+
+    private StatefulSet current;
+    private StatefulSet desired;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Kafka kafka = ResourceUtils.createKafka("my-namespace", "my-cluster", 3, "strimzi/kafka:latest", 120, 30);
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, KafkaVersionTestUtils.getKafkaVersionLookup());
+        desired = kafkaCluster.generateStatefulSet(false, null, null);
+
+        current = new StatefulSetBuilder(desired)
+                .editSpec()
+                    .withRevisionHistoryLimit(10)
+                    .editTemplate()
+                        .editMetadata()
+                            .addToAnnotations("strimzi.io/generation", "3")
+                        .endMetadata()
+                    .endTemplate()
+                .endSpec()
+                .withNewStatus()
+                    .withReplicas(3)
+                    .withReadyReplicas(3)
+                    .withCurrentReplicas(3)
+                    .withUpdatedReplicas(3)
+                .endStatus()
+                .build();
+
+        if ("image".equals(change)) {
+            desired = new StatefulSetBuilder(desired)
+                    .editSpec()
+                        .editTemplate()
+                            .editSpec()
+                                .editFirstContainer()
+                                    .withImage("strimzi/kafka:other")
+                                .endContainer()
+                            .endSpec()
+                        .endTemplate()
+                    .endSpec()
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public boolean statefulSetDiff() {
+        return new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, current, desired).isEmpty();
+    }
+
+    @Benchmark
+    public int jsonDiff() {
+        return JsonDiff.asJson(patchMapper().valueToTree(current), patchMapper().valueToTree(desired)).size();
+    }
+}
@@ -16,6 +16,8 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOpera
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Operator;
+import io.strimzi.operator.common.PeriodicReconciliationScheduler;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -57,6 +59,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final ClusterOperatorConfig config;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
+    private final List<PeriodicReconciliationScheduler> periodicReconciliationSchedulers = new ArrayList<>();
 
     private long reconcileTimer;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
@@ -121,6 +124,16 @@ public class ClusterOperator extends AbstractVerticle {
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
                     LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
+                    if (config.featureGates().spreadPeriodicReconciliationEnabled()) {
+                        List<Operator> periodicOperators = new ArrayList<>(operators);
+                        periodicOperators.add(kafkaRebalanceAssemblyOperator);
+
+                        for (Operator operator : periodicOperators) {
+                            periodicReconciliationSchedulers.add(new PeriodicReconciliationScheduler(vertx, operator,
+                                    config.getReconciliationIntervalMs(), config.getOperationsThreadPoolSize(), metricsProvider));
+                        }
+                    }
+
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         LOGGER.info("Triggering periodic reconciliation for namespace {}...", namespace);
                         reconcileAll("timer");
@@ -135,6 +148,9 @@ public class ClusterOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        for (PeriodicReconciliationScheduler scheduler : periodicReconciliationSchedulers) {
+            scheduler.cancel();
+        }
         for (Watch watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
@@ -149,6 +165,14 @@ public class ClusterOperator extends AbstractVerticle {
       Periodical reconciliation (in case we lost some event)
      */
     private void reconcileAll(String trigger) {
+        if (!periodicReconciliationSchedulers.isEmpty()) {
+            // The reconciliations are spread across the reconciliation interval
+            for (PeriodicReconciliationScheduler scheduler : periodicReconciliationSchedulers) {
+                scheduler.reconcileAll(trigger, namespace);
+            }
+            return;
+        }
+
         Handler<AsyncResult<Void>> ignore = ignored -> { };
         kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
         kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
@@ -47,6 +48,9 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
     public static final String STRIMZI_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE = "STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE";
+    public static final String STRIMZI_KEY_PAIR_POOL_SIZE = "STRIMZI_KEY_PAIR_POOL_SIZE";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -75,6 +79,9 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
     public static final int DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = 0;
+    public static final int DEFAULT_STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE = 1;
+    public static final int DEFAULT_STRIMZI_KEY_PAIR_POOL_SIZE = KeyPairPool.DEFAULT_CAPACITY;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -90,6 +97,9 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final int maxConcurrentReconciliations;
+    private final int kafkaRollingUpdateMaxBatchSize;
+    private final int keyPairPoolSize;
 
     /**
      * Constructor
@@ -108,6 +118,9 @@ public class ClusterOperatorConfig {
      * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
+     * @param maxConcurrentReconciliations Maximal number of reconciliations of each kind running in parallel (0 runs them without the work queue)
+     * @param kafkaRollingUpdateMaxBatchSize Maximal number of Kafka brokers restarted at the same time during rolling updates
+     * @param keyPairPoolSize Number of key pairs generated in advance by the in-process certificate manager (0 disables the pool)
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -124,7 +137,10 @@ public class ClusterOperatorConfig {
             RbacScope rbacScope,
             Labels customResourceSelector,
             String featureGates,
-            int operationsThreadPoolSize) {
+            int operationsThreadPoolSize,
+            int maxConcurrentReconciliations,
+            int kafkaRollingUpdateMaxBatchSize,
+            int keyPairPoolSize) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -139,6 +155,9 @@ public class ClusterOperatorConfig {
         this.customResourceSelector = customResourceSelector;
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.kafkaRollingUpdateMaxBatchSize = kafkaRollingUpdateMaxBatchSize;
+        this.keyPairPoolSize = keyPairPoolSize;
     }
 
     /**
@@ -187,6 +206,9 @@ public class ClusterOperatorConfig {
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
+        int maxConcurrentReconciliations = parseInt(map.get(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS), DEFAULT_STRIMZI_MAX_CONCURRENT_RECONCILIATIONS);
+        int kafkaRollingUpdateMaxBatchSize = parseInt(map.get(STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE), DEFAULT_STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE);
+        int keyPairPoolSize = parseInt(map.get(STRIMZI_KEY_PAIR_POOL_SIZE), DEFAULT_STRIMZI_KEY_PAIR_POOL_SIZE);
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -202,7 +224,10 @@ public class ClusterOperatorConfig {
                 rbacScope,
                 customResourceSelector,
                 featureGates,
-                operationsThreadPoolSize);
+                operationsThreadPoolSize,
+                maxConcurrentReconciliations,
+                kafkaRollingUpdateMaxBatchSize,
+                keyPairPoolSize);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -485,6 +510,30 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return Maximal number of reconciliations of each kind running in parallel. 0 when the reconciliations are not
+     * queued in the work queue.
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers which are restarted at the same time during rolling updates. 1 when the
+     * brokers are restarted one by one.
+     */
+    public int getKafkaRollingUpdateMaxBatchSize() {
+        return kafkaRollingUpdateMaxBatchSize;
+    }
+
+    /**
+     * @return Number of key pairs which the in-process certificate manager generates in advance. 0 when the key pairs
+     * are generated on demand.
+     */
+    public int getKeyPairPoolSize() {
+        return keyPairPoolSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -501,6 +550,9 @@ public class ClusterOperatorConfig {
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",kafkaRollingUpdateMaxBatchSize=" + kafkaRollingUpdateMaxBatchSize +
+                ",keyPairPoolSize=" + keyPairPoolSize +
                 ")";
     }
 }
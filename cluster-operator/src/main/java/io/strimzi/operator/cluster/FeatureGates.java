@@ -18,10 +18,22 @@ public class FeatureGates {
 
     private static final String CONTROL_PLANE_LISTENER = "ControlPlaneListener";
     private static final String SERVICE_ACCOUNT_PATCHING = "ServiceAccountPatching";
+    private static final String SHARED_RESOURCE_CACHE = "SharedResourceCache";
+    private static final String SPREAD_PERIODIC_RECONCILIATION = "SpreadPeriodicReconciliation";
+    private static final String RECONCILIATION_FAST_PATH = "ReconciliationFastPath";
+    private static final String PARALLEL_KAFKA_RECONCILIATION = "ParallelKafkaReconciliation";
+    private static final String POOLED_ADMIN_CLIENTS = "PooledAdminClients";
+    private static final String IN_PROCESS_CERT_MANAGER = "InProcessCertManager";
 
     // When adding new feature gates, do not forget to add them to allFeatureGates() and toString() methods
     private final FeatureGate controlPlaneListener = new FeatureGate(CONTROL_PLANE_LISTENER, false);
     private final FeatureGate serviceAccountPatching = new FeatureGate(SERVICE_ACCOUNT_PATCHING, false);
+    private final FeatureGate sharedResourceCache = new FeatureGate(SHARED_RESOURCE_CACHE, false);
+    private final FeatureGate spreadPeriodicReconciliation = new FeatureGate(SPREAD_PERIODIC_RECONCILIATION, false);
+    private final FeatureGate reconciliationFastPath = new FeatureGate(RECONCILIATION_FAST_PATH, false);
+    private final FeatureGate parallelKafkaReconciliation = new FeatureGate(PARALLEL_KAFKA_RECONCILIATION, false);
+    private final FeatureGate pooledAdminClients = new FeatureGate(POOLED_ADMIN_CLIENTS, false);
+    private final FeatureGate inProcessCertManager = new FeatureGate(IN_PROCESS_CERT_MANAGER, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -49,6 +61,24 @@ public class FeatureGates {
                     case SERVICE_ACCOUNT_PATCHING:
                         setValueOnlyOnce(serviceAccountPatching, value);
                         break;
+                    case SHARED_RESOURCE_CACHE:
+                        setValueOnlyOnce(sharedResourceCache, value);
+                        break;
+                    case SPREAD_PERIODIC_RECONCILIATION:
+                        setValueOnlyOnce(spreadPeriodicReconciliation, value);
+                        break;
+                    case RECONCILIATION_FAST_PATH:
+                        setValueOnlyOnce(reconciliationFastPath, value);
+                        break;
+                    case PARALLEL_KAFKA_RECONCILIATION:
+                        setValueOnlyOnce(parallelKafkaReconciliation, value);
+                        break;
+                    case POOLED_ADMIN_CLIENTS:
+                        setValueOnlyOnce(pooledAdminClients, value);
+                        break;
+                    case IN_PROCESS_CERT_MANAGER:
+                        setValueOnlyOnce(inProcessCertManager, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -85,6 +115,48 @@ public class FeatureGates {
         return serviceAccountPatching.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the SharedResourceCache feature gate is enabled
+     */
+    public boolean sharedResourceCacheEnabled() {
+        return sharedResourceCache.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the SpreadPeriodicReconciliation feature gate is enabled
+     */
+    public boolean spreadPeriodicReconciliationEnabled() {
+        return spreadPeriodicReconciliation.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the ReconciliationFastPath feature gate is enabled
+     */
+    public boolean reconciliationFastPathEnabled() {
+        return reconciliationFastPath.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the ParallelKafkaReconciliation feature gate is enabled
+     */
+    public boolean parallelKafkaReconciliationEnabled() {
+        return parallelKafkaReconciliation.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the PooledAdminClients feature gate is enabled
+     */
+    public boolean pooledAdminClientsEnabled() {
+        return pooledAdminClients.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the InProcessCertManager feature gate is enabled
+     */
+    public boolean inProcessCertManagerEnabled() {
+        return inProcessCertManager.isEnabled();
+    }
+
     /**
      * Returns a list of all Feature gates. Used for testing.
      *
@@ -93,7 +165,13 @@ public class FeatureGates {
     /*test*/ List<FeatureGate> allFeatureGates()  {
         return List.of(
                 controlPlaneListener,
-                serviceAccountPatching
+                serviceAccountPatching,
+                sharedResourceCache,
+                spreadPeriodicReconciliation,
+                reconciliationFastPath,
+                parallelKafkaReconciliation,
+                pooledAdminClients,
+                inProcessCertManager
         );
     }
 
@@ -101,7 +179,13 @@ public class FeatureGates {
     public String toString() {
         return "FeatureGates(" +
                 "controlPlaneListener=" + controlPlaneListener.isEnabled() + "," +
-                "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() +
+                "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() + "," +
+                "SharedResourceCache=" + sharedResourceCache.isEnabled() + "," +
+                "SpreadPeriodicReconciliation=" + spreadPeriodicReconciliation.isEnabled() + "," +
+                "ReconciliationFastPath=" + reconciliationFastPath.isEnabled() + "," +
+                "ParallelKafkaReconciliation=" + parallelKafkaReconciliation.isEnabled() + "," +
+                "PooledAdminClients=" + pooledAdminClients.isEnabled() + "," +
+                "InProcessCertManager=" + inProcessCertManager.isEnabled() +
                 ")";
     }
 
@@ -8,7 +8,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JcaCertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
@@ -19,6 +22,8 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -37,11 +42,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -49,6 +56,9 @@ import org.apache.logging.log4j.Logger;
 public class Main {
     private static final Logger LOGGER = LogManager.getLogger(Main.class.getName());
 
+    private static final long RECONCILIATION_RETRY_BACKOFF_MS = 5_000L;
+    private static final int RECONCILIATION_RETRY_ATTEMPTS = 6;
+
     static {
         try {
             Crds.registerCustomKinds();
@@ -104,7 +114,7 @@ public class Main {
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.featureGates(), config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.featureGates().inProcessCertManagerEnabled() ? inProcessCertManager(config.getKeyPairPoolSize()) : new OpenSslCertManager();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -135,10 +145,32 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
+        if (config.getMaxConcurrentReconciliations() > 0) {
+            List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(List.of(kafkaClusterOperations, kafkaConnectClusterOperations,
+                    kafkaMirrorMaker2AssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator));
+            if (kafkaConnectS2IClusterOperations != null) {
+                operators.add(kafkaConnectS2IClusterOperations);
+            }
+
+            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                operator.useWorkQueue(config.getMaxConcurrentReconciliations(), () -> new BackOff(RECONCILIATION_RETRY_BACKOFF_MS, 2, RECONCILIATION_RETRY_ATTEMPTS));
+            }
+        }
+
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
+
+            Future<Void> caches;
+            if (config.featureGates().sharedResourceCacheEnabled()) {
+                // The caches use the shared worker pool, so it needs to be configured before they are synced
+                vertx.createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+                caches = resourceOperatorSupplier.enableCaches(namespace);
+            } else {
+                caches = Future.succeededFuture();
+            }
+
             ClusterOperator operator = new ClusterOperator(namespace,
                     config,
                     client,
@@ -150,20 +182,42 @@ public class Main {
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
                     resourceOperatorSupplier.metricsProvider);
-            vertx.deployVerticle(operator,
-                res -> {
-                    if (res.succeeded()) {
-                        LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
-                    } else {
-                        LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
-                        System.exit(1);
-                    }
-                    prom.handle(res);
-                });
+            caches.compose(ignore -> {
+                Promise<String> deployment = Promise.promise();
+                vertx.deployVerticle(operator, deployment);
+                return deployment.future();
+            }).onComplete(res -> {
+                if (res.succeeded()) {
+                    LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
+                } else {
+                    LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
+                    System.exit(1);
+                }
+                prom.handle(res);
+            });
         }
         return CompositeFuture.join(futures);
     }
 
+    /**
+     * Creates the in-process certificate manager. With a key pair pool, the key pairs are generated in advance and the
+     * certificates for the replicas of a cluster are generated in parallel.
+     *
+     * @param keyPairPoolSize   Number of key pairs generated in advance (0 generates them on demand)
+     *
+     * @return  Certificate manager
+     */
+    private static CertManager inProcessCertManager(int keyPairPoolSize) {
+        JcaCertManager certManager = keyPairPoolSize > 0 ? JcaCertManager.withKeyPairPool(keyPairPoolSize) : new JcaCertManager();
+
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        if (registry != null) {
+            certManager.bindTo(registry);
+        }
+
+        return certManager;
+    }
+
     /*test*/ static Future<Void> maybeCreateClusterRoles(Vertx vertx, ClusterOperatorConfig config, KubernetesClient client)  {
         if (config.isCreateClusterRoles()) {
             List<Future> futures = new ArrayList<>();
@@ -20,7 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -35,6 +35,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    private static final ObjectMapper CONFIG_MODEL_MAPPER = new ObjectMapper();
+    // The config models are read only once per Kafka version and shared by all reconciliations
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -102,19 +106,24 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is read from the classpath the first
+     * time it is requested and cached for the subsequent calls, so the returned map is unmodifiable.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), KafkaConfiguration::loadConfigModel);
+    }
+
+    private static Map<String, ConfigModel> loadConfigModel(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
+                ConfigModels configModels = CONFIG_MODEL_MAPPER.readValue(in, ConfigModels.class);
+                if (!version.equals(configModels.getVersion())) {
                     throw new RuntimeException("Incorrect version");
                 }
-                return configModels.getConfigs();
+                return Collections.unmodifiableMap(configModels.getConfigs());
             }
         } catch (IOException e) {
             throw new RuntimeException("Error reading from classpath resource " + name, e);
@@ -160,12 +169,13 @@ public class KafkaConfiguration extends AbstractConfiguration {
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
         Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
-        Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.retainAll(configsOfScope);
+        Set<String> result = new HashSet<>();
+        for (String key : asOrderedProperties().asMap().keySet()) {
+            ConfigModel config = c.get(key);
+            if (config != null && scope.equals(config.getScope())) {
+                result.add(key);
+            }
+        }
         return Collections.unmodifiableSet(result);
     }
 
@@ -52,6 +52,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -169,6 +170,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 metricTags);
     }
 
+    /**
+     * Creates the provider of the Kafka Connect API clients which share one long-lived HTTP client. The connections to
+     * the Connect REST APIs are kept alive and reused across the reconciliations.
+     *
+     * @param vertx             The Vertx instance
+     * @param metricsProvider   Metrics provider used for the REST API request metrics
+     * @param kind              Kind of the custom resources managed by the operator
+     *
+     * @return  Function which returns the Kafka Connect API client
+     */
+    protected static Function<Vertx, KafkaConnectApi> sharedConnectClientProvider(Vertx vertx, MetricsProvider metricsProvider, String kind) {
+        KafkaConnectHttpClient httpClient = new KafkaConnectHttpClient(vertx, metricsProvider, kind);
+        return connect -> new KafkaConnectApiImpl(connect, httpClient);
+    }
+
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
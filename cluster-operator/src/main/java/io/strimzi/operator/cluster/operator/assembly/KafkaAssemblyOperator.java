@@ -23,6 +23,10 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -73,7 +77,9 @@ import io.strimzi.operator.cluster.model.StorageDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
+import io.strimzi.operator.cluster.operator.resource.KafkaAvailabilityIndex;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
+import io.strimzi.operator.cluster.operator.resource.KafkaRollerMetrics;
 import io.strimzi.operator.cluster.operator.resource.KafkaSetOperator;
 import io.strimzi.operator.cluster.operator.resource.KafkaSpecChecker;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -133,6 +139,7 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -158,6 +165,10 @@ import static java.util.Collections.emptyMap;
 public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesClient, Kafka, KafkaList, Resource<Kafka>, KafkaSpec, KafkaStatus> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAssemblyOperator.class.getName());
 
+    // Maximal time for which reconciliations of unchanged clusters only check the readiness. Some decisions (e.g. CA
+    // renewal or maintenance time windows) depend on the current time and need the full reconciliation.
+    /* test */ static final long UNCHANGED_RECONCILIATION_MAX_AGE_MS = 3_600_000L;
+
     private final long operationTimeoutMs;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
@@ -179,6 +190,29 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
 
+    private final KafkaReconciliationDigest reconciliationDigest;
+    private final Map<String, LastReconciliation> lastReconciliations = new ConcurrentHashMap<>();
+    private final Map<String, KafkaAvailabilityIndex> availabilityIndexes = new ConcurrentHashMap<>();
+    private final int rollingUpdateMaxBatchSize;
+    private final KafkaRollerMetrics rollerMetrics;
+    private final Counter unchangedReconciliationsCounter;
+    private final Map<String, Timer> stepTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Digest and status of the last successful full reconciliation of a Kafka cluster
+     */
+    private static class LastReconciliation {
+        private final String digest;
+        private final long timestamp;
+        private final KafkaStatus status;
+
+        LastReconciliation(String digest, long timestamp, KafkaStatus status) {
+            this.digest = digest;
+            this.timestamp = timestamp;
+            this.status = status;
+        }
+    }
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -212,6 +246,13 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
+        this.rollingUpdateMaxBatchSize = config.getKafkaRollingUpdateMaxBatchSize();
+
+        this.reconciliationDigest = new KafkaReconciliationDigest(pfa, supplier);
+        this.unchangedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.unchanged",
+                "Number of reconciliations which only checked the readiness because nothing changed since the last successful reconciliation",
+                Tags.of(Tag.of("kind", Kafka.RESOURCE_KIND)));
+        this.rollerMetrics = new KafkaRollerMetrics(metrics);
     }
 
     @Override
@@ -219,7 +260,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
 
-        reconcile(reconcileState).onComplete(reconcileResult -> {
+        reconcileUnlessUnchanged(reconcileState).onComplete(reconcileResult -> {
             KafkaStatus status = reconcileState.kafkaStatus;
             Condition condition;
 
@@ -253,116 +294,191 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Runs the full reconciliation unless nothing changed since the last successful reconciliation of the cluster. In
+     * such case, only the readiness of the cluster is checked. This is used only when the ReconciliationFastPath
+     * feature gate is enabled.
+     *
+     * @param reconcileState    Reconciliation state
+     *
+     * @return  Future which completes when the reconciliation completes
+     */
+    Future<Void> reconcileUnlessUnchanged(ReconciliationState reconcileState)  {
+        if (!featureGates.reconciliationFastPathEnabled()) {
+            return reconcile(reconcileState);
+        }
+
+        Reconciliation reconciliation = reconcileState.reconciliation;
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+
+        return reconciliationDigest.compute(reconcileState.kafkaAssembly)
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to compute the reconciliation digest", error);
+                    return Future.succeededFuture(null);
+                })
+                .compose(digest -> {
+                    LastReconciliation last = lastReconciliations.remove(key);
+
+                    if (digest != null && last != null && digest.equals(last.digest)
+                            && System.currentTimeMillis() - last.timestamp < UNCHANGED_RECONCILIATION_MAX_AGE_MS) {
+                        LOGGER.debugCr(reconciliation, "Nothing changed since the last reconciliation. Only the readiness will be checked.");
+                        unchangedReconciliationsCounter.increment();
+
+                        return reconcileState.unchangedClusterReady(last.status)
+                                .map(state -> {
+                                    // Keep the time of the last full reconciliation
+                                    lastReconciliations.put(key, last);
+                                    return null;
+                                });
+                    } else {
+                        // The digest from before the reconciliation is stored. Anything which changed during the
+                        // reconciliation (including the changes done by it) triggers one more full reconciliation.
+                        return reconcile(reconcileState)
+                                .map(i -> {
+                                    if (digest != null) {
+                                        lastReconciliations.put(key, new LastReconciliation(digest, System.currentTimeMillis(), new KafkaStatusBuilder(reconcileState.kafkaStatus).build()));
+                                    }
+
+                                    return null;
+                                });
+                    }
+                });
+    }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
+        return reconciliationGraph(reconcileState).execute();
+    }
 
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.prepareVersionChange())
+    /**
+     * Builds the graph of the reconciliation steps. Each step declares the steps it depends on. When the
+     * ParallelKafkaReconciliation feature gate is enabled, steps which do not depend on each other run concurrently.
+     * Otherwise, the steps run one after another in the order in which they are added.
+     *
+     * @param state     Reconciliation state
+     *
+     * @return  Graph with the reconciliation steps
+     */
+    /* test */ ReconciliationGraph reconciliationGraph(ReconciliationState state) {
+        return new ReconciliationGraph(state.reconciliation, featureGates.parallelKafkaReconciliationEnabled(), this::stepTimer)
+                .step("initialStatus", () -> state.initialStatus())
+                .step("reconcileCas", () -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .step("clusterOperatorSecret", () -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                .step("getKafkaClusterDescription", () -> state.getKafkaClusterDescription(), "clusterOperatorSecret")
+                .step("prepareVersionChange", () -> state.prepareVersionChange(), "getKafkaClusterDescription")
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .step("rollingUpdateForNewCaKey", () -> state.rollingUpdateForNewCaKey(), "prepareVersionChange")
+
+                .step("getZookeeperDescription", () -> state.getZookeeperDescription(), "rollingUpdateForNewCaKey")
+                .step("zkModelWarnings", () -> state.zkModelWarnings(), "getZookeeperDescription")
+                .step("zkManualPodCleaning", () -> state.zkManualPodCleaning(), "zkModelWarnings")
+                .step("zkNetPolicy", () -> state.zkNetPolicy(), "zkManualPodCleaning")
+                .step("zkManualRollingUpdate", () -> state.zkManualRollingUpdate(), "zkNetPolicy")
+                .step("zkVersionChange", () -> state.zkVersionChange(), "zkManualRollingUpdate")
+                .step("zookeeperServiceAccount", () -> state.zookeeperServiceAccount(), "zkVersionChange")
+                .step("zkPvcs", () -> state.zkPvcs(), "zkVersionChange")
+                .step("zkService", () -> state.zkService(), "zkVersionChange")
+                .step("zkHeadlessService", () -> state.zkHeadlessService(), "zkVersionChange")
+                // The certificates are generated on a worker thread. No other step may use the ZooKeeper model meanwhile.
+                .step("zkGenerateCertificates", () -> state.zkGenerateCertificates(this::dateSupplier), "zookeeperServiceAccount", "zkPvcs",
+                        "zkService", "zkHeadlessService")
+                .step("zkAncillaryCm", () -> state.zkAncillaryCm(), "zkGenerateCertificates")
+                .step("zkNodesSecret", () -> state.zkNodesSecret(), "zkGenerateCertificates")
+                .step("zkPodDisruptionBudget", () -> state.zkPodDisruptionBudget(), "zkGenerateCertificates")
+                .step("zkStatefulSet", () -> state.zkStatefulSet(), "zookeeperServiceAccount", "zkPvcs", "zkService",
+                        "zkHeadlessService", "zkAncillaryCm", "zkNodesSecret", "zkPodDisruptionBudget")
+                .step("zkScalingDown", () -> state.zkScalingDown(), "zkStatefulSet")
+                .step("zkRollingUpdate", () -> state.zkRollingUpdate(), "zkScalingDown")
+                .step("zkPodsReady", () -> state.zkPodsReady(), "zkRollingUpdate")
+                .step("zkScalingUp", () -> state.zkScalingUp(), "zkPodsReady")
+                .step("zkScalingCheck", () -> state.zkScalingCheck(), "zkScalingUp")
+                .step("zkServiceEndpointReadiness", () -> state.zkServiceEndpointReadiness(), "zkScalingCheck")
+                .step("zkHeadlessServiceEndpointReadiness", () -> state.zkHeadlessServiceEndpointReadiness(), "zkScalingCheck")
+                .step("zkPersistentClaimDeletion", () -> state.zkPersistentClaimDeletion(), "zkServiceEndpointReadiness", "zkHeadlessServiceEndpointReadiness")
+
+                .step("checkKafkaSpec", () -> state.checkKafkaSpec(), "zkPersistentClaimDeletion")
+                .step("kafkaModelWarnings", () -> state.kafkaModelWarnings(), "checkKafkaSpec")
+                .step("kafkaManualPodCleaning", () -> state.kafkaManualPodCleaning(), "kafkaModelWarnings")
+                .step("kafkaNetPolicy", () -> state.kafkaNetPolicy(), "kafkaManualPodCleaning")
+                .step("kafkaManualRollingUpdate", () -> state.kafkaManualRollingUpdate(), "kafkaNetPolicy")
+                .step("kafkaPvcs", () -> state.kafkaPvcs(), "kafkaManualRollingUpdate")
+                .step("kafkaInitServiceAccount", () -> state.kafkaInitServiceAccount(), "kafkaManualRollingUpdate")
+                .step("kafkaInitClusterRoleBinding", () -> state.kafkaInitClusterRoleBinding(), "kafkaManualRollingUpdate")
+                .step("kafkaScaleDown", () -> state.kafkaScaleDown(), "kafkaPvcs", "kafkaInitServiceAccount", "kafkaInitClusterRoleBinding")
+                .step("kafkaServices", () -> state.kafkaServices(), "kafkaScaleDown")
+                .step("kafkaRoutes", () -> state.kafkaRoutes(), "kafkaScaleDown")
+                .step("kafkaIngresses", () -> state.kafkaIngresses(), "kafkaScaleDown")
+                .step("kafkaIngressesV1Beta1", () -> state.kafkaIngressesV1Beta1(), "kafkaScaleDown")
+                // The readiness steps collect the addresses of the listeners into shared fields and run one after another
+                .step("kafkaInternalServicesReady", () -> state.kafkaInternalServicesReady(), "kafkaServices", "kafkaRoutes", "kafkaIngresses", "kafkaIngressesV1Beta1")
+                .step("kafkaLoadBalancerServicesReady", () -> state.kafkaLoadBalancerServicesReady(), "kafkaInternalServicesReady")
+                .step("kafkaNodePortServicesReady", () -> state.kafkaNodePortServicesReady(), "kafkaLoadBalancerServicesReady")
+                .step("kafkaRoutesReady", () -> state.kafkaRoutesReady(), "kafkaNodePortServicesReady")
+                .step("kafkaIngressesReady", () -> state.kafkaIngressesReady(), "kafkaRoutesReady")
+                .step("kafkaIngressesV1Beta1Ready", () -> state.kafkaIngressesV1Beta1Ready(), "kafkaIngressesReady")
+                // The certificates are generated on a worker thread. No other step may use the Kafka model meanwhile.
+                .step("kafkaGenerateCertificates", () -> state.kafkaGenerateCertificates(this::dateSupplier), "kafkaIngressesV1Beta1Ready")
+                .step("customListenerCertificates", () -> state.customListenerCertificates(), "kafkaGenerateCertificates")
+                .step("kafkaAncillaryCm", () -> state.kafkaAncillaryCm(), "kafkaGenerateCertificates")
+                .step("kafkaBrokersSecret", () -> state.kafkaBrokersSecret(), "kafkaGenerateCertificates")
+                .step("kafkaJmxSecret", () -> state.kafkaJmxSecret(), "kafkaGenerateCertificates")
+                .step("kafkaPodDisruptionBudget", () -> state.kafkaPodDisruptionBudget(), "kafkaGenerateCertificates")
+                .step("kafkaStatefulSet", () -> state.kafkaStatefulSet(), "customListenerCertificates", "kafkaAncillaryCm",
+                        "kafkaBrokersSecret", "kafkaJmxSecret", "kafkaPodDisruptionBudget")
+                .step("kafkaRollToAddOrRemoveVolumes", () -> state.kafkaRollToAddOrRemoveVolumes(), "kafkaStatefulSet")
+                .step("kafkaRollingUpdate", () -> state.kafkaRollingUpdate(), "kafkaRollToAddOrRemoveVolumes")
+                .step("kafkaScaleUp", () -> state.kafkaScaleUp(), "kafkaRollingUpdate")
+                .step("kafkaPodsReady", () -> state.kafkaPodsReady(), "kafkaScaleUp")
+                .step("kafkaServiceEndpointReady", () -> state.kafkaServiceEndpointReady(), "kafkaPodsReady")
+                .step("kafkaHeadlessServiceEndpointReady", () -> state.kafkaHeadlessServiceEndpointReady(), "kafkaPodsReady")
+                .step("kafkaGetClusterId", () -> state.kafkaGetClusterId(), "kafkaServiceEndpointReady", "kafkaHeadlessServiceEndpointReady")
+                .step("kafkaPersistentClaimDeletion", () -> state.kafkaPersistentClaimDeletion(), "kafkaGetClusterId")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .step("kafkaNodePortExternalListenerStatus", () -> state.kafkaNodePortExternalListenerStatus(), "kafkaPersistentClaimDeletion")
+                .step("kafkaCustomCertificatesToStatus", () -> state.kafkaCustomCertificatesToStatus(), "kafkaNodePortExternalListenerStatus")
+
+                // The Entity Operator, Cruise Control, Kafka Exporter and JmxTrans are independent of each other
+                .step("getEntityOperatorDescription", () -> state.getEntityOperatorDescription(), "kafkaCustomCertificatesToStatus")
+                .step("entityOperatorRole", () -> state.entityOperatorRole(), "getEntityOperatorDescription")
+                .step("entityTopicOperatorRole", () -> state.entityTopicOperatorRole(), "getEntityOperatorDescription")
+                .step("entityUserOperatorRole", () -> state.entityUserOperatorRole(), "getEntityOperatorDescription")
+                .step("entityOperatorServiceAccount", () -> state.entityOperatorServiceAccount(), "getEntityOperatorDescription")
+                .step("entityOperatorTopicOpRoleBindingForRole", () -> state.entityOperatorTopicOpRoleBindingForRole(),
+                        "entityOperatorRole", "entityTopicOperatorRole", "entityUserOperatorRole", "entityOperatorServiceAccount")
+                .step("entityOperatorUserOpRoleBindingForRole", () -> state.entityOperatorUserOpRoleBindingForRole(),
+                        "entityOperatorRole", "entityTopicOperatorRole", "entityUserOperatorRole", "entityOperatorServiceAccount")
+                .step("entityOperatorTopicOpAncillaryCm", () -> state.entityOperatorTopicOpAncillaryCm(), "getEntityOperatorDescription")
+                .step("entityOperatorUserOpAncillaryCm", () -> state.entityOperatorUserOpAncillaryCm(), "getEntityOperatorDescription")
+                .step("entityOperatorSecret", () -> state.entityOperatorSecret(this::dateSupplier), "getEntityOperatorDescription")
+                .step("entityOperatorDeployment", () -> state.entityOperatorDeployment(), "entityOperatorTopicOpRoleBindingForRole",
+                        "entityOperatorUserOpRoleBindingForRole", "entityOperatorTopicOpAncillaryCm", "entityOperatorUserOpAncillaryCm", "entityOperatorSecret")
+                .step("entityOperatorReady", () -> state.entityOperatorReady(), "entityOperatorDeployment")
+
+                .step("getCruiseControlDescription", () -> state.getCruiseControlDescription(), "kafkaCustomCertificatesToStatus")
+                .step("cruiseControlNetPolicy", () -> state.cruiseControlNetPolicy(), "getCruiseControlDescription")
+                .step("cruiseControlServiceAccount", () -> state.cruiseControlServiceAccount(), "getCruiseControlDescription")
+                .step("cruiseControlAncillaryCm", () -> state.cruiseControlAncillaryCm(), "getCruiseControlDescription")
+                .step("cruiseControlSecret", () -> state.cruiseControlSecret(this::dateSupplier), "getCruiseControlDescription")
+                .step("cruiseControlDeployment", () -> state.cruiseControlDeployment(), "cruiseControlServiceAccount", "cruiseControlAncillaryCm", "cruiseControlSecret")
+                .step("cruiseControlService", () -> state.cruiseControlService(), "getCruiseControlDescription")
+                .step("cruiseControlReady", () -> state.cruiseControlReady(), "cruiseControlDeployment")
+
+                .step("getKafkaExporterDescription", () -> state.getKafkaExporterDescription(), "kafkaCustomCertificatesToStatus")
+                .step("kafkaExporterServiceAccount", () -> state.kafkaExporterServiceAccount(), "getKafkaExporterDescription")
+                .step("kafkaExporterSecret", () -> state.kafkaExporterSecret(this::dateSupplier), "getKafkaExporterDescription")
+                .step("kafkaExporterDeployment", () -> state.kafkaExporterDeployment(), "kafkaExporterServiceAccount", "kafkaExporterSecret")
+                .step("kafkaExporterReady", () -> state.kafkaExporterReady(), "kafkaExporterDeployment")
+
+                .step("getJmxTransDescription", () -> state.getJmxTransDescription(), "kafkaCustomCertificatesToStatus")
+                .step("jmxTransServiceAccount", () -> state.jmxTransServiceAccount(), "getJmxTransDescription")
+                .step("jmxTransConfigMap", () -> state.jmxTransConfigMap(), "getJmxTransDescription")
+                .step("jmxTransDeployment", () -> state.jmxTransDeployment(), "jmxTransServiceAccount", "jmxTransConfigMap")
+                .step("jmxTransDeploymentReady", () -> state.jmxTransDeploymentReady(), "jmxTransDeployment");
+    }
+
+    private Timer stepTimer(String step) {
+        return stepTimers.computeIfAbsent(step, name -> metrics.timer(METRICS_PREFIX + "reconciliations.step.duration",
+                "The time the reconciliation step takes to complete",
+                Tags.of(Tag.of("kind", Kafka.RESOURCE_KIND), Tag.of("step", name))));
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -540,6 +656,45 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return initialStatusPromise.future();
         }
 
+        /**
+         * Used instead of the full reconciliation when nothing changed since the last successful reconciliation. It
+         * only restores the status from the last reconciliation and checks that the cluster is still ready.
+         *
+         * @param lastStatus    Status of the Kafka cluster from the last successful reconciliation
+         *
+         * @return  Future which completes when the cluster is ready
+         */
+        Future<ReconciliationState> unchangedClusterReady(KafkaStatus lastStatus) {
+            this.kafkaStatus = new KafkaStatusBuilder(lastStatus).build();
+
+            List<Future> readinessFutures = new ArrayList<>();
+
+            for (int i = 0; i < kafkaAssembly.getSpec().getZookeeper().getReplicas(); i++) {
+                readinessFutures.add(podOperations.readiness(reconciliation, namespace, ZookeeperCluster.zookeeperPodName(name, i), 1_000, operationTimeoutMs));
+            }
+
+            for (int i = 0; i < kafkaAssembly.getSpec().getKafka().getReplicas(); i++) {
+                readinessFutures.add(podOperations.readiness(reconciliation, namespace, KafkaCluster.kafkaPodName(name, i), 1_000, operationTimeoutMs));
+            }
+
+            readinessFutures.add(serviceOperations.endpointReadiness(reconciliation, namespace, KafkaCluster.serviceName(name), 1_000, operationTimeoutMs));
+
+            for (String deploymentName : List.of(EntityOperator.entityOperatorName(name), CruiseControl.cruiseControlName(name),
+                    KafkaExporter.kafkaExporterName(name), JmxTrans.jmxTransName(name))) {
+                readinessFutures.add(deploymentOperations.getAsync(namespace, deploymentName)
+                        .compose(dep -> {
+                            if (dep != null) {
+                                return deploymentOperations.waitForObserved(reconciliation, namespace, deploymentName, 1_000, operationTimeoutMs)
+                                        .compose(i -> deploymentOperations.readiness(reconciliation, namespace, deploymentName, 1_000, operationTimeoutMs));
+                            } else {
+                                return Future.succeededFuture();
+                            }
+                        }));
+            }
+
+            return withVoid(CompositeFuture.join(readinessFutures));
+        }
+
         /**
          * Checks the requested Kafka spec for potential issues, and adds warnings and advice for best
          * practice to the status.
@@ -734,8 +889,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 return zkRollFuture
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
-                            () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                            () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider, availabilityIndex(),
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true,
+                            rollingUpdateMaxBatchSize, rollerMetrics)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -746,6 +902,16 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             }
         }
 
+        /**
+         * Returns the topic index used by the KafkaRoller to check whether the Kafka pods can be rolled. The index is
+         * shared by all rolling updates of this cluster.
+         *
+         * @return  Topic index of this Kafka cluster
+         */
+        KafkaAvailabilityIndex availabilityIndex() {
+            return availabilityIndexes.computeIfAbsent(namespace + "/" + name, key -> new KafkaAvailabilityIndex());
+        }
+
         /**
          * Rolls deployments when they exist. This method is used by the CA renewal to roll deployments.
          *
@@ -1121,8 +1287,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Future<Void> maybeRollKafka(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart, boolean allowReconfiguration) {
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
-                    () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
+                    () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider, availabilityIndex(),
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration,
+                        rollingUpdateMaxBatchSize, rollerMetrics)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -1583,29 +1750,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 services.addAll(kafkaCluster.generateExternalServices(i));
             }
 
-            Future fut = serviceOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                    .compose(existingServices -> {
-                        List<Future> serviceFutures = new ArrayList<>(services.size());
-                        List<String> existingServiceNames = existingServices.stream().map(svc -> svc.getMetadata().getName()).collect(Collectors.toList());
-
-                        LOGGER.debugCr(reconciliation, "Reconciling existing Services {} against the desired services", existingServiceNames);
-
-                        // Update desired services
-                        for (Service service : services) {
-                            String serviceName = service.getMetadata().getName();
-                            existingServiceNames.remove(serviceName);
-                            serviceFutures.add(serviceOperations.reconcile(reconciliation, namespace, serviceName, service));
-                        }
-
-                        LOGGER.debugCr(reconciliation, "Services {} should be deleted", existingServiceNames);
-
-                        // Delete services which match our selector but are not desired anymore
-                        for (String serviceName : existingServiceNames) {
-                            serviceFutures.add(serviceOperations.reconcile(reconciliation, namespace, serviceName, null));
-                        }
-
-                        return CompositeFuture.join(serviceFutures);
-                    });
+            Future fut = serviceOperations.reconcileAll(reconciliation, namespace, kafkaCluster.getSelectorLabels(), services);
 
             return withVoid(fut);
         }
@@ -1625,29 +1770,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         routes.addAll(kafkaCluster.generateExternalRoutes(i));
                     }
 
-                    Future fut = routeOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                            .compose(existingRoutes -> {
-                                List<Future> routeFutures = new ArrayList<>(routes.size());
-                                List<String> existingRouteNames = existingRoutes.stream().map(route -> route.getMetadata().getName()).collect(Collectors.toList());
-
-                                LOGGER.debugCr(reconciliation, "Reconciling existing Routes {} against the desired routes", existingRouteNames);
-
-                                // Update desired routes
-                                for (Route route : routes) {
-                                    String routeName = route.getMetadata().getName();
-                                    existingRouteNames.remove(routeName);
-                                    routeFutures.add(routeOperations.reconcile(reconciliation, namespace, routeName, route));
-                                }
-
-                                LOGGER.debugCr(reconciliation, "Routes {} should be deleted", existingRouteNames);
-
-                                // Delete routes which match our selector but are not desired anymore
-                                for (String routeName : existingRouteNames) {
-                                    routeFutures.add(routeOperations.reconcile(reconciliation, namespace, routeName, null));
-                                }
-
-                                return CompositeFuture.join(routeFutures);
-                            });
+                    Future fut = routeOperations.reconcileAll(reconciliation, namespace, kafkaCluster.getSelectorLabels(), routes);
 
                     return withVoid(fut);
                 } else {
@@ -1676,29 +1799,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 ingresses.addAll(kafkaCluster.generateExternalIngresses(i));
             }
 
-            Future fut = ingressOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                    .compose(existingIngresses -> {
-                        List<Future> ingressFutures = new ArrayList<>(ingresses.size());
-                        List<String> existingIngressNames = existingIngresses.stream().map(ingress -> ingress.getMetadata().getName()).collect(Collectors.toList());
-
-                        LOGGER.debugCr(reconciliation, "Reconciling existing Ingresses {} against the desired ingresses", existingIngressNames);
-
-                        // Update desired ingresses
-                        for (Ingress ingress : ingresses) {
-                            String ingressName = ingress.getMetadata().getName();
-                            existingIngressNames.remove(ingressName);
-                            ingressFutures.add(ingressOperations.reconcile(reconciliation, namespace, ingressName, ingress));
-                        }
-
-                        LOGGER.debugCr(reconciliation, "Ingresses {} should be deleted", existingIngressNames);
-
-                        // Delete ingresses which match our selector but are not desired anymore
-                        for (String ingressName : existingIngressNames) {
-                            ingressFutures.add(ingressOperations.reconcile(reconciliation, namespace, ingressName, null));
-                        }
-
-                        return CompositeFuture.join(ingressFutures);
-                    });
+            Future fut = ingressOperations.reconcileAll(reconciliation, namespace, kafkaCluster.getSelectorLabels(), ingresses);
 
             return withVoid(fut);
         }
@@ -1720,29 +1821,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 ingresses.addAll(kafkaCluster.generateExternalIngressesV1Beta1(i));
             }
 
-            Future fut = ingressV1Beta1Operations.listAsync(namespace, kafkaCluster.getSelectorLabels())
-                    .compose(existingIngresses -> {
-                        List<Future> ingressFutures = new ArrayList<>(ingresses.size());
-                        List<String> existingIngressNames = existingIngresses.stream().map(ingress -> ingress.getMetadata().getName()).collect(Collectors.toList());
-
-                        LOGGER.debugCr(reconciliation, "Reconciling existing v1beta1 Ingresses {} against the desired ingresses", existingIngressNames);
-
-                        // Update desired ingresses
-                        for (io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress ingress : ingresses) {
-                            String ingressName = ingress.getMetadata().getName();
-                            existingIngressNames.remove(ingressName);
-                            ingressFutures.add(ingressV1Beta1Operations.reconcile(reconciliation, namespace, ingressName, ingress));
-                        }
-
-                        LOGGER.debugCr(reconciliation, "V1beta1 ingresses {} should be deleted", existingIngressNames);
-
-                        // Delete ingresses which match our selector but are not desired anymore
-                        for (String ingressName : existingIngressNames) {
-                            ingressFutures.add(ingressV1Beta1Operations.reconcile(reconciliation, namespace, ingressName, null));
-                        }
-
-                        return CompositeFuture.join(ingressFutures);
-                    });
+            Future fut = ingressV1Beta1Operations.reconcileAll(reconciliation, namespace, kafkaCluster.getSelectorLabels(), ingresses);
 
             return withVoid(fut);
         }
@@ -3776,6 +3855,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        lastReconciliations.remove(reconciliation.namespace() + "/" + reconciliation.name());
+        availabilityIndexes.remove(reconciliation.namespace() + "/" + reconciliation.name());
+
         return withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -19,6 +19,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
@@ -33,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
@@ -50,9 +52,28 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final KafkaConnectHttpClient sharedHttpClient;
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * @param vertx         Vertx instance
+     * @param httpClient    Long-lived HTTP client shared by the Kafka Connect API clients. When null, a new HTTP client
+     *                      is created and closed for every request.
+     */
+    public KafkaConnectApiImpl(Vertx vertx, KafkaConnectHttpClient httpClient) {
         this.vertx = vertx;
+        this.sharedHttpClient = httpClient;
+    }
+
+    private <T> Future<T> withHttpClient(String endpoint, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (sharedHttpClient != null) {
+            return sharedHttpClient.request(endpoint, operation);
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), operation);
+        }
     }
 
     @Override
@@ -64,7 +85,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient("createOrUpdateConnector", (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -107,14 +128,14 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             Reconciliation reconciliation,
             String host, int port,
             String connectorName) {
-        return doGet(reconciliation, host, port, String.format("/connectors/%s", connectorName),
+        return doGet(reconciliation, "getConnector", host, port, String.format("/connectors/%s", connectorName),
                 new HashSet<>(asList(200, 201)),
                 TREE_TYPE);
     }
 
-    private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
+    private <T> Future<T> doGet(Reconciliation reconciliation, String endpoint, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(endpoint, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -154,7 +175,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             Reconciliation reconciliation,
             String host, int port,
             String connectorName) {
-        return doGet(reconciliation, host, port, String.format("/connectors/%s/config", connectorName),
+        return doGet(reconciliation, "getConnectorConfig", host, port, String.format("/connectors/%s/config", connectorName),
                 new HashSet<>(asList(200, 201)),
                 MAP_OF_STRINGS);
     }
@@ -168,7 +189,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient("deleteConnector", (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -272,21 +293,21 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName, Set<Integer> okStatusCodes) {
         String path = "/connectors/" + connectorName + "/status";
-        return doGet(reconciliation, host, port, path, okStatusCodes, TREE_TYPE);
+        return doGet(reconciliation, "getConnectorStatus", host, port, path, okStatusCodes, TREE_TYPE);
     }
 
     @Override
     public Future<Void> pause(String host, int port, String connectorName) {
-        return pauseResume(host, port, "/connectors/" + connectorName + "/pause");
+        return pauseResume("pauseConnector", host, port, "/connectors/" + connectorName + "/pause");
     }
 
     @Override
     public Future<Void> resume(String host, int port, String connectorName) {
-        return pauseResume(host, port, "/connectors/" + connectorName + "/resume");
+        return pauseResume("resumeConnector", host, port, "/connectors/" + connectorName + "/resume");
     }
 
-    private Future<Void> pauseResume(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+    private Future<Void> pauseResume(String endpoint, String host, int port, String path) {
+        return withHttpClient(endpoint, (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -314,7 +335,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient("listConnectors", (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -351,7 +372,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient("listConnectorPlugins", (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -385,7 +406,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return withHttpClient("updateConnectLogger", (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -419,7 +440,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient("listConnectLoggers", (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -537,16 +558,16 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> restart(String host, int port, String connectorName) {
-        return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/restart");
+        return restartConnectorOrTask("restartConnector", host, port, "/connectors/" + connectorName + "/restart");
     }
 
     @Override
     public Future<Void> restartTask(String host, int port, String connectorName, int taskID) {
-        return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/tasks/" + taskID + "/restart");
+        return restartConnectorOrTask("restartConnectorTask", host, port, "/connectors/" + connectorName + "/tasks/" + taskID + "/restart");
     }
 
-    private Future<Void> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+    private Future<Void> restartConnectorOrTask(String endpoint, String host, int port, String path) {
+        return withHttpClient(endpoint, (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -574,7 +595,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient("getConnectorTopics", (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
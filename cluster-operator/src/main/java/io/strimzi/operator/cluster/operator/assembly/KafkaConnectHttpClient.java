@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Long-lived HTTP client used for the Kafka Connect REST API calls. Unlike creating a new client for every request,
+ * it keeps the connections to the Connect clusters alive between the requests and reconciliations. Vert.x keeps a
+ * separate connection pool for every host and port, so every Connect cluster gets its own bounded pool of keep-alive
+ * connections, on which the requests are pipelined.
+ *
+ * The number of requests in flight and the duration of the requests are recorded for every REST API endpoint. The
+ * endpoints are identified by the name of the operation and not by the request path, so that the number of metrics
+ * does not grow with the number of connectors.
+ */
+public class KafkaConnectHttpClient {
+    /**
+     * Maximal number of connections to a single Connect cluster
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 5;
+
+    /**
+     * Maximal number of requests pipelined on a single connection
+     */
+    public static final int DEFAULT_PIPELINING_LIMIT = 10;
+
+    /**
+     * Time in seconds after which the idle connections are closed. It is shorter than the default idle timeout of the
+     * Connect REST server, so that the operator does not use connections which are just being closed by the server.
+     */
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
+    private static final String METRICS_PREFIX = AbstractOperator.METRICS_PREFIX + "connect.rest.";
+
+    private final HttpClient httpClient;
+    private final MetricsProvider metrics;
+    private final String kind;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Timer> durations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     * @param metrics   Metrics provider used for the request metrics
+     * @param kind      Kind of the custom resources managed by the operator using this client (used as metrics tag)
+     */
+    public KafkaConnectHttpClient(Vertx vertx, MetricsProvider metrics, String kind) {
+        this(vertx, metrics, kind, new HttpClientOptions()
+                .setLogActivity(true)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setPipelining(true)
+                .setPipeliningLimit(DEFAULT_PIPELINING_LIMIT)
+                .setMaxPoolSize(DEFAULT_MAX_POOL_SIZE));
+    }
+
+    /*test*/ KafkaConnectHttpClient(Vertx vertx, MetricsProvider metrics, String kind, HttpClientOptions options) {
+        this.httpClient = vertx.createHttpClient(options);
+        this.metrics = metrics;
+        this.kind = kind;
+    }
+
+    /**
+     * Performs the given operation, which completes the promise, using the shared HTTP client. Unlike
+     * {@link io.strimzi.operator.cluster.operator.resource.HttpClientUtils#withHttpClient}, the client is not closed
+     * afterwards.
+     *
+     * @param endpoint  Name of the REST API endpoint (used as metrics tag)
+     * @param operation The operation to perform
+     * @param <T>       The type of the result
+     *
+     * @return A future which is completed with the result of the operation
+     */
+    public <T> Future<T> request(String endpoint, BiConsumer<HttpClient, Promise<T>> operation) {
+        AtomicInteger requests = inFlight(endpoint);
+        Timer.Sample sample = Timer.start(metrics.meterRegistry());
+        Promise<T> promise = Promise.promise();
+
+        requests.incrementAndGet();
+        try {
+            operation.accept(httpClient, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future().onComplete(ignored -> {
+            requests.decrementAndGet();
+            sample.stop(duration(endpoint));
+        });
+    }
+
+    /**
+     * @param endpoint  Name of the REST API endpoint
+     *
+     * @return  Number of requests to the endpoint which are in flight
+     */
+    /*test*/ int inFlightRequests(String endpoint) {
+        AtomicInteger requests = inFlight.get(endpoint);
+        return requests != null ? requests.get() : 0;
+    }
+
+    private Tags tags(String endpoint) {
+        return Tags.of(Tag.of("kind", kind), Tag.of("endpoint", endpoint));
+    }
+
+    private AtomicInteger inFlight(String endpoint) {
+        return inFlight.computeIfAbsent(endpoint, e -> metrics.gauge(METRICS_PREFIX + "requests.inflight",
+                "Number of Kafka Connect REST API requests which are in flight",
+                tags(e)));
+    }
+
+    private Timer duration(String endpoint) {
+        return durations.computeIfAbsent(endpoint, e -> metrics.timer(METRICS_PREFIX + "requests.duration",
+                "The time the Kafka Connect REST API request takes to complete",
+                tags(e)));
+    }
+
+    /**
+     * Closes the HTTP client and all its connections
+     */
+    public void close() {
+        httpClient.close();
+    }
+}
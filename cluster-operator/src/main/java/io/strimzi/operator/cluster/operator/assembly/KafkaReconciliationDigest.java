@@ -0,0 +1,262 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.model.AbstractModel;
+import io.strimzi.operator.cluster.model.Ca;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.ModelUtils;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Computes a digest of everything which influences the result of the reconciliation of a Kafka cluster:
+ *
+ * <ul>
+ * <li>the generation, labels and annotations of the Kafka custom resource,</li>
+ * <li>the resourceVersions of all resources owned by the cluster (identified by the strimzi.io/cluster and
+ *     strimzi.io/kind labels, so that for example the KafkaUser secrets are not included), including the CA secrets
+ *     and the pods,</li>
+ * <li>the resourceVersions of the ConfigMaps and Secrets referenced from the Kafka spec (e.g. external logging or
+ *     custom listener certificates),</li>
+ * <li>and the version of the operator.</li>
+ * </ul>
+ *
+ * When the digest did not change since the last successful reconciliation, nothing the reconciliation reads changed
+ * either and the reconciliation would not change anything.
+ *
+ * The reconciliation also depends on the time: the CA certificates are renewed when they get close to their expiry and
+ * the rolling updates are done only in the maintenance time windows. No digest is computed when these could change
+ * the result of the reconciliation before the next full reconciliation is forced anyway.
+ */
+class KafkaReconciliationDigest {
+    private static final String OPERATOR_VERSION = String.valueOf(KafkaReconciliationDigest.class.getPackage().getImplementationVersion());
+
+    private final PlatformFeaturesAvailability pfa;
+    private final ResourceOperatorSupplier supplier;
+
+    /**
+     * Constructor
+     *
+     * @param pfa           Platform features availability properties
+     * @param supplier      Supplies the operators for different resources
+     */
+    KafkaReconciliationDigest(PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier) {
+        this.pfa = pfa;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Computes the digest for the Kafka cluster
+     *
+     * @param kafka     The Kafka custom resource
+     *
+     * @return  Future with the digest or with null when the reconciliation depends on the time and should not be
+     *          skipped
+     */
+    Future<String> compute(Kafka kafka) {
+        String namespace = kafka.getMetadata().getNamespace();
+        String name = kafka.getMetadata().getName();
+        Labels selector = Labels.forStrimziCluster(name).withStrimziKind(Kafka.RESOURCE_KIND);
+
+        List<AbstractResourceOperator<?, ? extends HasMetadata, ?, ?>> ownedResourceOperators = new ArrayList<>(List.of(
+                supplier.secretOperations,
+                supplier.configMapOperations,
+                supplier.serviceOperations,
+                supplier.serviceAccountOperations,
+                supplier.kafkaSetOperations,
+                supplier.deploymentOperations,
+                supplier.podOperations,
+                supplier.pvcOperations,
+                supplier.networkPolicyOperator,
+                supplier.podDisruptionBudgetOperator,
+                supplier.roleOperations,
+                supplier.roleBindingOperations));
+        if (pfa.hasIngressV1()) {
+            ownedResourceOperators.add(supplier.ingressOperations);
+        } else {
+            ownedResourceOperators.add(supplier.ingressV1Beta1Operations);
+        }
+        if (pfa.hasRoutes()) {
+            ownedResourceOperators.add(supplier.routeOperations);
+        }
+
+        List<Future> futures = new ArrayList<>();
+        for (AbstractResourceOperator<?, ? extends HasMetadata, ?, ?> operator : ownedResourceOperators) {
+            futures.add(operator.listAsync(namespace, selector));
+        }
+
+        Set<String> configMapRefs = new TreeSet<>();
+        Set<String> secretRefs = new TreeSet<>();
+        collectReferences(Serialization.jsonMapper().valueToTree(kafka.getSpec()), configMapRefs, secretRefs);
+
+        for (String configMap : configMapRefs) {
+            futures.add(supplier.configMapOperations.getAsync(namespace, configMap));
+        }
+
+        for (String secret : secretRefs) {
+            futures.add(supplier.secretOperations.getAsync(namespace, secret));
+        }
+
+        return CompositeFuture.join(futures)
+                .map(res -> {
+                    if (dependsOnTime(kafka, caCertSecrets(name, res.resultAt(0)))) {
+                        return null;
+                    }
+
+                    Set<String> entries = new TreeSet<>();
+                    entries.add("operator=" + OPERATOR_VERSION);
+                    entries.add("generation=" + kafka.getMetadata().getGeneration());
+                    entries.add("labels=" + kafka.getMetadata().getLabels());
+                    entries.add("annotations=" + kafka.getMetadata().getAnnotations());
+
+                    for (int i = 0; i < res.size(); i++) {
+                        Object result = res.resultAt(i);
+
+                        if (result instanceof List) {
+                            for (Object resource : (List<?>) result) {
+                                entries.add(entry(i, (HasMetadata) resource));
+                            }
+                        } else if (result != null) {
+                            entries.add(entry(i, (HasMetadata) result));
+                        }
+                    }
+
+                    return Util.stringHash(String.join("\n", entries));
+                });
+    }
+
+    /**
+     * Checks whether the reconciliation depends on the time. That is the case when maintenance time windows are
+     * configured or when a CA certificate is due for renewal (or expires) before the next full reconciliation is
+     * forced. The certificates of the components are signed by the current CA certificates and expire only after them,
+     * so they do not have to be checked.
+     *
+     * @param kafka     The Kafka custom resource
+     * @param secrets   The cluster and clients CA certificate Secrets
+     *
+     * @return  True if the reconciliation depends on the time. False otherwise.
+     */
+    /* test */ static boolean dependsOnTime(Kafka kafka, List<Secret> secrets) {
+        if (kafka.getSpec().getMaintenanceTimeWindows() != null && !kafka.getSpec().getMaintenanceTimeWindows().isEmpty()) {
+            return true;
+        }
+
+        // Both CAs are checked against the longer of their renewal periods
+        int renewalDays = Math.max(ModelUtils.getRenewalDays(kafka.getSpec().getClusterCa()), ModelUtils.getRenewalDays(kafka.getSpec().getClientsCa()));
+        long renewalDeadline = System.currentTimeMillis() + KafkaAssemblyOperator.UNCHANGED_RECONCILIATION_MAX_AGE_MS + renewalDays * 24L * 60L * 60L * 1000L;
+
+        for (Secret secret : secrets) {
+            if (secret.getData() == null) {
+                continue;
+            }
+
+            for (String key : secret.getData().keySet()) {
+                if (key.endsWith(".crt")) {
+                    X509Certificate cert;
+                    try {
+                        cert = Ca.cert(secret, key);
+                    } catch (RuntimeException e) {
+                        // Not a certificate
+                        continue;
+                    }
+
+                    if (cert != null && cert.getNotAfter().getTime() < renewalDeadline) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Selects the cluster and clients CA certificate Secrets from the Secrets owned by the cluster
+     *
+     * @param cluster   Name of the Kafka cluster
+     * @param secrets   Secrets owned by the cluster
+     *
+     * @return  The CA certificate Secrets
+     */
+    private static List<Secret> caCertSecrets(String cluster, List<Secret> secrets) {
+        Set<String> names = Set.of(AbstractModel.clusterCaCertSecretName(cluster), KafkaCluster.clientsCaCertSecretName(cluster));
+        List<Secret> caCertSecrets = new ArrayList<>();
+
+        for (Secret secret : secrets) {
+            if (names.contains(secret.getMetadata().getName())) {
+                caCertSecrets.add(secret);
+            }
+        }
+
+        return caCertSecrets;
+    }
+
+    /**
+     * The kind is not always set on listed resources, so the index of the operation is used to tell the resource
+     * types apart
+     */
+    private static String entry(int operation, HasMetadata resource) {
+        return operation + "/" + resource.getMetadata().getName() + "=" + resource.getMetadata().getResourceVersion();
+    }
+
+    /**
+     * Collects the names of ConfigMaps and Secrets referenced from the Kafka spec
+     *
+     * @param node              JSON node which should be searched
+     * @param configMapRefs     Set where the referenced ConfigMaps will be collected
+     * @param secretRefs        Set where the referenced Secrets will be collected
+     */
+    /* test */ static void collectReferences(JsonNode node, Set<String> configMapRefs, Set<String> secretRefs) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.isObject()) {
+            if (node.hasNonNull("type") && "external".equals(node.get("type").asText()) && node.hasNonNull("name")) {
+                // Deprecated way of referencing the ConfigMap with external logging configuration
+                configMapRefs.add(node.get("name").asText());
+            }
+
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+
+                if ("configMapKeyRef".equals(field.getKey()) && value.hasNonNull("name")) {
+                    configMapRefs.add(value.get("name").asText());
+                } else if ("secretKeyRef".equals(field.getKey()) && value.hasNonNull("name")) {
+                    secretRefs.add(value.get("name").asText());
+                } else if ("secretName".equals(field.getKey()) && value.isTextual()) {
+                    secretRefs.add(value.asText());
+                } else {
+                    collectReferences(value, configMapRefs, secretRefs);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode item : node) {
+                collectReferences(item, configMapRefs, secretRefs);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the steps of a reconciliation as a dependency graph. Each step declares the steps whose results it needs and
+ * starts as soon as all of them complete successfully. Steps which do not depend on each other run concurrently.
+ * When a step fails, the steps depending on it are not run. The graph completes once all started steps complete and
+ * fails with the error of the first failed step (in the order in which the steps were added).
+ *
+ * Steps can depend only on steps which were added before them, so the graph cannot contain any cycles. When the graph
+ * is not parallel, every step depends also on the step added right before it and the steps run one after another in
+ * the order in which they were added.
+ *
+ * The duration of each step is recorded in the timer returned for the step name.
+ */
+class ReconciliationGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationGraph.class.getName());
+
+    private final Reconciliation reconciliation;
+    private final boolean parallel;
+    private final Function<String, Timer> stepTimers;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private String lastStep;
+
+    /**
+     * Single step of the reconciliation
+     */
+    private static class Step {
+        private final Supplier<Future<?>> action;
+        private final List<String> dependencies;
+
+        Step(Supplier<Future<?>> action, List<String> dependencies) {
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param parallel          Whether independent steps run concurrently
+     * @param stepTimers        Function returning the timer used to record the duration of the step with given name
+     */
+    ReconciliationGraph(Reconciliation reconciliation, boolean parallel, Function<String, Timer> stepTimers) {
+        this.reconciliation = reconciliation;
+        this.parallel = parallel;
+        this.stepTimers = stepTimers;
+    }
+
+    /**
+     * Adds a step to the graph
+     *
+     * @param name          Unique name of the step
+     * @param action        Supplier which starts the step and returns the Future indicating its result
+     * @param dependencies  Names of the steps which have to complete before this step starts
+     *
+     * @return  This graph
+     */
+    ReconciliationGraph step(String name, Supplier<Future<?>> action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already defined");
+        }
+
+        List<String> allDependencies = new ArrayList<>(dependencies.length + 1);
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not defined");
+            }
+
+            allDependencies.add(dependency);
+        }
+
+        if (!parallel && lastStep != null && !allDependencies.contains(lastStep)) {
+            allDependencies.add(lastStep);
+        }
+
+        steps.put(name, new Step(action, allDependencies));
+        lastStep = name;
+
+        return this;
+    }
+
+    /**
+     * Runs all steps of the graph
+     *
+     * @return  Future which completes when all steps complete
+     */
+    Future<Void> execute() {
+        Map<String, Future<Void>> results = new LinkedHashMap<>(steps.size());
+
+        for (Map.Entry<String, Step> entry : steps.entrySet()) {
+            String name = entry.getKey();
+            Step step = entry.getValue();
+
+            List<Future> dependencies = new ArrayList<>(step.dependencies.size());
+            for (String dependency : step.dependencies) {
+                dependencies.add(results.get(dependency));
+            }
+
+            results.put(name, CompositeFuture.all(dependencies).compose(i -> run(name, step)));
+        }
+
+        Promise<Void> resultPromise = Promise.promise();
+
+        CompositeFuture.join(new ArrayList<>(results.values())).onComplete(res -> {
+            if (res.succeeded()) {
+                resultPromise.complete();
+            } else {
+                for (Future<Void> result : results.values()) {
+                    if (result.failed()) {
+                        resultPromise.fail(result.cause());
+                        return;
+                    }
+                }
+
+                resultPromise.fail(res.cause());
+            }
+        });
+
+        return resultPromise.future();
+    }
+
+    private Future<Void> run(String name, Step step) {
+        long start = System.nanoTime();
+        Future<?> result;
+
+        try {
+            result = step.action.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.<Void>mapEmpty()
+                .onComplete(res -> {
+                    long duration = System.nanoTime() - start;
+                    stepTimers.apply(name).record(duration, TimeUnit.NANOSECONDS);
+                    LOGGER.debugCr(reconciliation, "Reconciliation step {} {} after {}ms", name, res.succeeded() ? "completed" : "failed", TimeUnit.NANOSECONDS.toMillis(duration));
+                });
+    }
+}
@@ -14,11 +14,16 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +35,12 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * The topic descriptions and the {@code min.in.sync.replicas} values are kept in a {@link KafkaAvailabilityIndex}
+ * which is shared by the rolling updates of the same cluster. All topics are described only when the index is empty
+ * or older than its metadata refresh interval. Otherwise the checks describe only the new topics, the topics whose
+ * partitions are being reassigned and the topics with replicas on the checked brokers, so that their in-sync replicas
+ * are up-to-date.
  */
 class KafkaAvailability {
 
@@ -39,19 +50,16 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final KafkaAvailabilityIndex index;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
+        this(reconciliation, ac, new KafkaAvailabilityIndex());
+    }
+
+    KafkaAvailability(Reconciliation reconciliation, Admin ac, KafkaAvailabilityIndex index) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.index = index;
     }
 
     /**
@@ -60,28 +68,26 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    private Future<Boolean> canRollBroker(int podId) {
+        // 1. Get the descriptions of the topics on $broker
+        Future<List<TopicDescription>> topicsOnGivenBroker = topicsOnBrokers(Collections.singleton(podId))
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // 2. Get min.insync.replicas of the topics on $broker
+        Future<Map<String, Integer>> minIsrsOnGivenBroker = topicsOnGivenBroker
+                .compose(this::minIsrs);
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
+        // 3. join
+        return minIsrsOnGivenBroker.map(topicNameToMinIsr -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podId, topicNameToMinIsr.get(td.name()), td));
             if (!canRoll) {
                 LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -92,15 +98,216 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
+    /**
+     * Splits the given brokers into batches of brokers which can be restarted at the same time. Brokers can be in the
+     * same batch when restarting them together leaves at least {@code min.insync.replicas} replicas (and at least one
+     * replica) of every partition running. The brokers are batched rack by rack, so when the replicas are spread
+     * across racks, the brokers from the same rack usually end up in the same batch.
+     *
+     * The batches are based on the replica assignment only. Whether the in-sync replicas currently allow restarting
+     * a batch has to be checked using {@link #canRoll(Collection)} before the batch is restarted.
+     *
+     * @param brokers       IDs of the brokers which should be restarted
+     * @param maxBatchSize  Maximal number of brokers in one batch
+     *
+     * @return  Future with the list of batches
+     */
+    Future<List<List<Integer>>> batches(Collection<Integer> brokers, int maxBatchSize) {
+        return topicsOnBrokers(brokers)
+                .compose(this::minIsrs)
+                .map(topicNameToMinIsr -> {
+                    List<Integer> ordered = new ArrayList<>(brokers);
+                    ordered.sort(Comparator.comparing((Integer broker) -> index.rack(broker), Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(Comparator.naturalOrder()));
+
+                    List<List<Integer>> batches = new ArrayList<>();
+
+                    for (Integer broker : ordered) {
+                        List<Integer> batch = batches.stream()
+                                .filter(b -> b.size() < maxBatchSize && canJoinBatch(b, broker, topicNameToMinIsr))
+                                .findFirst()
+                                .orElse(null);
+
+                        if (batch != null) {
+                            batch.add(broker);
+                        } else {
+                            batches.add(new ArrayList<>(Collections.singletonList(broker)));
+                        }
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Brokers {} can be rolled in batches {}", brokers, batches);
+                    return batches;
+                });
+    }
+
+    /**
+     * Checks whether the broker can be restarted together with the brokers from the batch
+     */
+    private boolean canJoinBatch(List<Integer> batch, int broker, Map<String, Integer> topicNameToMinIsr) {
+        for (TopicDescription td : index.topicsOnBroker(broker)) {
+            int minIsr = topicNameToMinIsr.get(td.name());
+
+            for (TopicPartitionInfo pi : td.partitions()) {
+                int replicas = pi.replicas().size();
+                int restarted = (int) pi.replicas().stream().filter(node -> node.id() == broker || batch.contains(node.id())).count();
+
+                if (restarted > 1) {
+                    // Restarting the batch should not be worse than restarting the brokers one by one
+                    int required = Math.min(replicas > minIsr ? Math.max(minIsr, 1) : 1, replicas - 1);
+
+                    if (replicas - restarted < required) {
+                        LOGGER.traceCr(reconciliation, "Broker {} cannot be restarted together with {} because of {}/{}", broker, batch, td.name(), pi.partition());
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Determine whether the given brokers can be rolled at the same time without affecting
+     * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}
+     * and without making any partition unavailable.
+     *
+     * @param brokers   IDs of the brokers which would be restarted together
+     *
+     * @return  Future with true if the brokers can be restarted together
+     */
+    Future<Boolean> canRoll(Collection<Integer> brokers) {
+        LOGGER.debugCr(reconciliation, "Determining whether brokers {} can be rolled together", brokers);
+
+        Future<List<TopicDescription>> topicsOnGivenBrokers = topicsOnBrokers(brokers);
+
+        return topicsOnGivenBrokers
+                .compose(this::minIsrs)
+                .map(topicNameToMinIsr -> {
+                    boolean canRoll = topicsOnGivenBrokers.result().stream().noneMatch(
+                        td -> wouldAffectAvailability(brokers, topicNameToMinIsr.get(td.name()), td));
+                    if (!canRoll) {
+                        LOGGER.debugCr(reconciliation, "Restart of pods {} would remove them from ISR, stalling producers with acks=all", brokers);
+                    }
+                    return canRoll;
+                }).recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pods {}", brokers, error);
+                    return Future.failedFuture(error);
+                });
+    }
+
+    private boolean wouldAffectAvailability(Collection<Integer> brokers, int minIsr, TopicDescription td) {
+        for (TopicPartitionInfo pi : td.partitions()) {
+            List<Node> isr = pi.isr();
+            long restartedReplicas = pi.replicas().stream().filter(node -> brokers.contains(node.id())).count();
+            long restartedIsr = isr.stream().filter(node -> brokers.contains(node.id())).count();
+            long remainingIsr = isr.size() - restartedIsr;
+
+            if (restartedReplicas == 0) {
+                continue;
+            }
+
+            if (minIsr >= 0 && pi.replicas().size() > minIsr) {
+                if (isr.size() < minIsr) {
+                    logIsrReplicas(td, pi, isr);
+                    LOGGER.infoCr(reconciliation, "{}/{} is already underreplicated (|ISR|={}, {}={}); brokers {} have a replica, " +
+                                    "so should not be restarted right now.",
+                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
+                    return true;
+                } else if (restartedIsr > 0 && remainingIsr < minIsr) {
+                    logIsrReplicas(td, pi, isr);
+                    LOGGER.infoCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if brokers {} are restarted.",
+                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
+                    return true;
+                }
+            }
+
+            if (remainingIsr == 0 && restartedIsr > 1) {
+                logIsrReplicas(td, pi, isr);
+                LOGGER.infoCr(reconciliation, "{}/{} will be offline if brokers {} are restarted.", td.name(), pi.partition(), brokers);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Refreshes the index and returns the descriptions of the topics with replicas on the given brokers
+     */
+    private Future<List<TopicDescription>> topicsOnBrokers(Collection<Integer> brokers) {
+        return topicNames().compose(names -> {
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+
+            if (index.needsFullRefresh()) {
+                return describeTopics(names).map(tds -> {
+                    index.replaceAll(tds);
+                    return null;
+                });
+            } else {
+                // Reassignments move replicas to other brokers. The topics being reassigned are described, so that
+                // the index knows about all brokers with their replicas.
+                return reassigningTopics().compose(reassigning -> {
+                    Set<String> toDescribe = index.topicsToDescribe(names, brokers);
+                    reassigning.stream().filter(names::contains).forEach(toDescribe::add);
+                    LOGGER.debugCr(reconciliation, "Describing {} of {} topics", toDescribe.size(), names.size());
+
+                    if (toDescribe.isEmpty()) {
+                        return Future.succeededFuture();
+                    }
+
+                    return describeTopics(toDescribe).map(tds -> {
+                        index.update(tds);
+                        return null;
+                    });
+                });
+            }
+        }).map(i -> {
+            List<TopicDescription> tds = index.topicsOnBrokers(brokers);
+            LOGGER.debugCr(reconciliation, "Got {} topic descriptions for brokers {}", tds.size(), brokers);
+            return tds;
+        });
+    }
+
+    /**
+     * Returns the min.insync.replicas values of the given topics. Only the values which are not cached in the index
+     * are fetched from the cluster.
+     */
+    private Future<Map<String, Integer>> minIsrs(Collection<TopicDescription> tds) {
+        Set<String> missing = new HashSet<>();
+        Map<String, Integer> minIsrs = index.minIsrs(tds.stream().map(TopicDescription::name).collect(Collectors.toList()), missing);
+
+        if (missing.isEmpty()) {
+            return Future.succeededFuture(minIsrs);
+        }
+
+        return topicConfigs(missing).map(topicNameToConfig -> {
+            Map<String, Integer> fetched = new HashMap<>(topicNameToConfig.size());
+
+            for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+                fetched.put(entry.getKey(), minIsr(entry.getValue()));
+            }
+
+            index.updateMinIsrs(fetched);
+            minIsrs.putAll(fetched);
+
+            return minIsrs;
+        });
+    }
+
+    private static int minIsr(Config config) {
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
+
         if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+            return parseInt(minIsrConfig.value());
+        } else {
+            return -1;
+        }
+    }
+
+    private boolean wouldAffectAvailability(int broker, int minIsr, TopicDescription td) {
+        if (minIsr >= 0) {
             LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
@@ -168,21 +375,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -197,6 +389,20 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    protected Future<Set<String>> reassigningTopics() {
+        Promise<Set<String>> reassigningPromise = Promise.promise();
+        ac.listPartitionReassignments().reassignments()
+                .whenComplete((reassignments, error) -> {
+                    if (error != null) {
+                        reassigningPromise.fail(error);
+                    } else {
+                        LOGGER.debugCr(reconciliation, "Got {} partition reassignments", reassignments.size());
+                        reassigningPromise.complete(reassignments.keySet().stream().map(TopicPartition::topic).collect(Collectors.toSet()));
+                    }
+                });
+        return reassigningPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
@@ -0,0 +1,272 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Index of the topics of a Kafka cluster used by {@link KafkaAvailability}. It keeps the topic descriptions indexed
+ * by the brokers which host their replicas and caches the {@code min.insync.replicas} values of the topics.
+ *
+ * The index is shared by all pods rolled by one {@link KafkaRoller} run and by the subsequent runs for the same
+ * cluster. The topic descriptions are refreshed fully when they are older than the metadata refresh interval.
+ * Otherwise only the new topics, the topics with partitions being reassigned and the topics hosted by the broker
+ * which is being checked are described. The {@code min.insync.replicas} values expire after the configuration TTL.
+ *
+ * All methods are synchronized, because the index is updated from the Admin client threads.
+ */
+public class KafkaAvailabilityIndex {
+    /**
+     * Default time after which the cached {@code min.insync.replicas} values expire
+     */
+    public static final long DEFAULT_CONFIG_TTL_MS = 300_000L;
+
+    /**
+     * Default time after which all topics are described again
+     */
+    public static final long DEFAULT_METADATA_REFRESH_MS = 600_000L;
+
+    private final long configTtlMs;
+    private final long metadataRefreshMs;
+    private final LongSupplier clock;
+
+    private final Map<String, TopicDescription> topics = new HashMap<>();
+    private final Map<Integer, Set<String>> brokerToTopics = new HashMap<>();
+    private final Map<String, CachedMinIsr> minIsrs = new HashMap<>();
+    private final Map<Integer, String> racks = new HashMap<>();
+    private long lastFullRefresh = Long.MIN_VALUE;
+
+    /**
+     * Cached min.insync.replicas value of a topic
+     */
+    private static class CachedMinIsr {
+        private final int value;
+        private final long timestamp;
+
+        CachedMinIsr(int value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Constructs the index with the default configuration TTL and metadata refresh interval
+     */
+    public KafkaAvailabilityIndex() {
+        this(DEFAULT_CONFIG_TTL_MS, DEFAULT_METADATA_REFRESH_MS, System::currentTimeMillis);
+    }
+
+    /* test */ KafkaAvailabilityIndex(long configTtlMs, long metadataRefreshMs, LongSupplier clock) {
+        this.configTtlMs = configTtlMs;
+        this.metadataRefreshMs = metadataRefreshMs;
+        this.clock = clock;
+    }
+
+    /**
+     * @return  True if the topic descriptions should be refreshed for all topics
+     */
+    synchronized boolean needsFullRefresh() {
+        return lastFullRefresh == Long.MIN_VALUE || clock.getAsLong() - lastFullRefresh >= metadataRefreshMs;
+    }
+
+    /**
+     * Removes the topics which do not exist anymore and returns the topics which need to be described before the
+     * given brokers are checked: the topics which are not in the index yet and the topics with replicas on the brokers.
+     *
+     * @param topicNames    Names of all topics in the cluster
+     * @param brokers       IDs of the brokers which are being checked
+     *
+     * @return  Names of the topics which should be described
+     */
+    synchronized Set<String> topicsToDescribe(Set<String> topicNames, Collection<Integer> brokers) {
+        Iterator<String> iterator = topics.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            String topic = iterator.next();
+
+            if (!topicNames.contains(topic)) {
+                unindex(topics.get(topic));
+                iterator.remove();
+                minIsrs.remove(topic);
+            }
+        }
+
+        Set<String> toDescribe = new HashSet<>();
+
+        for (Integer broker : brokers) {
+            toDescribe.addAll(brokerToTopics.getOrDefault(broker, Collections.emptySet()));
+        }
+
+        for (String topic : topicNames) {
+            if (!topics.containsKey(topic)) {
+                toDescribe.add(topic);
+            }
+        }
+
+        return toDescribe;
+    }
+
+    /**
+     * Replaces the whole content of the index with the descriptions of all topics in the cluster
+     *
+     * @param descriptions  Descriptions of all topics
+     */
+    synchronized void replaceAll(Collection<TopicDescription> descriptions) {
+        Set<String> names = new HashSet<>(descriptions.size());
+
+        topics.clear();
+        brokerToTopics.clear();
+        racks.clear();
+
+        for (TopicDescription description : descriptions) {
+            names.add(description.name());
+            topics.put(description.name(), description);
+            index(description);
+        }
+
+        minIsrs.keySet().retainAll(names);
+        lastFullRefresh = clock.getAsLong();
+    }
+
+    /**
+     * Adds or updates the descriptions of the given topics
+     *
+     * @param descriptions  Topic descriptions
+     */
+    synchronized void update(Collection<TopicDescription> descriptions) {
+        for (TopicDescription description : descriptions) {
+            TopicDescription previous = topics.put(description.name(), description);
+
+            if (previous != null) {
+                unindex(previous);
+            }
+
+            index(description);
+        }
+    }
+
+    private void index(TopicDescription description) {
+        for (TopicPartitionInfo partition : description.partitions()) {
+            for (Node replica : partition.replicas()) {
+                brokerToTopics.computeIfAbsent(replica.id(), id -> new HashSet<>()).add(description.name());
+
+                if (replica.hasRack()) {
+                    racks.put(replica.id(), replica.rack());
+                }
+            }
+        }
+    }
+
+    private void unindex(TopicDescription description) {
+        for (TopicPartitionInfo partition : description.partitions()) {
+            for (Node replica : partition.replicas()) {
+                Set<String> brokerTopics = brokerToTopics.get(replica.id());
+
+                if (brokerTopics != null) {
+                    brokerTopics.remove(description.name());
+
+                    if (brokerTopics.isEmpty()) {
+                        brokerToTopics.remove(replica.id());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param broker    ID of the broker
+     *
+     * @return  Descriptions of the topics which have at least one replica on the given broker
+     */
+    synchronized List<TopicDescription> topicsOnBroker(int broker) {
+        return topicsOnBrokers(Collections.singleton(broker));
+    }
+
+    /**
+     * @param brokers   IDs of the brokers
+     *
+     * @return  Descriptions of the topics which have at least one replica on any of the given brokers
+     */
+    synchronized List<TopicDescription> topicsOnBrokers(Collection<Integer> brokers) {
+        Set<String> names = new HashSet<>();
+
+        for (Integer broker : brokers) {
+            names.addAll(brokerToTopics.getOrDefault(broker, Collections.emptySet()));
+        }
+
+        List<TopicDescription> descriptions = new ArrayList<>(names.size());
+
+        for (String name : names) {
+            descriptions.add(topics.get(name));
+        }
+
+        return descriptions;
+    }
+
+    /**
+     * @param broker    ID of the broker
+     *
+     * @return  Rack of the broker as seen in the topic metadata or null if the broker has no rack
+     */
+    synchronized String rack(int broker) {
+        return racks.get(broker);
+    }
+
+    /**
+     * Returns the cached min.insync.replicas values for the given topics. The topics without a valid cached value are
+     * added to the {@code missing} set.
+     *
+     * @param topicNames    Names of the topics
+     * @param missing       Set to which the topics without a cached value are added
+     *
+     * @return  Map with the cached min.insync.replicas values. -1 indicates that the topic does not have it configured.
+     */
+    synchronized Map<String, Integer> minIsrs(Collection<String> topicNames, Set<String> missing) {
+        long now = clock.getAsLong();
+        Map<String, Integer> result = new HashMap<>(topicNames.size());
+
+        for (String topic : topicNames) {
+            CachedMinIsr cached = minIsrs.get(topic);
+
+            if (cached != null && now - cached.timestamp < configTtlMs) {
+                result.put(topic, cached.value);
+            } else {
+                missing.add(topic);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Caches the min.insync.replicas values
+     *
+     * @param values    Map with the min.insync.replicas values of the topics. -1 indicates that the topic does not
+     *                  have it configured.
+     */
+    synchronized void updateMinIsrs(Map<String, Integer> values) {
+        long now = clock.getAsLong();
+
+        for (Map.Entry<String, Integer> entry : values.entrySet()) {
+            // Ignore topics deleted in the meantime
+            if (topics.containsKey(entry.getKey())) {
+                minIsrs.put(entry.getKey(), new CachedMinIsr(entry.getValue(), now));
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -46,6 +47,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -123,7 +125,12 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final KafkaAvailabilityIndex availabilityIndex;
+    private final int maxBatchSize;
+    private final KafkaRollerMetrics rollerMetrics;
+    private final Set<Integer> restartedInBatch = ConcurrentHashMap.newKeySet();
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,6 +145,38 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, new KafkaAvailabilityIndex(), kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration,
+                1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param vertx                 Vert.x instance
+     * @param podOperations         Pod operator
+     * @param pollingIntervalMs     Interval for polling the pod readiness
+     * @param operationTimeoutMs    Timeout for the individual operations
+     * @param backOffSupplier       Supplier of the BackOff used for retries
+     * @param sts                   Kafka StatefulSet
+     * @param clusterCaCertSecret   Secret with the cluster CA certificate
+     * @param coKeySecret           Secret with the Cluster Operator key and certificate
+     * @param adminClientProvider   Provider of the Admin clients
+     * @param availabilityIndex     Topic index of the cluster used to check whether the brokers can be rolled
+     * @param kafkaConfig           Kafka broker configuration
+     * @param kafkaLogging          Kafka broker logging configuration
+     * @param kafkaVersion          Kafka version
+     * @param allowReconfiguration  Whether the brokers can be reconfigured dynamically instead of restarting them
+     * @param maxBatchSize          Maximal number of pods restarted at the same time. 1 restarts the pods one by one.
+     * @param rollerMetrics         Metrics for the rolling progress or null when the metrics should not be recorded
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider, KafkaAvailabilityIndex availabilityIndex,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       int maxBatchSize, KafkaRollerMetrics rollerMetrics) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -154,6 +193,9 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.availabilityIndex = availabilityIndex;
+        this.maxBatchSize = maxBatchSize;
+        this.rollerMetrics = rollerMetrics;
     }
 
     /**
@@ -205,25 +247,204 @@ public class KafkaRoller {
                 podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
             }
             LOGGER.debugCr(reconciliation, "Initial order for rolling restart {}", podIds);
+
+            Set<Integer> podsToRestart = podsToRestart(podIds);
+            AtomicInteger remainingPods = rollerMetrics != null ? rollerMetrics.remainingPods(namespace, cluster) : new AtomicInteger();
+            remainingPods.set(podsToRestart.size());
+
+            if (maxBatchSize > 1) {
+                try {
+                    rollInBatches(podIds, podsToRestart, remainingPods);
+                } catch (ForceableProblem e) {
+                    LOGGER.warnCr(reconciliation, "Failed to roll pods in batches, the remaining pods will be rolled one by one", e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    complete(result, remainingPods, Future.failedFuture(e));
+                    return;
+                } catch (Exception e) {
+                    // The batch might have left the cluster in a worse state, so no more pods are rolled
+                    LOGGER.infoCr(reconciliation, "Could not roll pods in batches, giving up", e);
+                    complete(result, remainingPods, Future.failedFuture(e));
+                    return;
+                }
+            }
+
             List<Future> futures = new ArrayList<>(numPods);
             for (Integer podId: podIds) {
-                futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
+                futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS)
+                        .onComplete(i -> {
+                            if (podsToRestart.contains(podId) && !restartedInBatch.contains(podId)) {
+                                remainingPods.decrementAndGet();
+                            }
+                        }));
             }
-            CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
-                try {
-                    if (allClient != null) {
-                        allClient.close(Duration.ofSeconds(30));
-                    }
-                } catch (RuntimeException e) {
-                    LOGGER.debugCr(reconciliation, "Exception closing admin client", e);
-                }
-                vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
-            });
+            CompositeFuture.join(futures).onComplete(ar -> complete(result, remainingPods, ar));
         });
         return result.future();
     }
 
+    /**
+     * Releases the resources used by the rolling restart and completes the result of the rolling restart
+     */
+    private void complete(Promise<Void> result, AtomicInteger remainingPods, AsyncResult<?> ar) {
+        remainingPods.set(0);
+        singleExecutor.shutdown();
+        try {
+            if (allClient != null) {
+                allClient.close(Duration.ofSeconds(30));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Exception closing admin client", e);
+        }
+        vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
+    }
+
+    /**
+     * Finds the pods which need to be restarted according to {@link #podNeedsRestart}. Pods which cannot be read are
+     * left to the rolling algorithm to deal with.
+     *
+     * @param podIds    IDs of all pods
+     *
+     * @return  IDs of the pods which need to be restarted
+     */
+    private Set<Integer> podsToRestart(List<Integer> podIds) {
+        Set<Integer> podsToRestart = new HashSet<>(podIds.size());
+
+        for (Integer podId : podIds) {
+            try {
+                Pod pod = podOperations.get(namespace, podName(podId));
+
+                if (pod != null && !podNeedsRestart.apply(pod).isEmpty()) {
+                    podsToRestart.add(podId);
+                }
+            } catch (KubernetesClientException e) {
+                LOGGER.debugCr(reconciliation, "Failed to get pod {}", podName(podId), e);
+            }
+        }
+
+        return podsToRestart;
+    }
+
+    /**
+     * Restarts the pods which need to be restarted in batches of pods which can be restarted at the same time (see
+     * {@link KafkaAvailability#batches(Collection, int)}). Only the ready pods which need to be restarted according to
+     * {@link #podNeedsRestart} are restarted in batches. The controller, the pods which are not ready, and the pods
+     * which cannot be batched with other pods are left to the rolling algorithm which restarts the pods one by one.
+     * This method blocks.
+     *
+     * @param podIds        IDs of all pods
+     * @param podsToRestart IDs of the pods which need to be restarted
+     * @param remainingPods Gauge with the number of pods which were not rolled yet
+     *
+     * @throws ForceableProblem     When the batches could not be determined or rolled, but the pods can still be
+     *                              rolled one by one
+     * @throws UnforceableProblem   When the pods of a batch could not be restarted
+     * @throws FatalProblem         When the restarted pods of a batch did not become ready
+     * @throws InterruptedException When interrupted while waiting
+     */
+    private void rollInBatches(List<Integer> podIds, Set<Integer> podsToRestart, AtomicInteger remainingPods)
+            throws ForceableProblem, UnforceableProblem, FatalProblem, InterruptedException {
+        List<Integer> candidates = new ArrayList<>(podIds.size());
+
+        for (Integer podId : podIds) {
+            if (podsToRestart.contains(podId) && podOperations.isReady(namespace, podName(podId))) {
+                candidates.add(podId);
+            }
+        }
+
+        if (candidates.size() < 2 || !initAdminClient()) {
+            return;
+        }
+
+        // The controller is always rolled last
+        Integer controller;
+        try {
+            controller = controller(candidates.get(0), operationTimeoutMs, TimeUnit.MILLISECONDS, new RestartContext(backoffSupplier));
+        } catch (ForceableProblem | InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ForceableProblem("An error while trying to determine the cluster controller", e);
+        }
+        candidates.remove(controller);
+
+        KafkaAvailability availability = kafkaAvailability();
+        List<List<Integer>> batches = await(availability.batches(candidates, maxBatchSize), operationTimeoutMs, TimeUnit.MILLISECONDS,
+            e -> new ForceableProblem("An error while trying to determine the batches of pods", e));
+
+        for (List<Integer> batch : batches) {
+            if (batch.size() < 2) {
+                continue;
+            }
+
+            if (awaitBatchRollability(availability, batch)) {
+                restartBatch(batch);
+                remainingPods.addAndGet(-batch.size());
+            } else {
+                LOGGER.infoCr(reconciliation, "Pods {} cannot be rolled at the same time, they will be rolled one by one", batch);
+            }
+        }
+    }
+
+    /**
+     * Waits until the pods from the batch can be restarted together
+     *
+     * @return  True if the pods can be restarted. False if they were not rollable even after all retries.
+     */
+    private boolean awaitBatchRollability(KafkaAvailability availability, List<Integer> batch) throws ForceableProblem, InterruptedException {
+        BackOff backOff = backoffSupplier.get();
+
+        while (!await(availability.canRoll(batch), 60_000, TimeUnit.MILLISECONDS,
+            t -> new ForceableProblem("An error while trying to determine rollability", t))) {
+            if (backOff.done()) {
+                return false;
+            }
+
+            long delay = backOff.delayMs();
+            LOGGER.debugCr(reconciliation, "Pods {} cannot be rolled together right now, retrying after {}ms", batch, delay);
+            Thread.sleep(delay);
+        }
+
+        return true;
+    }
+
+    /**
+     * Restarts the pods from the batch at the same time and waits for them to become ready
+     */
+    private void restartBatch(List<Integer> batch) throws InterruptedException, UnforceableProblem, FatalProblem {
+        long start = System.currentTimeMillis();
+        LOGGER.infoCr(reconciliation, "Rolling pods {} at the same time", batch);
+
+        List<Future> restarts = new ArrayList<>(batch.size());
+        List<Pod> pods = new ArrayList<>(batch.size());
+
+        for (Integer podId : batch) {
+            Pod pod = podOperations.get(namespace, podName(podId));
+            pods.add(pod);
+            restarts.add(restart(pod).onSuccess(i -> {
+                restartedInBatch.add(podId);
+
+                if (rollerMetrics != null) {
+                    rollerMetrics.podRestarted(namespace, cluster, KafkaRollerMetrics.MODE_BATCH);
+                }
+            }));
+        }
+
+        await(CompositeFuture.join(restarts), operationTimeoutMs, TimeUnit.MILLISECONDS,
+            e -> new UnforceableProblem("Error while trying to restart pods " + batch, e));
+
+        List<Future> readiness = new ArrayList<>(pods.size());
+        for (Pod pod : pods) {
+            readiness.add(isReady(pod));
+        }
+
+        await(CompositeFuture.join(readiness), operationTimeoutMs, TimeUnit.MILLISECONDS,
+            e -> new FatalProblem("Error while waiting for restarted pods " + batch + " to become ready", e));
+
+        if (rollerMetrics != null) {
+            rollerMetrics.batchRestarted(namespace, cluster, System.currentTimeMillis() - start);
+        }
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -350,6 +571,12 @@ public class KafkaRoller {
             throw new UnforceableProblem("Error getting pod " + podName(podId), e);
         }
 
+        if (restartedInBatch.contains(podId)) {
+            LOGGER.debugCr(reconciliation, "Pod {} was already restarted together with other pods", podId);
+            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+            return;
+        }
+
         try {
             RestartPlan restartPlan = restartPlan(podId, pod, restartContext);
             if (restartPlan.forceRestart || restartPlan.needsRestart || restartPlan.needsReconfig) {
@@ -613,7 +840,7 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(kafkaAvailability().canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -625,6 +852,19 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Returns the KafkaAvailability used to check whether the pods can be rolled. The same instance is used for all
+     * pods, so that only the first check describes all topics.
+     */
+    private KafkaAvailability kafkaAvailability() {
+        KafkaAvailability availability = kafkaAvailability != null ? kafkaAvailability : availability(allClient);
+        if (allClient != null) {
+            kafkaAvailability = availability;
+        }
+
+        return availability;
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -637,6 +877,9 @@ public class KafkaRoller {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
         await(restart(pod), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        if (rollerMetrics != null) {
+            rollerMetrics.podRestarted(namespace, cluster, KafkaRollerMetrics.MODE_SEQUENTIAL);
+        }
         awaitReadiness(pod, timeout, unit);
     }
 
@@ -712,7 +955,7 @@ public class KafkaRoller {
     }
 
     protected KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(reconciliation, ac);
+        return new KafkaAvailability(reconciliation, ac, availabilityIndex);
     }
 
     String podName(int podId) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * Metrics showing the progress of the rolling updates done by the {@link KafkaRoller}. One instance is shared by all
+ * rolling updates, so that the gauges of each cluster are registered only once.
+ */
+public class KafkaRollerMetrics {
+    /**
+     * Rolling mode in which the pods are restarted one by one
+     */
+    static final String MODE_SEQUENTIAL = "sequential";
+
+    /**
+     * Rolling mode in which a batch of pods is restarted at the same time
+     */
+    static final String MODE_BATCH = "batch";
+
+    private final MetricsProvider metrics;
+    private final Map<String, AtomicInteger> remainingPods = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param metrics   Metrics provider used to register the metrics
+     */
+    public KafkaRollerMetrics(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
+    private static Tags tags(String namespace, String cluster) {
+        return Tags.of(Tag.of("kind", Kafka.RESOURCE_KIND), Tag.of("name", cluster), Tag.of("resource-namespace", namespace));
+    }
+
+    /**
+     * Returns the gauge with the number of pods which were not rolled yet by the running rolling update
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     *
+     * @return  Gauge with the number of remaining pods
+     */
+    AtomicInteger remainingPods(String namespace, String cluster) {
+        return remainingPods.computeIfAbsent(namespace + "/" + cluster,
+            key -> metrics.gauge(METRICS_PREFIX + "kafka.rolling.pods.remaining",
+                    "Number of Kafka pods which were not rolled yet by the running rolling update",
+                    tags(namespace, cluster)));
+    }
+
+    /**
+     * Records the restart of a pod
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     * @param mode          Rolling mode in which the pod was restarted
+     */
+    void podRestarted(String namespace, String cluster, String mode) {
+        metrics.counter(METRICS_PREFIX + "kafka.rolling.pods.restarted",
+                "Number of Kafka pods restarted by rolling updates",
+                tags(namespace, cluster).and(Tag.of("mode", mode)))
+                .increment();
+    }
+
+    /**
+     * Records the restart of a batch of pods
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     * @param durationMs    Time it took to restart the pods and wait for their readiness
+     */
+    void batchRestarted(String namespace, String cluster, long durationMs) {
+        metrics.timer(METRICS_PREFIX + "kafka.rolling.batch.duration",
+                "Time spent restarting a batch of Kafka pods and waiting for their readiness",
+                tags(namespace, cluster))
+                .record(durationMs, TimeUnit.MILLISECONDS);
+    }
+}
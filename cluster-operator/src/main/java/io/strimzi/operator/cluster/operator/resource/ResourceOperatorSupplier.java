@@ -28,6 +28,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.PooledAdminClientProvider;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -52,8 +53,13 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // Deprecation is suppressed because of KafkaConnectS2I
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -97,7 +103,7 @@ public class ResourceOperatorSupplier {
             new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                 () -> new BackOff(5_000, 2, 4)),
-                    new DefaultAdminClientProvider(),
+                    gates.pooledAdminClientsEnabled() ? new PooledAdminClientProvider(new DefaultAdminClientProvider(true), PooledAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS) : new DefaultAdminClientProvider(),
                     new DefaultZookeeperScalerProvider(),
                     new MicrometerMetricsProvider(),
                     pfa, gates, operationTimeoutMs);
@@ -211,4 +217,47 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables the shared resource cache for the resources which are read during every reconciliation. This is used
+     * when the SharedResourceCache feature gate is enabled.
+     *
+     * @param namespace     Namespace which should be cached or {@code *} for all namespaces
+     *
+     * @return  Future which completes when all the caches are synced
+     */
+    public Future<Void> enableCaches(String namespace) {
+        List<Future> futures = new ArrayList<>();
+
+        futures.add(kafkaOperator.enableCache(namespace, metricsProvider));
+        futures.add(connectOperator.enableCache(namespace, metricsProvider));
+        futures.add(mirrorMakerOperator.enableCache(namespace, metricsProvider));
+        futures.add(kafkaBridgeOperator.enableCache(namespace, metricsProvider));
+        futures.add(kafkaConnectorOperator.enableCache(namespace, metricsProvider));
+        futures.add(mirrorMaker2Operator.enableCache(namespace, metricsProvider));
+        futures.add(kafkaRebalanceOperator.enableCache(namespace, metricsProvider));
+        futures.add(secretOperations.enableCache(namespace, metricsProvider));
+        futures.add(serviceOperations.enableCache(namespace, metricsProvider));
+        futures.add(configMapOperations.enableCache(namespace, metricsProvider));
+        futures.add(serviceAccountOperations.enableCache(namespace, metricsProvider));
+        futures.add(pvcOperations.enableCache(namespace, metricsProvider));
+        futures.add(deploymentOperations.enableCache(namespace, metricsProvider));
+        futures.add(zkSetOperations.enableCache(namespace, metricsProvider));
+        futures.add(kafkaSetOperations.enableCache(namespace, metricsProvider));
+        futures.add(podOperations.enableCache(namespace, metricsProvider));
+        futures.add(networkPolicyOperator.enableCache(namespace, metricsProvider));
+        futures.add(podDisruptionBudgetOperator.enableCache(namespace, metricsProvider));
+        futures.add(roleBindingOperations.enableCache(namespace, metricsProvider));
+        futures.add(roleOperations.enableCache(namespace, metricsProvider));
+
+        if (connectS2IOperator != null) {
+            futures.add(connectS2IOperator.enableCache(namespace, metricsProvider));
+        }
+
+        if (routeOperations != null) {
+            futures.add(routeOperations.enableCache(namespace, metricsProvider));
+        }
+
+        return CompositeFuture.all(futures).map((Void) null);
+    }
 }
@@ -72,7 +72,10 @@ public class StatefulSetDiff extends AbstractJsonDiff {
     public StatefulSetDiff(Reconciliation reconciliation, StatefulSet current, StatefulSet desired) {
         JsonNode source = patchMapper().valueToTree(current);
         JsonNode target = patchMapper().valueToTree(desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        // The full diff is needed only to find out what changed. Most reconciliations do not change the StatefulSet, so
+        // it is computed only when there is a change which is not ignorable.
+        JsonNode diff = firstDifference(source, target, IGNORABLE_PATHS) == null
+                ? patchMapper().createArrayNode() : JsonDiff.asJson(source, target);
         int num = 0;
         boolean changesVolumeClaimTemplate = false;
         boolean changesVolumeSize = false;
@@ -21,6 +21,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -32,6 +33,8 @@ import java.security.cert.CertificateFactory;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,6 +55,8 @@ public class ZookeeperLeaderFinder {
     private final Vertx vertx;
     final SecretOperator secretOperator;
     private final Supplier<BackOff> backOffSupplier;
+    // Name of the last known leader pod for each cluster (namespace/name)
+    private final Map<String, String> leaders = new ConcurrentHashMap<>();
 
     public ZookeeperLeaderFinder(Vertx vertx, SecretOperator secretOperator, Supplier<BackOff> backOffSupplier) {
         this.vertx = vertx;
@@ -155,14 +160,81 @@ public class ZookeeperLeaderFinder {
         });
 
     }
+    /**
+     * Finds the leader using a single NetClient for all the probes. The last known leader of the cluster is probed
+     * first. Only when it is not the leader anymore are all pods probed.
+     */
     private Future<Integer> zookeeperLeader(Reconciliation reconciliation, String cluster, String namespace, List<Pod> pods,
                                             NetClientOptions netClientOptions) {
+        String clusterKey = namespace + "/" + cluster;
+        NetClient netClient = vertx.createNetClient(netClientOptions);
+
+        return cachedZookeeperLeader(reconciliation, clusterKey, pods, netClient)
+                .compose(leader -> {
+                    if (leader != UNKNOWN_LEADER) {
+                        return Future.succeededFuture(leader);
+                    } else {
+                        return zookeeperLeaderWithBackOff(reconciliation, cluster, namespace, pods, netClient);
+                    }
+                })
+                .onComplete(leader -> {
+                    netClient.close();
+
+                    if (leader.succeeded() && leader.result() != UNKNOWN_LEADER) {
+                        leaders.put(clusterKey, pods.get(leader.result()).getMetadata().getName());
+                    } else {
+                        leaders.remove(clusterKey);
+                    }
+                });
+    }
+
+    /**
+     * Checks whether the last known leader of the cluster is still the leader.
+     *
+     * @return  Future with the index of the last known leader if it is still the leader or {@link #UNKNOWN_LEADER}
+     *          otherwise
+     */
+    private Future<Integer> cachedZookeeperLeader(Reconciliation reconciliation, String clusterKey, List<Pod> pods, NetClient netClient) {
+        String cachedLeader = leaders.get(clusterKey);
+
+        if (cachedLeader != null) {
+            for (int i = 0; i < pods.size(); i++) {
+                final int podNum = i;
+                Pod pod = pods.get(i);
+
+                if (cachedLeader.equals(pod.getMetadata().getName())) {
+                    LOGGER.debugCr(reconciliation, "Checking whether the last known leader {} is still leader", cachedLeader);
+
+                    try {
+                        return isLeader(reconciliation, pod, netClient)
+                                .map(isLeader -> {
+                                    if (isLeader != null && isLeader) {
+                                        LOGGER.infoCr(reconciliation, "Pod {} is still leader", cachedLeader);
+                                        return podNum;
+                                    } else {
+                                        LOGGER.infoCr(reconciliation, "Pod {} is not a leader anymore", cachedLeader);
+                                        return UNKNOWN_LEADER;
+                                    }
+                                })
+                                .otherwise(UNKNOWN_LEADER);
+                    } catch (Throwable t) {
+                        return Future.succeededFuture(UNKNOWN_LEADER);
+                    }
+                }
+            }
+        }
+
+        return Future.succeededFuture(UNKNOWN_LEADER);
+    }
+
+    private Future<Integer> zookeeperLeaderWithBackOff(Reconciliation reconciliation, String cluster, String namespace, List<Pod> pods,
+                                                       NetClient netClient) {
         Promise<Integer> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(reconciliation, pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(reconciliation, pods, netClient).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (leader.result() != UNKNOWN_LEADER) {
                             result.complete(leader.result());
@@ -204,34 +276,36 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Reconciliation, Pod, NetClientOptions)}.
+     * Asynchronously find the leader by testing all pods in the given list in parallel
+     * using {@link #isLeader(Reconciliation, Pod, NetClient)}. The returned future completes as soon as one
+     * of the pods reports that it is the leader.
      */
-    private Future<Integer> zookeeperLeader(Reconciliation reconciliation, List<Pod> pods, NetClientOptions netClientOptions) {
+    private Future<Integer> zookeeperLeader(Reconciliation reconciliation, List<Pod> pods, NetClient netClient) {
         try {
-            Future<Integer> f = Future.succeededFuture(UNKNOWN_LEADER);
+            Promise<Integer> promise = Promise.promise();
+            AtomicInteger remaining = new AtomicInteger(pods.size());
+
             for (int i = 0; i < pods.size(); i++) {
                 final int podNum = i;
                 Pod pod = pods.get(i);
                 String podName = pod.getMetadata().getName();
-                f = f.compose(leader -> {
-                    if (leader == UNKNOWN_LEADER) {
-                        LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
-                        return isLeader(reconciliation, pod, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
-                                return podNum;
-                            } else {
-                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
+
+                LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
+                isLeader(reconciliation, pod, netClient).onComplete(isLeader -> {
+                    if (isLeader.succeeded() && isLeader.result() != null && isLeader.result()) {
+                        LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
+                        promise.tryComplete(podNum);
                     } else {
-                        return Future.succeededFuture(leader);
+                        LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
+                    }
+
+                    if (remaining.decrementAndGet() == 0) {
+                        promise.tryComplete(UNKNOWN_LEADER);
                     }
                 });
             }
-            return f;
+
+            return promise.future();
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
@@ -240,54 +314,52 @@ public class ZookeeperLeaderFinder {
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
-    protected Future<Boolean> isLeader(Reconciliation reconciliation, Pod pod, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Reconciliation reconciliation, Pod pod, NetClient netClient) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(pod);
         int port = port(pod);
         LOGGER.debugCr(reconciliation, "Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
-            .connect(port, host, ar -> {
-                if (ar.failed()) {
-                    LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
-                    promise.fail(ar.cause());
-                } else {
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: connected", host, port);
-                    NetSocket socket = ar.result();
-                    socket.exceptionHandler(ex -> {
-                        if (!promise.tryFail(ex)) {
-                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
-                                    host, port, pod.getMetadata().getName(), ex);
-                        }
-                    });
-                    StringBuilder sb = new StringBuilder();
-                    // We could use socket idle timeout, but this times out even if the server just responds
-                    // very slowly
-                    long timerId = vertx.setTimer(10_000, tid -> {
-                        LOGGER.debugCr(reconciliation, "ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
-                                host, port, socket.remoteAddress());
-                        socket.close();
-                    });
-                    socket.closeHandler(v -> {
-                        vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        LOGGER.debugCr(reconciliation, "ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!promise.tryComplete(isLeader)) {
-                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring leader result: Future is already complete",
-                                    host, port);
-                        }
-                    });
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: upgrading to TLS", host, port);
-                    socket.handler(buffer -> {
-                        LOGGER.traceCr(reconciliation, "buffer: {}", buffer);
-                        sb.append(buffer.toString());
-                    });
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: sending stat", host, port);
-                    socket.write("stat");
-                }
-
-            });
+        netClient.connect(port, host, ar -> {
+            if (ar.failed()) {
+                LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
+                promise.fail(ar.cause());
+            } else {
+                LOGGER.debugCr(reconciliation, "ZK {}:{}: connected", host, port);
+                NetSocket socket = ar.result();
+                socket.exceptionHandler(ex -> {
+                    if (!promise.tryFail(ex)) {
+                        LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
+                                host, port, pod.getMetadata().getName(), ex);
+                    }
+                });
+                StringBuilder sb = new StringBuilder();
+                // We could use socket idle timeout, but this times out even if the server just responds
+                // very slowly
+                long timerId = vertx.setTimer(10_000, tid -> {
+                    LOGGER.debugCr(reconciliation, "ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
+                            host, port, socket.remoteAddress());
+                    socket.close();
+                });
+                socket.closeHandler(v -> {
+                    vertx.cancelTimer(timerId);
+                    Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
+                    boolean isLeader = matcher.find();
+                    LOGGER.debugCr(reconciliation, "ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
+                    if (!promise.tryComplete(isLeader)) {
+                        LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring leader result: Future is already complete",
+                                host, port);
+                    }
+                });
+                LOGGER.debugCr(reconciliation, "ZK {}:{}: upgrading to TLS", host, port);
+                socket.handler(buffer -> {
+                    LOGGER.traceCr(reconciliation, "buffer: {}", buffer);
+                    sb.append(buffer.toString());
+                });
+                LOGGER.debugCr(reconciliation, "ZK {}:{}: sending stat", host, port);
+                socket.write("stat");
+            }
+        });
         return promise.future().recover(error -> {
             LOGGER.debugOp("ZK {}:{}: Error trying to determine whether leader ({}) => not leader", host, port, error);
             return Future.succeededFuture(Boolean.FALSE);
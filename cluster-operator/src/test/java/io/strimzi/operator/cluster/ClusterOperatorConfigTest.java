@@ -82,7 +82,10 @@ public class ClusterOperatorConfigTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                0,
+                1,
+                8);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -356,6 +359,33 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse labels from STRIMZI_CUSTOM_RESOURCE_SELECTOR"));
     }
 
+    @Test
+    public void testMaxConcurrentReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentReconciliations(), is(ClusterOperatorConfig.DEFAULT_STRIMZI_MAX_CONCURRENT_RECONCILIATIONS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "5");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentReconciliations(), is(5));
+    }
+
+    @Test
+    public void testKafkaRollingUpdateMaxBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollingUpdateMaxBatchSize(), is(ClusterOperatorConfig.DEFAULT_STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_UPDATE_MAX_BATCH_SIZE, "3");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollingUpdateMaxBatchSize(), is(3));
+    }
+
+    @Test
+    public void testKeyPairPoolSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKeyPairPoolSize(), is(ClusterOperatorConfig.DEFAULT_STRIMZI_KEY_PAIR_POOL_SIZE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "0");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKeyPairPoolSize(), is(0));
+    }
+
     @Test
     public void testRbacScopeValueOf() {
         assertThat(ClusterOperatorConfig.RbacScope.valueOf("NAMESPACE"), is(ClusterOperatorConfig.RbacScope.NAMESPACE));
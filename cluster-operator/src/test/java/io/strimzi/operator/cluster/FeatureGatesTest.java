@@ -60,6 +60,18 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("  +ControlPlaneListener    ,    +ServiceAccountPatching").serviceAccountPatchingEnabled(), is(true));
         assertThat(new FeatureGates("+ServiceAccountPatching,-ControlPlaneListener").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates("+ServiceAccountPatching,-ControlPlaneListener").serviceAccountPatchingEnabled(), is(true));
+        assertThat(new FeatureGates("+SharedResourceCache").sharedResourceCacheEnabled(), is(true));
+        assertThat(new FeatureGates("+ControlPlaneListener,-SharedResourceCache").sharedResourceCacheEnabled(), is(false));
+        assertThat(new FeatureGates("+SpreadPeriodicReconciliation").spreadPeriodicReconciliationEnabled(), is(true));
+        assertThat(new FeatureGates("+SharedResourceCache").spreadPeriodicReconciliationEnabled(), is(false));
+        assertThat(new FeatureGates("+ReconciliationFastPath").reconciliationFastPathEnabled(), is(true));
+        assertThat(new FeatureGates("-ReconciliationFastPath").reconciliationFastPathEnabled(), is(false));
+        assertThat(new FeatureGates("+ParallelKafkaReconciliation").parallelKafkaReconciliationEnabled(), is(true));
+        assertThat(new FeatureGates("+ReconciliationFastPath").parallelKafkaReconciliationEnabled(), is(false));
+        assertThat(new FeatureGates("+PooledAdminClients").pooledAdminClientsEnabled(), is(true));
+        assertThat(new FeatureGates("+ParallelKafkaReconciliation").pooledAdminClientsEnabled(), is(false));
+        assertThat(new FeatureGates("+InProcessCertManager").inProcessCertManagerEnabled(), is(true));
+        assertThat(new FeatureGates("+PooledAdminClients").inProcessCertManagerEnabled(), is(false));
     }
 
     @ParallelTest
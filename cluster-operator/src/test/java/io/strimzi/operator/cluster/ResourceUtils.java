@@ -72,6 +72,7 @@ import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -87,6 +88,7 @@ import io.strimzi.operator.common.operator.resource.NodeOperator;
 import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.RoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.RoleOperator;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
@@ -95,9 +97,10 @@ import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.test.TestUtils;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import org.apache.kafka.clients.admin.Admin;
@@ -121,6 +124,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -622,7 +626,7 @@ public class ResourceUtils {
         return new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Reconciliation reconciliation, Pod pod, NetClientOptions options) {
+                protected Future<Boolean> isLeader(Reconciliation reconciliation, Pod pod, NetClient netClient) {
                     return Future.succeededFuture(true);
                 }
 
@@ -803,9 +807,50 @@ public class ResourceUtils {
                     .endSpec()
                     .build());
 
+        mockReconcileAll(supplier.serviceOperations);
+        mockReconcileAll(supplier.ingressOperations);
+        mockReconcileAll(supplier.ingressV1Beta1Operations);
+        if (openShift) {
+            mockReconcileAll(supplier.routeOperations);
+        }
+
         return supplier;
     }
 
+    /**
+     * Makes the reconcileAll method of the mocked operator delegate to its mocked listAsync and reconcile methods, so
+     * that the tests can keep mocking and verifying the individual resources.
+     *
+     * @param mockOperator  Mocked resource operator
+     * @param <T>           Kubernetes resource type
+     */
+    @SuppressWarnings("rawtypes")
+    private static <T extends HasMetadata> void mockReconcileAll(AbstractResourceOperator<?, T, ?, ?> mockOperator) {
+        when(mockOperator.reconcileAll(any(), anyString(), any(), any())).thenAnswer(invocation -> {
+            Reconciliation reconciliation = invocation.getArgument(0);
+            String namespace = invocation.getArgument(1);
+            List<T> desired = invocation.getArgument(3);
+
+            return mockOperator.listAsync(namespace, invocation.<Labels>getArgument(2))
+                    .compose(current -> {
+                        List<Future> futures = new ArrayList<>();
+                        List<String> currentNames = current.stream().map(resource -> resource.getMetadata().getName()).collect(Collectors.toList());
+
+                        for (T resource : desired) {
+                            currentNames.remove(resource.getMetadata().getName());
+                            futures.add(mockOperator.reconcile(reconciliation, namespace, resource.getMetadata().getName(), resource));
+                        }
+
+                        for (String name : currentNames) {
+                            futures.add(mockOperator.reconcile(reconciliation, namespace, name, null));
+                        }
+
+                        return CompositeFuture.join(futures)
+                                .map(composite -> composite.<ReconcileResult<T>>list());
+                    });
+        });
+    }
+
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions, long operationTimeoutMs) {
         return new ClusterOperatorConfig(
                 singleton("dummy"),
@@ -821,7 +866,10 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                0,
+                1,
+                8);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -839,7 +887,10 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.NAMESPACE,
                 null,
                 "",
-                10);
+                10,
+                0,
+                1,
+                8);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import io.vertx.junit5.VertxExtension;
@@ -19,18 +20,24 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 
 @ParallelSuite
 @ExtendWith(VertxExtension.class)
 public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesWithNullSecret() throws IOException {
-        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, new MockCertManager(), null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
             @Override
@@ -87,7 +94,7 @@ public class CaRenewalTest {
 
     @ParallelTest
     public void renewalOfStatefulSetCertificatesWithCaRenewal() throws IOException {
-        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, new MockCertManager(), null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
             @Override
@@ -163,7 +170,7 @@ public class CaRenewalTest {
 
     @ParallelTest
     public void renewalOfStatefulSetCertificatesDelayedRenewalInWindow() throws IOException {
-        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, new MockCertManager(), null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
             @Override
@@ -249,7 +256,7 @@ public class CaRenewalTest {
 
     @ParallelTest
     public void renewalOfStatefulSetCertificatesDelayedRenewalOutsideWindow() throws IOException {
-        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, new MockCertManager(), null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
             @Override
@@ -332,4 +339,76 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void generationOfStatefulSetCertificatesInParallel() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Set<File> usedKeyFiles = ConcurrentHashMap.newKeySet();
+        Set<String> usedThreads = ConcurrentHashMap.newKeySet();
+
+        MockCertManager certManager = new MockCertManager() {
+            @Override
+            public Executor executor() {
+                return executor;
+            }
+        };
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, certManager, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                usedKeyFiles.add(keyFile);
+                usedThreads.add(Thread.currentThread().getName());
+
+                return new CertAndKey(
+                        ("new-key-" + subject.commonName()).getBytes(),
+                        ("new-cert-" + subject.commonName()).getBytes(),
+                        null,
+                        ("new-keystore-" + subject.commonName()).getBytes(),
+                        "new-password-" + subject.commonName()
+                );
+            }
+        };
+
+        int replicas = 6;
+        Function<Integer, Subject> subjectFn = i -> {
+            Subject subject = new Subject();
+            subject.setCommonName("pod" + i);
+            return subject;
+        };
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        try {
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                    replicas,
+                    subjectFn,
+                    null,
+                    podNameFn,
+                    true);
+
+            assertThat(newCerts.size(), is(replicas));
+            for (int i = 0; i < replicas; i++) {
+                assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+                assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+            }
+
+            // Each certificate uses its own temporary files and none of them runs in the calling thread
+            assertThat(usedKeyFiles.size(), is(replicas));
+            assertThat(usedThreads.size(), greaterThan(0));
+            assertThat(usedThreads.contains(Thread.currentThread().getName()), is(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.strimzi.test.annotations.ParallelTest;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ParallelSuite
@@ -94,4 +95,9 @@ public class KafkaConfigurationTests {
     public void validVersion() {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
+
+    @ParallelTest
+    public void configModelIsReadOnce() {
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(KafkaConfiguration.readConfigModel(kafkaVersion))));
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaConnectHttpClientTest {
+    private Vertx vertx;
+    private HttpServer server;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeEach
+    public void before(VertxTestContext context) {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> {
+                    if ("/connectors".equals(request.path())) {
+                        request.response().putHeader("Content-Type", "application/json").end("[\"my-connector\"]");
+                    } else {
+                        request.response().setStatusCode(500).end();
+                    }
+                });
+        server.listen(0, "localhost", context.succeeding(s -> context.completeNow()));
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testConnectionIsReusedAndRequestsAreMeasured(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaConnectHttpClient httpClient = new KafkaConnectHttpClient(vertx, new MicrometerMetricsProvider(registry), "KafkaConnect");
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, httpClient);
+        int port = server.actualPort();
+        Checkpoint async = context.checkpoint();
+
+        api.list("localhost", port)
+            .compose(ignored -> api.list("localhost", port))
+            .compose(ignored -> api.list("localhost", port))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors, contains("my-connector"));
+                assertThat(connections.get(), is(1));
+                assertThat(httpClient.inFlightRequests("listConnectors"), is(0));
+                assertThat(registry.get("strimzi.connect.rest.requests.duration")
+                        .tag("kind", "KafkaConnect")
+                        .tag("endpoint", "listConnectors")
+                        .timer().count(), is(3L));
+                assertThat(registry.get("strimzi.connect.rest.requests.inflight")
+                        .tag("endpoint", "listConnectors")
+                        .gauge().value(), is(0.0));
+
+                httpClient.close();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedRequestsAreMeasured(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KafkaConnectHttpClient httpClient = new KafkaConnectHttpClient(vertx, new MicrometerMetricsProvider(registry), "KafkaConnect");
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, httpClient);
+        Checkpoint async = context.checkpoint();
+
+        api.listConnectorPlugins(Reconciliation.DUMMY_RECONCILIATION, "localhost", server.actualPort())
+            .onComplete(context.failing(error -> context.verify(() -> {
+                assertThat(httpClient.inFlightRequests("listConnectorPlugins"), is(0));
+                assertThat(registry.get("strimzi.connect.rest.requests.duration")
+                        .tag("endpoint", "listConnectorPlugins")
+                        .timer().count(), is(1L));
+
+                httpClient.close();
+                async.flag();
+            })));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.api.kafka.model.CertificateAuthorityBuilder;
+import io.strimzi.api.kafka.model.ExternalLoggingBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class KafkaReconciliationDigestTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster";
+
+    private static final PlatformFeaturesAvailability PFA = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_16);
+
+    private static Kafka kafka(long generation) {
+        Kafka kafka = ResourceUtils.createKafka(NAMESPACE, NAME, 3, "my-image", 120, 30);
+
+        return new KafkaBuilder(kafka)
+                .editMetadata()
+                    .withGeneration(generation)
+                .endMetadata()
+                .editSpec()
+                    .editKafka()
+                        .withLogging(new ExternalLoggingBuilder()
+                                .withNewValueFrom()
+                                    .withConfigMapKeyRef(new ConfigMapKeySelectorBuilder().withName("kafka-logging").withKey("log4j.properties").build())
+                                .endValueFrom()
+                                .build())
+                        .editListeners()
+                            .addToGenericKafkaListeners(new GenericKafkaListenerBuilder()
+                                    .withName("external")
+                                    .withPort(9094)
+                                    .withType(KafkaListenerType.ROUTE)
+                                    .withTls(true)
+                                    .withNewConfiguration()
+                                        .withNewBrokerCertChainAndKey()
+                                            .withSecretName("custom-cert")
+                                            .withKey("tls.key")
+                                            .withCertificate("tls.crt")
+                                        .endBrokerCertChainAndKey()
+                                    .endConfiguration()
+                                    .build())
+                        .endListeners()
+                    .endKafka()
+                .endSpec()
+                .build();
+    }
+
+    private static Secret secret(String name, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResourceOperatorSupplier supplier(List<Secret> ownedSecrets, Secret customCert) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        for (AbstractResourceOperator<?, ? extends HasMetadata, ?, ?> op : List.of(supplier.configMapOperations, supplier.serviceOperations,
+                supplier.serviceAccountOperations, supplier.kafkaSetOperations, supplier.deploymentOperations, supplier.podOperations,
+                supplier.pvcOperations, supplier.networkPolicyOperator, supplier.podDisruptionBudgetOperator, supplier.roleOperations,
+                supplier.roleBindingOperations, supplier.ingressOperations, supplier.ingressV1Beta1Operations)) {
+            when(((AbstractResourceOperator<?, HasMetadata, ?, ?>) op).listAsync(anyString(), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        }
+
+        when(supplier.secretOperations.listAsync(anyString(), eq(Labels.forStrimziCluster(NAME).withStrimziKind(Kafka.RESOURCE_KIND))))
+                .thenReturn(Future.succeededFuture(ownedSecrets));
+        when(supplier.secretOperations.getAsync(eq(NAMESPACE), eq("custom-cert"))).thenReturn(Future.succeededFuture(customCert));
+        when(supplier.configMapOperations.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(null));
+
+        return supplier;
+    }
+
+    @Test
+    public void testCollectReferences() {
+        Set<String> configMaps = new TreeSet<>();
+        Set<String> secrets = new TreeSet<>();
+
+        KafkaReconciliationDigest.collectReferences(Serialization.jsonMapper().valueToTree(kafka(1).getSpec()), configMaps, secrets);
+
+        assertThat(configMaps, contains("kafka-logging"));
+        assertThat(secrets, contains("custom-cert"));
+    }
+
+    @Test
+    public void testDigestIsStable() {
+        ResourceOperatorSupplier supplier = supplier(List.of(secret("my-cluster-cluster-ca-cert", "1")), secret("custom-cert", "1"));
+        KafkaReconciliationDigest digest = new KafkaReconciliationDigest(PFA, supplier);
+
+        assertThat(digest.compute(kafka(1)).result(), is(digest.compute(kafka(1)).result()));
+    }
+
+    @Test
+    public void testDigestChanges() {
+        String original = new KafkaReconciliationDigest(PFA, supplier(List.of(secret("my-cluster-cluster-ca-cert", "1")), secret("custom-cert", "1")))
+                .compute(kafka(1)).result();
+
+        // Generation of the Kafka resource changed
+        assertThat(new KafkaReconciliationDigest(PFA, supplier(List.of(secret("my-cluster-cluster-ca-cert", "1")), secret("custom-cert", "1")))
+                .compute(kafka(2)).result(), is(not(original)));
+
+        // Owned resource changed
+        assertThat(new KafkaReconciliationDigest(PFA, supplier(List.of(secret("my-cluster-cluster-ca-cert", "2")), secret("custom-cert", "1")))
+                .compute(kafka(1)).result(), is(not(original)));
+
+        // Referenced resource changed
+        assertThat(new KafkaReconciliationDigest(PFA, supplier(List.of(secret("my-cluster-cluster-ca-cert", "1")), secret("custom-cert", "2")))
+                .compute(kafka(1)).result(), is(not(original)));
+
+        // Referenced resource was deleted
+        assertThat(new KafkaReconciliationDigest(PFA, supplier(List.of(secret("my-cluster-cluster-ca-cert", "1")), null))
+                .compute(kafka(1)).result(), is(not(original)));
+    }
+
+    @Test
+    public void testNoDigestWhenReconciliationDependsOnTime() {
+        // The mock CA certificate expires in 2118
+        Secret caCert = new SecretBuilder(secret("my-cluster-cluster-ca-cert", "1"))
+                .withData(Map.of("ca.crt", MockCertManager.clusterCaCert()))
+                .build();
+
+        assertThat(KafkaReconciliationDigest.dependsOnTime(kafka(1), List.of(caCert)), is(false));
+
+        // Maintenance time windows are configured
+        Kafka withMaintenanceWindows = new KafkaBuilder(kafka(1))
+                .editSpec()
+                    .withMaintenanceTimeWindows("* * 8-10 * * ?")
+                .endSpec()
+                .build();
+        assertThat(KafkaReconciliationDigest.dependsOnTime(withMaintenanceWindows, List.of(caCert)), is(true));
+
+        // The certificate is within its renewal period
+        Kafka withLongRenewal = new KafkaBuilder(kafka(1))
+                .editSpec()
+                    .withClusterCa(new CertificateAuthorityBuilder().withRenewalDays(40_000).build())
+                .endSpec()
+                .build();
+        assertThat(KafkaReconciliationDigest.dependsOnTime(withLongRenewal, List.of(caCert)), is(true));
+        assertThat(new KafkaReconciliationDigest(PFA, supplier(List.of(caCert), secret("custom-cert", "1")))
+                .compute(withLongRenewal).result(), is(nullValue()));
+    }
+
+    @Test
+    public void testOnlyCaCertificatesMakeReconciliationDependOnTime() {
+        Kafka withLongRenewal = new KafkaBuilder(kafka(1))
+                .editSpec()
+                    .withClusterCa(new CertificateAuthorityBuilder().withRenewalDays(40_000).build())
+                .endSpec()
+                .build();
+
+        // Broker certificates are signed by the CA and expire after it
+        Secret brokerCerts = new SecretBuilder(secret("my-cluster-kafka-brokers", "1"))
+                .withData(Map.of("my-cluster-kafka-0.crt", MockCertManager.clusterCaCert()))
+                .build();
+
+        assertThat(new KafkaReconciliationDigest(PFA, supplier(List.of(brokerCerts), secret("custom-cert", "1")))
+                .compute(withLongRenewal).result(), is(not(nullValue())));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private final MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+    private final Function<String, Timer> timers = step -> metrics.timer("step.duration", "Step duration", Tags.of(Tag.of("step", step)));
+
+    private final List<String> started = new ArrayList<>();
+    private final List<Promise<Void>> running = new ArrayList<>();
+
+    private Future<?> step(String name) {
+        Promise<Void> promise = Promise.promise();
+        started.add(name);
+        running.add(promise);
+        return promise.future();
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, true, timers)
+                .step("a", () -> step("a"))
+                .step("b", () -> step("b"), "a")
+                .step("c", () -> step("c"), "a")
+                .step("d", () -> step("d"), "b", "c")
+                .execute();
+
+        assertThat(started, contains("a"));
+
+        running.get(0).complete();
+        assertThat(started, contains("a", "b", "c"));
+
+        running.get(2).complete();
+        assertThat(started, contains("a", "b", "c"));
+
+        running.get(1).complete();
+        assertThat(started, contains("a", "b", "c", "d"));
+
+        running.get(3).complete();
+        assertThat(result.succeeded(), is(true));
+        assertThat(metrics.meterRegistry().get("step.duration").tag("step", "d").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testSerialGraphRunsStepsInOrder() {
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, false, timers)
+                .step("a", () -> step("a"))
+                .step("b", () -> step("b"), "a")
+                .step("c", () -> step("c"), "a")
+                .execute();
+
+        running.get(0).complete();
+        assertThat(started, contains("a", "b"));
+
+        running.get(1).complete();
+        assertThat(started, contains("a", "b", "c"));
+
+        running.get(2).complete();
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailureSkipsDependentSteps() {
+        AtomicInteger independentCompleted = new AtomicInteger();
+
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, true, timers)
+                .step("a", () -> step("a"))
+                .step("b", () -> step("b"), "a")
+                .step("c", () -> step("c").onSuccess(i -> independentCompleted.incrementAndGet()), "a")
+                .step("d", () -> step("d"), "b")
+                .execute();
+
+        running.get(0).complete();
+        running.get(1).fail(new RuntimeException("b failed"));
+
+        // The graph waits for the independent step which is still running
+        assertThat(result.isComplete(), is(false));
+
+        running.get(2).complete();
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("b failed"));
+        assertThat(started, contains("a", "b", "c"));
+        assertThat(independentCompleted.get(), is(1));
+    }
+
+    @Test
+    public void testExceptionInStepFailsGraph() {
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, true, timers)
+                .step("a", () -> {
+                    throw new IllegalStateException("boom");
+                })
+                .execute();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("boom"));
+    }
+
+    @Test
+    public void testInvalidDependencies() {
+        ReconciliationGraph graph = new ReconciliationGraph(RECONCILIATION, true, timers)
+                .step("a", () -> step("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", () -> step("a")));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", () -> step("b"), "c"));
+    }
+}
@@ -14,10 +14,13 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -26,6 +29,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +38,21 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -129,6 +139,11 @@ public class KafkaAvailabilityTest {
                 KSB.this.nodes.put(id, new Node(id, "localhost", 1234 + id));
             }
 
+            BSB rack(String rack) {
+                KSB.this.nodes.put(id, new Node(id, "localhost", 1234 + id, rack));
+                return this;
+            }
+
             KSB endBroker() {
                 return KSB.this;
             }
@@ -137,11 +152,21 @@ public class KafkaAvailabilityTest {
         private Map<String, TSB> topics = new HashMap<>();
         private Map<Integer, BSB> brokers = new HashMap<>();
         private Map<Integer, Node> nodes = new HashMap<>();
+        private Set<String> reassigning = new HashSet<>();
 
         TSB addNewTopic(String name, boolean internal) {
             return topics.computeIfAbsent(name, n -> new TSB(n, internal));
         }
 
+        KSB reassigning(String... topics) {
+            reassigning.addAll(Arrays.asList(topics));
+            return this;
+        }
+
+        BSB addNewBroker(int id) {
+            return brokers.computeIfAbsent(id, i -> new BSB(i));
+        }
+
         KSB addBroker(int... ids) {
             for (int id : ids) {
                 brokers.computeIfAbsent(id, i -> new BSB(i));
@@ -267,6 +292,15 @@ public class KafkaAvailabilityTest {
 
             mockDescribeConfigs(ac);
 
+            when(ac.listPartitionReassignments()).thenAnswer(invocation -> {
+                ListPartitionReassignmentsResult lprr = mock(ListPartitionReassignmentsResult.class);
+                Map<TopicPartition, PartitionReassignment> reassignments = reassigning.stream().collect(Collectors.toMap(
+                    topic -> new TopicPartition(topic, 0),
+                    topic -> new PartitionReassignment(List.of(), List.of(), List.of())));
+                when(lprr.reassignments()).thenReturn(KafkaFuture.completedFuture(reassignments));
+                return lprr;
+            });
+
             return ac;
         }
     }
@@ -640,4 +674,216 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    private static KSB rackAwareCluster(int... p0Isr) {
+        return new KSB()
+            .addNewBroker(0).rack("a").endBroker()
+            .addNewBroker(1).rack("b").endBroker()
+            .addNewBroker(2).rack("c").endBroker()
+            .addNewBroker(3).rack("a").endBroker()
+            .addNewBroker(4).rack("b").endBroker()
+            .addNewBroker(5).rack("c").endBroker()
+            .addNewTopic("A", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                .addNewPartition(0)
+                    .replicaOn(0, 1, 2)
+                    .leader(p0Isr[0])
+                    .isr(p0Isr)
+                .endPartition()
+                .addNewPartition(1)
+                    .replicaOn(3, 4, 5)
+                    .leader(3)
+                    .isr(3, 4, 5)
+                .endPartition()
+            .endTopic()
+            .addNewTopic("B", false)
+                .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                .addNewPartition(0)
+                    .replicaOn(0, 4, 5)
+                    .leader(0)
+                    .isr(0, 4, 5)
+                .endPartition()
+                .addNewPartition(1)
+                    .replicaOn(3, 1, 2)
+                    .leader(3)
+                    .isr(3, 1, 2)
+                .endPartition()
+            .endTopic();
+    }
+
+    @Test
+    public void testBatchesFollowRacks(VertxTestContext context) {
+        KSB ksb = rackAwareCluster(0, 1, 2);
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(2);
+        kafkaAvailability.batches(List.of(5, 4, 3, 2, 1, 0), 3).onComplete(context.succeeding(batches -> context.verify(() -> {
+            // No partition has more than one replica in the same rack
+            assertThat(batches, is(List.of(List.of(0, 3), List.of(1, 4), List.of(2, 5))));
+            a.flag();
+        })));
+        kafkaAvailability.batches(List.of(0, 1, 3), 1).onComplete(context.succeeding(batches -> context.verify(() -> {
+            assertThat(batches, is(List.of(List.of(0), List.of(3), List.of(1))));
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testCanRollBatch(VertxTestContext context) {
+        // Broker 0 is out of sync, so the partition A-0 cannot lose one more in-sync replica
+        KSB ksb = rackAwareCluster(1, 2);
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(2);
+        kafkaAvailability.canRoll(List.of(1, 4)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "brokers 1 and 4 should not be rollable, because A-0 would be below min ISR");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(List.of(0, 3)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "brokers 0 and 3 should be rollable, because they share no partition");
+            a.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexIsReusedBetweenChecks(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailabilityIndex index = new KafkaAvailabilityIndex();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac, index);
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // The ISR of B shrinks, which has to be noticed when broker 2 is checked
+                    ksb.addNewTopic("B", false).addNewPartition(0).leader(2).isr(2);
+
+                    return kafkaAvailability.canRoll(2);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll));
+
+                    // Another rolling update of the same cluster reuses the index and the cached configurations
+                    return new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac, index).canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+
+                    ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(3)).describeTopics(describedTopics.capture());
+                    assertThat(describedTopics.getAllValues().get(0), containsInAnyOrder("A", "B"));
+                    assertThat(describedTopics.getAllValues().get(1), containsInAnyOrder("B"));
+                    assertThat(describedTopics.getAllValues().get(2), containsInAnyOrder("A", "B"));
+
+                    // Each topic configuration was described only once
+                    ArgumentCaptor<Collection<ConfigResource>> describedConfigs = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeConfigs(describedConfigs.capture());
+                    assertThat(describedConfigs.getAllValues().get(0), containsInAnyOrder(new ConfigResource(ConfigResource.Type.TOPIC, "A")));
+                    assertThat(describedConfigs.getAllValues().get(1), containsInAnyOrder(new ConfigResource(ConfigResource.Type.TOPIC, "B")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexIsReusedBetweenRollingUpdates(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailabilityIndex index = new KafkaAvailabilityIndex();
+
+        Checkpoint async = context.checkpoint();
+        new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac, index).canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // C is being moved to broker 0, so the next rolling update has to describe it
+                    ksb.reassigning("C");
+
+                    return new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac, index).canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+
+                    ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    assertThat(describedTopics.getAllValues().get(0), containsInAnyOrder("A", "B", "C"));
+                    assertThat(describedTopics.getAllValues().get(1), containsInAnyOrder("A", "C"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIndexRemovesDeletedTopics() throws Exception {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailabilityIndex index = new KafkaAvailabilityIndex(60_000L, 60_000L, () -> 0L);
+        index.replaceAll(ac.describeTopics(List.of("A", "B")).all().get().values());
+
+        assertThat(index.topicsOnBroker(1).stream().map(TopicDescription::name).collect(Collectors.toList()), containsInAnyOrder("A", "B"));
+        assertThat(index.topicsToDescribe(Set.of("B", "C"), Set.of(1)), containsInAnyOrder("B", "C"));
+        assertThat(index.topicsOnBroker(0), is(empty()));
+        assertThat(index.topicsOnBroker(1).stream().map(TopicDescription::name).collect(Collectors.toList()), containsInAnyOrder("B"));
+    }
 }
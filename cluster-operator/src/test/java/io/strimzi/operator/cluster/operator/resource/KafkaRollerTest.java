@@ -23,7 +23,11 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -440,6 +444,81 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testRollInBatches(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        List<Collection<Integer>> batchCandidates = new ArrayList<>();
+
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            2,
+            brokers -> {
+                batchCandidates.add(new ArrayList<>(brokers));
+                return asList(asList(0, 3), asList(1), asList(4));
+            },
+            new KafkaRollerMetrics(metrics),
+            2);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                // The controller is not batched
+                assertThat(batchCandidates, is(singletonList(asList(0, 1, 3, 4))));
+                // Batch of pods 0 and 3 is rolled first, the rest one by one with the controller last
+                assertThat(restarted(), is(asList(0, 3, 1, 4, 2)));
+                assertThat(metrics.meterRegistry().get("strimzi.kafka.rolling.pods.restarted").tag("mode", "batch").counter().count(), is(2.0));
+                assertThat(metrics.meterRegistry().get("strimzi.kafka.rolling.pods.restarted").tag("mode", "sequential").counter().count(), is(3.0));
+                assertThat(metrics.meterRegistry().get("strimzi.kafka.rolling.batch.duration").timer().count(), is(1L));
+                assertThat(metrics.meterRegistry().get("strimzi.kafka.rolling.pods.remaining").gauge().value(), is(0.0));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBatchNotRollableIsRolledOneByOne(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger checks = new AtomicInteger();
+
+        // Pod 1 is not rollable during all 5 attempts to roll the batch [0, 1], but it is rollable afterwards
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(brokerId != 1 || checks.incrementAndGet() > 5),
+            2,
+            brokers -> asList(asList(0, 1), asList(3, 4)),
+            null,
+            2);
+
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(3, 4, 0, 1, 2));
+    }
+
+    @Test
+    public void testBatchNotBecomingReadyFailsTheRoll(VertxTestContext testContext) throws InterruptedException {
+        // Pod 3 does not become ready after it was restarted
+        PodOperator podOps = mockPodOps(podId -> podId == 3 && restarted().contains(3) ? failedFuture(new RuntimeException("not ready")) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            2,
+            brokers -> asList(asList(0, 3), asList(1, 4)),
+            null,
+            2);
+
+        // The remaining pods are not rolled one by one after the batch made the cluster worse
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pods [0, 3] to become ready",
+                asList(0, 3));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -572,6 +651,7 @@ public class KafkaRollerTest {
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
+        private final Function<Collection<Integer>, List<List<Integer>>> batchesFn;
         private final int[] controllers;
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
@@ -583,9 +663,28 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, 1, null, null, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int maxBatchSize,
+                                   Function<Collection<Integer>, List<List<Integer>>> batchesFn,
+                                   KafkaRollerMetrics rollerMetrics,
+                                   int... controllers) {
             super(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), new KafkaAvailabilityIndex(),
+                "", "", KafkaVersionTestUtils.getLatestVersion(), true, maxBatchSize, rollerMetrics);
+            this.batchesFn = batchesFn;
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -636,6 +735,16 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<List<List<Integer>>> batches(Collection<Integer> brokers, int maxBatchSize) {
+                    return succeededFuture(batchesFn.apply(brokers));
+                }
+
+                @Override
+                Future<Boolean> canRoll(Collection<Integer> brokers) {
+                    return succeededFuture(brokers.stream().allMatch(broker -> canRollFn.apply(broker).result()));
+                }
             };
         }
 
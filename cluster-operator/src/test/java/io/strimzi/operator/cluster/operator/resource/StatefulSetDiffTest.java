@@ -296,4 +296,45 @@ public class StatefulSetDiffTest {
         assertThat(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2).changesVolumeClaimTemplates(), is(true));
         assertThat(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2).changesVolumeSize(), is(false));
     }
+
+    @Test
+    public void testGenerationAnnotationIgnoredButOtherChangesNot() {
+        StatefulSet ss1 = new StatefulSetBuilder()
+                .withNewMetadata()
+                    .withNamespace("test")
+                    .withName("foo")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewTemplate()
+                        .withNewMetadata()
+                            .withAnnotations(singletonMap("strimzi.io/generation", "1"))
+                        .endMetadata()
+                    .endTemplate()
+                .endSpec()
+                .build();
+        StatefulSet ss2 = new StatefulSetBuilder(ss1)
+                .editSpec()
+                    .editTemplate()
+                        .editMetadata()
+                            .withAnnotations(singletonMap("strimzi.io/generation", "2"))
+                        .endMetadata()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        StatefulSetDiff diff = new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2);
+        assertThat(diff.isEmpty(), is(true));
+        assertThat(diff.changesSpecTemplate(), is(false));
+
+        StatefulSet ss3 = new StatefulSetBuilder(ss2)
+                .editMetadata()
+                    .withLabels(singletonMap("foo", "bar"))
+                .endMetadata()
+                .build();
+
+        diff = new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss3);
+        assertThat(diff.isEmpty(), is(false));
+        assertThat(diff.changesLabels(), is(true));
+        assertThat(diff.changesSpecTemplate(), is(false));
+    }
 }
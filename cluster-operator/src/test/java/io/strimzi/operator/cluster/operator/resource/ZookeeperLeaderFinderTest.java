@@ -19,6 +19,7 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
@@ -38,6 +39,7 @@ import org.mockito.Mockito;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -53,6 +55,8 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -423,7 +427,14 @@ public class ZookeeperLeaderFinderTest {
             .onComplete(context.succeeding(leader -> context.verify(() -> {
                 assertThat(leader, is(desiredLeaderId));
                 for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
+                    // The pods are probed in parallel, so the probe of the other node might not have arrived yet
+                    // when the leader is found
+                    if (zk.id == desiredLeaderId) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(succeedOnAttempt + 1));
+                    } else {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), greaterThanOrEqualTo(succeedOnAttempt));
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), lessThanOrEqualTo(succeedOnAttempt + 1));
+                    }
                 }
                 a.flag();
             })));
@@ -461,8 +472,53 @@ public class ZookeeperLeaderFinderTest {
             .onComplete(context.succeeding(l -> context.verify(() -> {
                 assertThat(l, is(leader));
                 for (FakeZk zk : zks) {
-                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    // The pods are probed in parallel, so the probe of the other node might not have arrived yet
+                    // when the leader is found
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), lessThanOrEqualTo(1));
                 }
+                assertThat(zks.get(leader).attempts.get(), is(1));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testCachedLeaderIsProbedFirst(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == leader);
+
+        List<String> probedPods = new CopyOnWriteArrayList<>();
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports) {
+            @Override
+            protected Future<Boolean> isLeader(Reconciliation reconciliation, Pod pod, NetClient netClient) {
+                probedPods.add(pod.getMetadata().getName());
+                return super.isLeader(reconciliation, pod, netClient);
+            }
+        };
+
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1), createPodWithId(2));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, CLUSTER, NAMESPACE, pods, coKeySecret())
+            .compose(l -> {
+                context.verify(() -> assertThat(l, is(leader)));
+                context.verify(() -> assertThat(probedPods.size(), is(3)));
+                probedPods.clear();
+
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, CLUSTER, NAMESPACE, pods, coKeySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                assertThat(probedPods, is(List.of("my-cluster-kafka-" + leader)));
                 a.flag();
             })));
     }
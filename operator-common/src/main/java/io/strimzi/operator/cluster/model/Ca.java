@@ -21,6 +21,7 @@ import io.strimzi.operator.common.Util;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyStoreException;
@@ -41,8 +42,12 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -316,27 +321,89 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
+        Subject subject = new Subject();
+
+        if (organization != null) {
+            subject.setOrganizationName(organization);
+        }
+
+        subject.setCommonName(commonName);
+
+        return generateSignedCert(subject);
+    }
+
+    /**
+     * Generates a certificate signed by this CA using its own temporary files, so that it can be called from several
+     * threads at the same time
+     *
+     * @param subject The subject of the certificate to be generated.
+     * @return The CertAndKey
+     * @throws IOException If the cert could not be generated.
+     */
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
         File csrFile = File.createTempFile("tls", "csr");
         File keyFile = File.createTempFile("tls", "key");
         File certFile = File.createTempFile("tls", "cert");
         File keyStoreFile = File.createTempFile("tls", "p12");
 
-        Subject subject = new Subject();
+        try {
+            return generateSignedCert(subject,
+                    csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
 
-        if (organization != null) {
-            subject.setOrganizationName(organization);
+    /**
+     * Generates the certificates signed by this CA using the executor of the certificate manager. Depending on the
+     * certificate manager, the certificates are generated in parallel or one by one in the order of the subjects.
+     *
+     * @param reconciliation Reconciliation marker
+     * @param subjects Subjects of the certificates to be generated indexed by the pod names
+     * @return Map with the generated certificates indexed by the pod names
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Reconciliation reconciliation, Map<String, Subject> subjects) throws IOException {
+        long start = System.nanoTime();
+        Map<String, CompletableFuture<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+
+        for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+            futures.put(subject.getKey(), CompletableFuture.supplyAsync(() -> {
+                try {
+                    return generateSignedCert(subject.getValue());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, certManager.executor()));
         }
 
-        subject.setCommonName(commonName);
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+        IOException failure = null;
 
-        CertAndKey result = generateSignedCert(subject,
-                csrFile, keyFile, certFile, keyStoreFile);
+        // Waits for all the certificates, so that no task is still using this CA when this method returns
+        for (Map.Entry<String, CompletableFuture<CertAndKey>> future : futures.entrySet()) {
+            try {
+                certs.put(future.getKey(), future.getValue().join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof UncheckedIOException ? ((UncheckedIOException) e.getCause()).getCause() : new IOException(e.getCause());
+                }
+            }
+        }
 
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        if (failure != null) {
+            throw failure;
+        }
+
+        if (!subjects.isEmpty()) {
+            LOGGER.debugCr(reconciliation, "Generated {} certificates signed by CA {} in {}ms", subjects.size(), this,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        return certs;
     }
 
     /**
@@ -357,13 +424,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        // the certificates which need to be (re)generated are collected first and generated together at the end
+        Map<String, Subject> subjectsToGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -405,8 +469,7 @@ public abstract class Ca {
             if (!reasons.isEmpty())  {
                 LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                subjectsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -419,14 +482,10 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
-        }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+            subjectsToGenerate.put(podName, subjectFn.apply(i));
+        }
+
+        certs.putAll(generateSignedCerts(reconciliation, subjectsToGenerate));
 
         return certs;
     }
@@ -7,7 +7,6 @@ package io.strimzi.operator.cluster.model;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.AbstractJsonDiff;
@@ -31,26 +30,15 @@ public class StatusDiff extends AbstractJsonDiff {
     public StatusDiff(Status current, Status desired) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        String pathValue = firstDifference(source, target, IGNORABLE_PATHS);
 
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                LOGGER.debugOp("Ignoring Status diff {}", d);
-                continue;
-            }
-
-            LOGGER.debugOp("Status differs: {}", d);
+        if (pathValue != null) {
+            LOGGER.debugOp("Status differs at path {}", pathValue);
             LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
             LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
-
-            num++;
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = pathValue == null;
     }
 
     /**
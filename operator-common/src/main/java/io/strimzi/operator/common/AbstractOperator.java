@@ -44,6 +44,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
@@ -94,6 +95,8 @@ public abstract class AbstractOperator<
     private final Timer reconciliationsTimer;
     private final Map<String, AtomicInteger> resourcesStateCounter;
 
+    private volatile ReconciliationWorkQueue workQueue;
+
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
         this.vertx = vertx;
         this.kind = kind;
@@ -309,6 +312,28 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Routes the reconciliations triggered by the watch and by the periodic reconciliation through a
+     * {@link ReconciliationWorkQueue} instead of starting them straight away.
+     *
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations of this kind running in parallel
+     * @param backOffSupplier               Supplier of the back-off used for retrying failed reconciliations
+     */
+    public void useWorkQueue(int maxConcurrentReconciliations, Supplier<BackOff> backOffSupplier) {
+        this.workQueue = new ReconciliationWorkQueue(vertx, kind, this::reconcile, maxConcurrentReconciliations, backOffSupplier, metrics);
+    }
+
+    @Override
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        ReconciliationWorkQueue workQueue = this.workQueue;
+
+        if (workQueue != null) {
+            return workQueue.enqueue(reconciliation);
+        } else {
+            return reconcile(reconciliation);
+        }
+    }
+
     protected void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
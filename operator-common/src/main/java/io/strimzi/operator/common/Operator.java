@@ -42,6 +42,17 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Requests the reconciliation of the resource identified by the given reconciliation. Unlike
+     * {@link #reconcile(Reconciliation)}, operators might queue the request and merge it with other requests for the
+     * same resource. By default, the reconciliation is started straight away.
+     * @param reconciliation The resource.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> enqueue(Reconciliation reconciliation) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -68,7 +79,7 @@ public interface Operator {
 
             for (NamespaceAndName resourceRef : desiredNames) {
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(enqueue(reconciliation));
             }
             CompositeFuture.join(futures).map((Void) null).onComplete(handler);
         } else {
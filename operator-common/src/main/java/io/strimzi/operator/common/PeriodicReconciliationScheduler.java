@@ -0,0 +1,207 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * Spreads the periodic reconciliation of the resources of a single operator across the reconciliation interval.
+ *
+ * Instead of reconciling all resources at the same time when the periodic timer fires, each resource gets a stable
+ * phase offset within the interval computed from the hash of its kind, namespace and name. The resource is reconciled
+ * when its offset elapses, so with many resources the reconciliations are distributed evenly across the interval. At
+ * most {@code maxInFlight} periodic reconciliations run at the same time. Resources whose time has come while the
+ * limit is reached wait until one of the running reconciliations completes.
+ */
+public class PeriodicReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PeriodicReconciliationScheduler.class);
+
+    private final Vertx vertx;
+    private final Operator operator;
+    private final long intervalMs;
+    private final int maxInFlight;
+
+    private final Map<NamespaceAndName, Long> scheduled = new HashMap<>();
+    private final Queue<Pending> waiting = new ArrayDeque<>();
+    private final Set<NamespaceAndName> waitingResources = new HashSet<>();
+    private int inFlight = 0;
+
+    private final Timer offsetTimer;
+    private final Timer lagTimer;
+    private final AtomicInteger inFlightGauge;
+
+    /**
+     * Reconciliation which is due and waits for a free slot
+     */
+    private static class Pending {
+        private final NamespaceAndName resource;
+        private final Reconciliation reconciliation;
+        private final long dueAt;
+
+        Pending(NamespaceAndName resource, Reconciliation reconciliation, long dueAt) {
+            this.resource = resource;
+            this.reconciliation = reconciliation;
+            this.dueAt = dueAt;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param operator      Operator whose resources are reconciled
+     * @param intervalMs    Periodic reconciliation interval across which the reconciliations are spread
+     * @param maxInFlight   Maximal number of periodic reconciliations running at the same time
+     * @param metrics       Metrics provider
+     */
+    public PeriodicReconciliationScheduler(Vertx vertx, Operator operator, long intervalMs, int maxInFlight, MetricsProvider metrics) {
+        if (intervalMs <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("The reconciliation interval and the maximal number of in-flight reconciliations have to be positive");
+        }
+
+        this.vertx = vertx;
+        this.operator = operator;
+        this.intervalMs = intervalMs;
+        this.maxInFlight = maxInFlight;
+
+        Tags metricTags = Tags.of(Tag.of("kind", operator.kind()));
+
+        offsetTimer = metrics.timer(METRICS_PREFIX + "reconciliations.periodic.offset",
+                "Offset from the start of the reconciliation interval at which the periodic reconciliation of the resource started",
+                metricTags);
+
+        lagTimer = metrics.timer(METRICS_PREFIX + "reconciliations.periodic.lag",
+                "Time the periodic reconciliation waited for a free slot after its scheduled time",
+                metricTags);
+
+        inFlightGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.periodic.inflight",
+                "Number of periodic reconciliations currently running",
+                metricTags);
+    }
+
+    /**
+     * Computes the stable offset of the resource within the reconciliation interval. The hash is mixed so that
+     * resources with similar names (e.g. my-cluster-1 and my-cluster-2) do not end up next to each other.
+     *
+     * @param kind          Kind of the resource
+     * @param resource      Namespace and name of the resource
+     * @param intervalMs    Reconciliation interval
+     *
+     * @return  Offset in milliseconds between 0 and intervalMs (exclusive)
+     */
+    /* test */ static long phaseOffsetMs(String kind, NamespaceAndName resource, long intervalMs) {
+        long h = (kind + "/" + resource.getNamespace() + "/" + resource.getName()).hashCode();
+
+        // SplitMix64 finalizer
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h = h ^ (h >>> 31);
+
+        return Math.floorMod(h, intervalMs);
+    }
+
+    /**
+     * Schedules the periodic reconciliation of all resources of the operator in given namespace. Resources which
+     * are still waiting from the previous interval are not scheduled again.
+     *
+     * @param trigger       The cause of this reconciliation (for logging)
+     * @param namespace     The namespace to reconcile, or {@code *} to reconcile across all namespaces
+     */
+    public void reconcileAll(String trigger, String namespace) {
+        operator.allResourceNames(namespace).onComplete(ar -> {
+            if (ar.succeeded()) {
+                operator.getPausedResourceCounter().set(0);
+                operator.getResourceCounter().set(ar.result().size());
+                operator.getPeriodicReconciliationsCounter().increment();
+
+                schedule(trigger, ar.result());
+            } else {
+                LOGGER.warnOp("Failed to list {} resources in namespace {} for periodic reconciliation", operator.kind(), namespace, ar.cause());
+            }
+        });
+    }
+
+    private synchronized void schedule(String trigger, Set<NamespaceAndName> resources) {
+        long intervalStart = System.nanoTime();
+
+        for (NamespaceAndName resource : resources) {
+            if (scheduled.containsKey(resource) || waitingResources.contains(resource)) {
+                LOGGER.debugOp("Periodic reconciliation of {} {} from the previous interval did not start yet", operator.kind(), resource);
+                continue;
+            }
+
+            long offsetMs = phaseOffsetMs(operator.kind(), resource, intervalMs);
+            long timerId = vertx.setTimer(Math.max(1, offsetMs), id -> due(trigger, resource, intervalStart));
+            scheduled.put(resource, timerId);
+        }
+    }
+
+    private synchronized void due(String trigger, NamespaceAndName resource, long intervalStart) {
+        if (scheduled.remove(resource) == null) {
+            // Cancelled in the meantime
+            return;
+        }
+
+        Reconciliation reconciliation = new Reconciliation(trigger, operator.kind(), resource.getNamespace(), resource.getName());
+        offsetTimer.record(System.nanoTime() - intervalStart, TimeUnit.NANOSECONDS);
+        waiting.add(new Pending(resource, reconciliation, System.nanoTime()));
+        waitingResources.add(resource);
+        dispatch();
+    }
+
+    private void dispatch() {
+        while (inFlight < maxInFlight && !waiting.isEmpty()) {
+            Pending pending = waiting.poll();
+            waitingResources.remove(pending.resource);
+            lagTimer.record(System.nanoTime() - pending.dueAt, TimeUnit.NANOSECONDS);
+
+            inFlight++;
+            inFlightGauge.set(inFlight);
+
+            operator.enqueue(pending.reconciliation).onComplete(res -> completed());
+        }
+    }
+
+    private synchronized void completed() {
+        inFlight--;
+        inFlightGauge.set(inFlight);
+        dispatch();
+    }
+
+    /**
+     * Cancels all periodic reconciliations which did not start yet
+     */
+    public synchronized void cancel() {
+        for (long timerId : scheduled.values()) {
+            vertx.cancelTimer(timerId);
+        }
+
+        scheduled.clear();
+        waiting.clear();
+        waitingResources.clear();
+    }
+
+    /**
+     * @return  Number of resources whose periodic reconciliation is scheduled or waiting for a free slot
+     */
+    public synchronized int pending() {
+        return scheduled.size() + waiting.size();
+    }
+}
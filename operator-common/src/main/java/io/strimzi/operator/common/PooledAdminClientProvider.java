@@ -0,0 +1,250 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.cluster.model.Ca;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Admin client provider which shares the Admin clients between their users instead of creating a new client every
+ * time. Creating a new Admin client for every operation means a new TLS handshake and a new metadata bootstrap.
+ *
+ * <ul>
+ * <li>The clients are pooled by the bootstrap address and the certificates used to connect (the cluster CA
+ *     certificate and the key and certificate used for the TLS client authentication). When the certificates change
+ *     (for example because the cluster CA was renewed), a new client is created and the clients using the old
+ *     certificates for the same bootstrap address are closed as soon as they are not used anymore.</li>
+ * <li>Closing the Admin client returned by this provider only releases it back to the pool. The client is closed
+ *     once it was not used for the idle timeout.</li>
+ * </ul>
+ *
+ * Admin clients are thread-safe, so the same client can be used by multiple users at the same time.
+ */
+public class PooledAdminClientProvider implements AdminClientProvider, AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(PooledAdminClientProvider.class);
+
+    /**
+     * Default time after which unused Admin clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
+    private static final long EVICTION_INTERVAL_MS = 30_000L;
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService executor;
+
+    private final Map<String, PooledClient> pool = new HashMap<>();
+
+    /**
+     * Admin client in the pool
+     */
+    private static class PooledClient {
+        private final String bootstrapHostnames;
+        private final Admin admin;
+        private int users = 0;
+        private long lastReleased;
+        private boolean superseded = false;
+
+        PooledClient(String bootstrapHostnames, Admin admin, long now) {
+            this.bootstrapHostnames = bootstrapHostnames;
+            this.admin = admin;
+            this.lastReleased = now;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param delegate          Provider used to create the Admin clients
+     * @param idleTimeoutMs     Time after which unused Admin clients are closed
+     */
+    public PooledAdminClientProvider(AdminClientProvider delegate, long idleTimeoutMs) {
+        this(delegate, idleTimeoutMs, System::currentTimeMillis, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admin-client-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        }));
+
+        executor.scheduleWithFixedDelay(this::evictIdle, EVICTION_INTERVAL_MS, EVICTION_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /* test */ PooledAdminClientProvider(AdminClientProvider delegate, long idleTimeoutMs, LongSupplier clock, ScheduledExecutorService executor) {
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.clock = clock;
+        this.executor = executor;
+    }
+
+    /**
+     * Computes the key of the Admin client in the pool from the bootstrap address and the content of the certificates
+     * and keys used by the client.
+     */
+    private static String poolKey(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        StringBuilder credentials = new StringBuilder();
+
+        if (clusterCaCertSecret != null && clusterCaCertSecret.getData() != null) {
+            credentials.append(clusterCaCertSecret.getData().get(Ca.CA_CRT));
+        }
+
+        credentials.append('|');
+
+        if (keyCertSecret != null && keyCertSecret.getData() != null && keyCertName != null) {
+            for (String suffix : new String[] {".key", ".crt", ".p12", ".password"}) {
+                credentials.append(keyCertSecret.getData().get(keyCertName + suffix)).append('|');
+            }
+        }
+
+        return bootstrapHostnames + "#" + Util.stringHash(credentials.toString());
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        String key = poolKey(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+        PooledClient client;
+
+        synchronized (this) {
+            client = pool.get(key);
+
+            if (client == null) {
+                supersede(bootstrapHostnames);
+
+                LOGGER.debug("Creating new Admin client for {}", bootstrapHostnames);
+                client = new PooledClient(bootstrapHostnames, delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName), clock.getAsLong());
+                pool.put(key, client);
+            }
+
+            client.users++;
+        }
+
+        return lease(client);
+    }
+
+    /**
+     * Marks the clients for the same bootstrap address which use different certificates as superseded. They are
+     * closed as soon as they are not used.
+     */
+    private void supersede(String bootstrapHostnames) {
+        Iterator<Map.Entry<String, PooledClient>> iterator = pool.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            PooledClient old = iterator.next().getValue();
+
+            if (old.bootstrapHostnames.equals(bootstrapHostnames)) {
+                LOGGER.debug("Certificates for {} changed, the previous Admin client will be closed", bootstrapHostnames);
+                iterator.remove();
+                old.superseded = true;
+
+                if (old.users == 0) {
+                    closeAsync(old);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wraps the pooled Admin client so that closing it releases it back to the pool
+     */
+    private Admin lease(PooledClient client) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            if ("close".equals(method.getName())) {
+                if (released.compareAndSet(false, true)) {
+                    release(client);
+                }
+
+                return null;
+            }
+
+            try {
+                return method.invoke(client.admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private synchronized void release(PooledClient client) {
+        client.users--;
+        client.lastReleased = clock.getAsLong();
+
+        if (client.superseded && client.users == 0) {
+            closeAsync(client);
+        }
+    }
+
+    /**
+     * Closes the Admin clients which were not used for longer than the idle timeout
+     */
+    /* test */ synchronized void evictIdle() {
+        long now = clock.getAsLong();
+        Iterator<Map.Entry<String, PooledClient>> iterator = pool.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            PooledClient client = iterator.next().getValue();
+
+            if (client.users == 0 && now - client.lastReleased >= idleTimeoutMs) {
+                LOGGER.debug("Closing idle Admin client for {}", client.bootstrapHostnames);
+                iterator.remove();
+                closeAsync(client);
+            }
+        }
+    }
+
+    private void closeAsync(PooledClient client) {
+        Runnable close = () -> {
+            try {
+                client.admin.close(CLOSE_TIMEOUT);
+            } catch (Exception e) {
+                LOGGER.warn("Failed to close Admin client for {}", client.bootstrapHostnames, e);
+            }
+        };
+
+        if (executor.isShutdown()) {
+            // Clients released after the pool was closed
+            close.run();
+        } else {
+            executor.execute(close);
+        }
+    }
+
+    /**
+     * @return  Number of Admin clients in the pool
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Closes all Admin clients in the pool
+     */
+    @Override
+    public synchronized void close() {
+        for (PooledClient client : pool.values()) {
+            closeAsync(client);
+        }
+
+        pool.clear();
+        executor.shutdown();
+    }
+}
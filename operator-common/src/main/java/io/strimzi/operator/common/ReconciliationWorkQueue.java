@@ -0,0 +1,256 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * Keyed work queue used to run the reconciliations of a single kind of resource.
+ *
+ * <ul>
+ * <li>Each resource (identified by its namespace and name) is queued at most once. Reconciliations requested for
+ *     a resource which is already queued are merged with the queued one.</li>
+ * <li>Reconciliations requested for a resource which is currently being reconciled mark it as dirty. Once the
+ *     running reconciliation completes, the resource is reconciled once more.</li>
+ * <li>Failed reconciliations are retried with exponential back-off computed by {@link BackOff}. When the back-off
+ *     is exhausted, the resource is left to the next periodic reconciliation.</li>
+ * <li>At most {@code maxConcurrentReconciliations} reconciliations run at the same time.</li>
+ * </ul>
+ *
+ * Because every resource is reconciled by at most one reconciliation at a time, reconciliations submitted through
+ * the queue do not contend for the resource lock used by {@link AbstractOperator}.
+ */
+public class ReconciliationWorkQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationWorkQueue.class);
+
+    private final Vertx vertx;
+    private final String kind;
+    private final Function<Reconciliation, Future<Void>> reconciler;
+    private final int maxConcurrentReconciliations;
+    private final Supplier<BackOff> backOffSupplier;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Queue<String> queue = new ArrayDeque<>();
+    private int running = 0;
+
+    private final AtomicInteger queueDepthGauge;
+    private final Timer queueWaitTimer;
+    private final Counter deduplicatedCounter;
+    private final Counter retriesCounter;
+
+    /**
+     * State of a single resource in the queue
+     */
+    private static class Entry {
+        private Reconciliation reconciliation;
+        private Promise<Void> promise;
+        private long enqueuedAt;
+        private boolean queued;
+        private boolean running;
+        private boolean dirty;
+        private BackOff backOff;
+        private Long retryTimerId;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                         Vert.x instance
+     * @param kind                          Kind of the reconciled resources
+     * @param reconciler                    Function which runs the reconciliation
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running in parallel
+     * @param backOffSupplier               Supplier of the back-off used for retrying failed reconciliations
+     * @param metrics                       Metrics provider
+     */
+    public ReconciliationWorkQueue(Vertx vertx, String kind, Function<Reconciliation, Future<Void>> reconciler,
+                                   int maxConcurrentReconciliations, Supplier<BackOff> backOffSupplier, MetricsProvider metrics) {
+        if (maxConcurrentReconciliations <= 0) {
+            throw new IllegalArgumentException("The maximal number of concurrent reconciliations has to be positive");
+        }
+
+        this.vertx = vertx;
+        this.kind = kind;
+        this.reconciler = reconciler;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.backOffSupplier = backOffSupplier;
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind));
+
+        queueDepthGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.queue.depth",
+                "Number of resources waiting in the work queue to be reconciled",
+                metricTags);
+
+        queueWaitTimer = metrics.timer(METRICS_PREFIX + "reconciliations.queue.wait",
+                "The time the reconciliation waits in the work queue before it starts",
+                metricTags);
+
+        deduplicatedCounter = metrics.counter(METRICS_PREFIX + "reconciliations.queue.deduplicated",
+                "Number of reconciliations merged with a reconciliation of the same resource which was already waiting in the work queue",
+                metricTags);
+
+        retriesCounter = metrics.counter(METRICS_PREFIX + "reconciliations.queue.retries",
+                "Number of failed reconciliations retried with back-off",
+                metricTags);
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Requests the reconciliation of the resource identified by the given reconciliation.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  Future which completes when the reconciliation which includes this request completes
+     */
+    public synchronized Future<Void> enqueue(Reconciliation reconciliation) {
+        String key = key(reconciliation);
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+
+        if (entry.queued || entry.dirty) {
+            LOGGER.debugCr(reconciliation, "{} {} is already waiting for reconciliation", kind, key);
+            deduplicatedCounter.increment();
+            entry.reconciliation = reconciliation;
+            return entry.promise.future();
+        }
+
+        Promise<Void> promise = Promise.promise();
+        entry.reconciliation = reconciliation;
+        entry.promise = promise;
+
+        if (entry.running) {
+            LOGGER.debugCr(reconciliation, "{} {} is being reconciled and will be reconciled once more afterwards", kind, key);
+            entry.dirty = true;
+        } else {
+            if (entry.retryTimerId != null) {
+                // New request supersedes the pending retry
+                vertx.cancelTimer(entry.retryTimerId);
+                entry.retryTimerId = null;
+            }
+
+            add(key, entry);
+            dispatch();
+        }
+
+        return promise.future();
+    }
+
+    private void add(String key, Entry entry) {
+        entry.queued = true;
+        entry.enqueuedAt = System.nanoTime();
+        queue.add(key);
+        queueDepthGauge.set(queue.size());
+    }
+
+    private void dispatch() {
+        while (running < maxConcurrentReconciliations && !queue.isEmpty()) {
+            String key = queue.poll();
+            queueDepthGauge.set(queue.size());
+
+            Entry entry = entries.get(key);
+            Promise<Void> promise = entry.promise;
+            Reconciliation reconciliation = entry.reconciliation;
+
+            entry.queued = false;
+            entry.running = true;
+            entry.promise = null;
+            running++;
+
+            queueWaitTimer.record(System.nanoTime() - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+
+            Future<Void> result;
+            try {
+                result = reconciler.apply(reconciliation);
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            result.onComplete(res -> completed(key, entry, reconciliation, promise, res));
+        }
+    }
+
+    private void completed(String key, Entry entry, Reconciliation reconciliation, Promise<Void> promise, AsyncResult<Void> result) {
+        synchronized (this) {
+            running--;
+            entry.running = false;
+
+            if (result.succeeded()) {
+                entry.backOff = null;
+            } else if (!entry.dirty) {
+                maybeRetry(key, entry, reconciliation);
+            }
+
+            if (entry.dirty) {
+                entry.dirty = false;
+                add(key, entry);
+            } else if (entry.retryTimerId == null) {
+                entries.remove(key);
+            }
+
+            dispatch();
+        }
+
+        promise.handle(result);
+    }
+
+    private void maybeRetry(String key, Entry entry, Reconciliation reconciliation) {
+        if (entry.backOff == null) {
+            entry.backOff = backOffSupplier.get();
+            // The first delay is always 0 and corresponds to the attempt which just failed
+            entry.backOff.delayMs();
+        }
+
+        if (entry.backOff.done()) {
+            LOGGER.warnCr(reconciliation, "Reconciliation of {} {} failed {} times and will not be retried before the next periodic reconciliation",
+                    kind, key, entry.backOff.maxAttempts());
+            entry.backOff = null;
+        } else {
+            long delay = entry.backOff.delayMs();
+            LOGGER.debugCr(reconciliation, "Reconciliation of {} {} will be retried in {}ms", kind, key, delay);
+            retriesCounter.increment();
+
+            entry.retryTimerId = vertx.setTimer(delay, timerId -> retry(key, entry));
+        }
+    }
+
+    private synchronized void retry(String key, Entry entry) {
+        if (entry.retryTimerId != null) {
+            entry.retryTimerId = null;
+
+            if (!entry.queued && !entry.running) {
+                entry.reconciliation = new Reconciliation("retry", kind, entry.reconciliation.namespace(), entry.reconciliation.name());
+                entry.promise = Promise.promise();
+                add(key, entry);
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * @return  Number of resources waiting in the queue
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+}
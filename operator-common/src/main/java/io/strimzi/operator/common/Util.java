@@ -18,6 +18,7 @@ import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -48,6 +49,7 @@ import java.util.Optional;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -101,12 +103,47 @@ public class Util {
      */
     public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
                                        Predicate<Throwable> failOnError) {
+        return waitFor(reconciliation, vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, failOnError, null);
+    }
+
+    /**
+     * Invoke the given {@code completed} supplier on a pooled thread every time the {@code onChange} subscription
+     * signals that the awaited state might have changed, and approximately every {@code pollIntervalMs} milliseconds as
+     * a fallback, until it returns true or {@code timeoutMs} milliseconds have elapsed.
+     * @param reconciliation The reconciliation
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param failOnError Determine whether a given error thrown by {@code completed},
+     *                    should result in the immediate completion of the returned Future.
+     * @param onChange Registers the given callback to be called whenever the awaited state might have changed and
+     *                 returns the handle which unregisters it. When null, only polling is used.
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+                                       Predicate<Throwable> failOnError, Function<Runnable, Runnable> onChange) {
         Promise<Void> promise = Promise.promise();
         LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
         long deadline = System.currentTimeMillis() + timeoutMs;
-        Handler<Long> handler = new Handler<Long>() {
+        Context context = vertx.getOrCreateContext();
+
+        class Poller implements Handler<Long> {
+            // Whether the check is running on the worker thread
+            private boolean checking = false;
+            // Whether the state changed while the check was running
+            private boolean changed = false;
+            private long timerId = -1;
+
             @Override
-            public void handle(Long timerId) {
+            public synchronized void handle(Long ignored) {
+                timerId = -1;
+                checking = true;
+                changed = false;
+
                 vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
                     future -> {
                         try {
@@ -122,32 +159,59 @@ public class Util {
                         }
                     },
                     true,
-                    res -> {
-                        if (res.succeeded()) {
-                            LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
-                            promise.complete();
+                    res -> checked(res.succeeded(), res.cause())
+                );
+            }
+
+            private synchronized void checked(boolean succeeded, Throwable cause) {
+                checking = false;
+
+                if (succeeded) {
+                    LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                    promise.tryComplete();
+                } else {
+                    if (failOnError.test(cause)) {
+                        promise.tryFail(cause);
+                    } else {
+                        long timeLeft = deadline - System.currentTimeMillis();
+                        if (timeLeft <= 0) {
+                            String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                            LOGGER.errorCr(reconciliation, exceptionMessage);
+                            promise.tryFail(new TimeoutException(exceptionMessage));
+                        } else if (changed) {
+                            // The state changed while we were checking it => check it again straight away
+                            handle(null);
                         } else {
-                            if (failOnError.test(res.cause())) {
-                                promise.fail(res.cause());
-                            } else {
-                                long timeLeft = deadline - System.currentTimeMillis();
-                                if (timeLeft <= 0) {
-                                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
-                                    LOGGER.errorCr(reconciliation, exceptionMessage);
-                                    promise.fail(new TimeoutException(exceptionMessage));
-                                } else {
-                                    // Schedule ourselves to run again
-                                    vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
-                                }
-                            }
+                            // Schedule ourselves to run again
+                            timerId = vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
                         }
                     }
-                );
+                }
             }
-        };
+
+            private synchronized void changed() {
+                if (promise.future().isComplete()) {
+                    return;
+                }
+
+                if (checking) {
+                    changed = true;
+                } else if (timerId != -1 && vertx.cancelTimer(timerId)) {
+                    LOGGER.traceCr(reconciliation, "{} changed, checking whether it is {}", logContext, logState);
+                    handle(null);
+                }
+            }
+        }
+
+        Poller poller = new Poller();
+
+        if (onChange != null) {
+            Runnable unsubscribe = onChange.apply(() -> context.runOnContext(ignored -> poller.changed()));
+            promise.future().onComplete(ignored -> unsubscribe.run());
+        }
 
         // Call the handler ourselves the first time
-        handler.handle(null);
+        poller.handle(null);
 
         return promise.future();
     }
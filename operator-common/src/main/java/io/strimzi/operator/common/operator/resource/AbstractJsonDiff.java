@@ -6,6 +6,14 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import io.fabric8.zjsonpatch.JsonDiff;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public abstract class AbstractJsonDiff {
     protected static JsonNode lookupPath(JsonNode source, String path) {
@@ -24,6 +32,255 @@ public abstract class AbstractJsonDiff {
         return s;
     }
 
+    /**
+     * Finds the first change between the source and the target which is not ignorable. The trees are walked the same
+     * way as JsonDiff walks them: objects are descended into field by field, arrays are aligned on their longest common
+     * subsequence and a change is found where a field or an array item is added or removed or where a value is
+     * replaced. A change is ignorable when its path (a JSON pointer) matches the ignorable paths pattern.
+     *
+     * Unlike JsonDiff, no patch operations are created and the walk stops at the first change which is not ignorable.
+     * This makes it much cheaper when the resources are the same, which is the case in most reconciliations. JsonDiff
+     * merges a removal and an addition of the same value into a move reported with the path of the addition, which
+     * might be ignorable. So when the first change which is not ignorable is a removal, the full JsonDiff is used.
+     *
+     * @param source            The current state
+     * @param target            The desired state
+     * @param ignorablePaths    Pattern matching the paths of the changes which should be ignored
+     *
+     * @return  The path of the first change which is not ignorable or null if there is none
+     */
+    protected static String firstDifference(JsonNode source, JsonNode target, Pattern ignorablePaths) {
+        DifferenceFinder finder = new DifferenceFinder(ignorablePaths);
+
+        if (!finder.differs(source, target)) {
+            return null;
+        } else if (finder.removal) {
+            return firstDifferenceInJsonDiff(source, target, ignorablePaths);
+        } else {
+            // The root is reported as / (as JsonDiff does) so that it can be passed to lookupPath
+            return finder.path.length() == 0 ? "/" : finder.path.toString();
+        }
+    }
+
+    /**
+     * Finds the first change which is not ignorable in the full JsonDiff of the source and the target.
+     */
+    private static String firstDifferenceInJsonDiff(JsonNode source, JsonNode target, Pattern ignorablePaths) {
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            String pathValue = d.get("path").asText();
+
+            if (!ignorablePaths.matcher(pathValue).matches()) {
+                return pathValue;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Walks two JSON trees until it finds a change which is not ignorable. It builds the path in one reused
+     * StringBuilder and matches it with one reused Matcher.
+     */
+    private static final class DifferenceFinder {
+        private final StringBuilder path = new StringBuilder();
+        private final Matcher ignorable;
+        private boolean removal = false;
+
+        private DifferenceFinder(Pattern ignorablePaths) {
+            this.ignorable = ignorablePaths.matcher("");
+        }
+
+        /**
+         * Compares the nodes. When they differ, the path of the difference is left in {@code path}. Otherwise
+         * {@code path} is restored to its original value.
+         */
+        private boolean differs(JsonNode source, JsonNode target) {
+            int length = path.length();
+
+            if (source.isObject() && target.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    JsonNode targetValue = target.get(field.getKey());
+                    appendField(path, field.getKey());
+
+                    if (targetValue == null ? removed() : differs(field.getValue(), targetValue)) {
+                        return true;
+                    }
+
+                    path.setLength(length);
+                }
+
+                Iterator<String> targetFields = target.fieldNames();
+                while (targetFields.hasNext()) {
+                    String field = targetFields.next();
+
+                    if (!source.has(field)) {
+                        appendField(path, field);
+
+                        if (added()) {
+                            return true;
+                        }
+
+                        path.setLength(length);
+                    }
+                }
+
+                return false;
+            } else if (source.isArray() && target.isArray()) {
+                return !source.equals(target) && arrayDiffers(source, target);
+            } else {
+                return !source.equals(target) && !ignorable.reset(path).matches();
+            }
+        }
+
+        /**
+         * Compares the arrays the same way as JsonDiff does: the items which are not part of the longest common
+         * subsequence are added, removed or compared with each other depending on their position.
+         */
+        private boolean arrayDiffers(JsonNode source, JsonNode target) {
+            List<JsonNode> lcs = JsonDiffLcs.longestCommonSubsequence(items(source), items(target));
+            int srcIdx = 0;
+            int targetIdx = 0;
+            int lcsIdx = 0;
+            int pos = 0;
+
+            while (lcsIdx < lcs.size()) {
+                JsonNode lcsNode = lcs.get(lcsIdx);
+                JsonNode srcNode = source.get(srcIdx);
+                JsonNode targetNode = target.get(targetIdx);
+
+                if (lcsNode.equals(srcNode) && lcsNode.equals(targetNode)) {
+                    srcIdx++;
+                    targetIdx++;
+                    lcsIdx++;
+                    pos++;
+                } else if (lcsNode.equals(srcNode)) {
+                    if (itemAdded(pos)) {
+                        return true;
+                    }
+
+                    targetIdx++;
+                    pos++;
+                } else if (lcsNode.equals(targetNode)) {
+                    if (itemRemoved(pos)) {
+                        return true;
+                    }
+
+                    srcIdx++;
+                } else {
+                    if (itemDiffers(pos, srcNode, targetNode)) {
+                        return true;
+                    }
+
+                    srcIdx++;
+                    targetIdx++;
+                    pos++;
+                }
+            }
+
+            while (srcIdx < source.size() && targetIdx < target.size()) {
+                if (itemDiffers(pos, source.get(srcIdx), target.get(targetIdx))) {
+                    return true;
+                }
+
+                srcIdx++;
+                targetIdx++;
+                pos++;
+            }
+
+            while (targetIdx < target.size()) {
+                if (itemAdded(pos)) {
+                    return true;
+                }
+
+                targetIdx++;
+                pos++;
+            }
+
+            while (srcIdx < source.size()) {
+                // Removed items are all reported at the same position as the following items shift down
+                if (itemRemoved(pos)) {
+                    return true;
+                }
+
+                srcIdx++;
+            }
+
+            return false;
+        }
+
+        private boolean itemAdded(int pos) {
+            int length = path.length();
+            path.append('/').append(pos);
+
+            if (added()) {
+                return true;
+            }
+
+            path.setLength(length);
+            return false;
+        }
+
+        private boolean itemRemoved(int pos) {
+            int length = path.length();
+            path.append('/').append(pos);
+
+            if (removed()) {
+                return true;
+            }
+
+            path.setLength(length);
+            return false;
+        }
+
+        private boolean itemDiffers(int pos, JsonNode source, JsonNode target) {
+            int length = path.length();
+            path.append('/').append(pos);
+
+            if (differs(source, target)) {
+                return true;
+            }
+
+            path.setLength(length);
+            return false;
+        }
+
+        private boolean added() {
+            return !ignorable.reset(path).matches();
+        }
+
+        private boolean removed() {
+            removal = !ignorable.reset(path).matches();
+            return removal;
+        }
+
+        private static List<JsonNode> items(JsonNode array) {
+            List<JsonNode> items = new ArrayList<>(array.size());
+            array.forEach(items::add);
+            return items;
+        }
+    }
+
+    /**
+     * Appends the field to the JSON pointer, escaping it as required by RFC 6901.
+     */
+    private static void appendField(StringBuilder path, String field) {
+        path.append('/');
+
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+
+            if (c == '~') {
+                path.append("~0");
+            } else if (c == '/') {
+                path.append("~1");
+            } else {
+                path.append(c);
+            }
+        }
+    }
+
     /**
      * Returns whether the Diff is empty or not.
      *
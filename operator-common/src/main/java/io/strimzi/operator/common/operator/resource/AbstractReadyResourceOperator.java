@@ -8,10 +8,13 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Specializes {@link AbstractResourceOperator} for resources which also have a notion
  * of being "ready".
@@ -38,8 +41,30 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
         super(vertx, client, resourceKind);
     }
 
+    /**
+     * Returns a future that completes when the resource is ready. When the resource is served from the shared resource
+     * cache, its readiness is evaluated on the cached resource whenever the watch reports a change. The Kubernetes API
+     * is then used only by the fallback poll, at most once per {@link #WATCHED_WAIT_POLL_INTERVAL_MS}.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return A future that completes when the resource is ready.
+     */
     public Future<Void> readiness(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        AtomicLong lastApiCheck = new AtomicLong(System.currentTimeMillis());
+
+        return waitFor(reconciliation, namespace, name, pollIntervalMs, timeoutMs, (ns, n) -> {
+            if (isCached(ns, n) && System.currentTimeMillis() - lastApiCheck.get() < WATCHED_WAIT_POLL_INTERVAL_MS) {
+                T resource = get(ns, n);
+                return resource != null && Readiness.getInstance().isReady(resource);
+            } else {
+                lastApiCheck.set(System.currentTimeMillis());
+                return isReady(ns, n);
+            }
+        });
     }
 
     /**
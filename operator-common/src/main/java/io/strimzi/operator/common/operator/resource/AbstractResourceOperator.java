@@ -8,13 +8,16 @@ import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -24,12 +27,17 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -50,11 +58,21 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
                     "|/status)$");
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractResourceOperator.class);
+    private static final long CACHE_RESYNC_DELAY_MS = 5_000L;
+    protected static final long WATCHED_WAIT_POLL_INTERVAL_MS = 10_000L;
+
+    /**
+     * Maximal number of resources reconciled at the same time by {@link #reconcileAll(Reconciliation, String, Labels, List)}
+     */
+    protected static final int RECONCILE_ALL_PARALLELISM = 10;
+
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
 
+    private volatile ResourceCache<T> cache;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -104,31 +122,129 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(reconciliation, namespace, name, current, desired).onComplete(future);
-                    }
-                } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                        future.complete(ReconcileResult.noop(null));
-                    }
-                }
-
+                T current = getCachedOrFromApi(namespace, name);
+                internalReconcile(reconciliation, namespace, name, current, desired).onComplete(future);
             },
             false,
             promise
         );
-        return promise.future();
+        return promise.future()
+                .map(result -> {
+                    cacheResult(namespace, name, result);
+                    return result;
+                });
+    }
+
+    /**
+     * Asynchronously reconciles all resources matching the given {@code selector} in the given {@code namespace} to
+     * match the given desired resources, returning a future for the results. The resources are listed only once and
+     * the listed state is used as the current state of each resource instead of getting them one by one. Desired
+     * resources are created or patched and the listed resources which are not desired are deleted. Desired resources
+     * which were not listed (for example because they exist but do not match the selector anymore) are got one by
+     * one before they are reconciled. At most {@link #RECONCILE_ALL_PARALLELISM} resources are reconciled at the same
+     * time.
+     *
+     * @param reconciliation Reconciliation object
+     * @param namespace The namespace of the resources to reconcile
+     * @param selector The selector matching all resources owned by the caller
+     * @param desired The desired resources. They should all match the selector.
+     * @return A future which completes when all resources have been reconciled. It fails if reconciling any of the
+     * resources failed.
+     */
+    public Future<List<ReconcileResult<T>>> reconcileAll(Reconciliation reconciliation, String namespace, Labels selector, List<T> desired) {
+        for (T resource : desired) {
+            if (!namespace.equals(resource.getMetadata().getNamespace())) {
+                return Future.failedFuture("Given namespace " + namespace + " incompatible with desired namespace " + resource.getMetadata().getNamespace());
+            }
+        }
+
+        return listAsync(namespace, selector)
+                .compose(currentResources -> {
+                    Map<String, T> current = new HashMap<>(currentResources.size());
+                    for (T resource : currentResources) {
+                        current.put(resource.getMetadata().getName(), resource);
+                    }
+
+                    Map<String, T> wanted = new LinkedHashMap<>(desired.size());
+                    for (T resource : desired) {
+                        wanted.put(resource.getMetadata().getName(), resource);
+                    }
+
+                    List<String> names = new ArrayList<>(wanted.keySet());
+                    List<String> unwanted = current.keySet().stream().filter(name -> !wanted.containsKey(name)).sorted().collect(Collectors.toList());
+                    names.addAll(unwanted);
+
+                    LOGGER.debugCr(reconciliation, "Reconciling {} {} resources in namespace {}, {} should be deleted", wanted.size(), resourceKind, namespace, unwanted);
+
+                    List<Promise<ReconcileResult<T>>> promises = new ArrayList<>(names.size());
+                    for (int i = 0; i < names.size(); i++) {
+                        promises.add(Promise.promise());
+                    }
+
+                    AtomicInteger next = new AtomicInteger(0);
+                    for (int i = 0; i < Math.min(RECONCILE_ALL_PARALLELISM, names.size()); i++) {
+                        reconcileNext(reconciliation, namespace, names, current, wanted, promises, next);
+                    }
+
+                    @SuppressWarnings("rawtypes")
+                    List<Future> futures = promises.stream().map(Promise::future).collect(Collectors.toList());
+
+                    return CompositeFuture.join(futures)
+                            .map(ignored -> promises.stream().map(promise -> promise.future().result()).collect(Collectors.toList()));
+                });
+    }
+
+    /**
+     * Reconciles the next resource in the list and, once it is done, carries on with the one after it until all
+     * resources are reconciled.
+     */
+    private void reconcileNext(Reconciliation reconciliation, String namespace, List<String> names, Map<String, T> current, Map<String, T> desired,
+                               List<Promise<ReconcileResult<T>>> promises, AtomicInteger next) {
+        int index = next.getAndIncrement();
+
+        if (index < names.size()) {
+            String name = names.get(index);
+
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconcileResult<T>>executeBlocking(
+                future -> {
+                    // Desired resources missing in the listed state might still exist without matching the selector
+                    T currentResource = current.containsKey(name) ? current.get(name) : getCachedOrFromApi(namespace, name);
+                    internalReconcile(reconciliation, namespace, name, currentResource, desired.get(name)).onComplete(future);
+                },
+                false
+            ).onComplete(res -> {
+                if (res.succeeded()) {
+                    cacheResult(namespace, name, res.result());
+                }
+
+                promises.get(index).handle(res);
+                reconcileNext(reconciliation, namespace, names, current, desired, promises, next);
+            });
+        }
+    }
+
+    /**
+     * Creates, patches or deletes the resource depending on its current and desired state.
+     */
+    private Future<ReconcileResult<T>> internalReconcile(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        if (desired != null) {
+            if (current == null) {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                return internalCreate(reconciliation, namespace, name, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
+                return internalPatch(reconciliation, namespace, name, current, desired);
+            }
+        } else {
+            if (current != null) {
+                // Deletion is desired
+                LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
+                return internalDelete(reconciliation, namespace, name);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            }
+        }
     }
 
     /**
@@ -278,7 +394,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return getCachedOrFromApi(namespace, name);
     }
 
     /**
@@ -291,6 +407,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        ResourceCache<T> cache = this.cache;
+        if (cache != null && cache.covers(namespace, name)) {
+            return Future.succeededFuture(cache.get(namespace, name));
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -301,6 +423,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null && cache.covers(namespace)) {
+            return cache.list(namespace, selector != null ? selector.toMap() : null);
+        }
+
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
@@ -348,6 +475,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null && cache.covers(namespace)) {
+            return Future.succeededFuture(cache.list(namespace, selector != null ? selector.toMap() : null));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -363,6 +495,14 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        ResourceCache<T> cache = this.cache;
+        // Only selectors based on label equality can be evaluated against the cache
+        if (cache != null
+                && (selector.isEmpty() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty())
+                && cache.covers(namespace)) {
+            return Future.succeededFuture(cache.list(namespace, selector.map(LabelSelector::getMatchLabels).orElse(null)));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -377,6 +517,106 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return resourceSupport.listAsync(x);
     }
 
+    /**
+     * Enables the shared resource cache for the given namespace. Once the initial list of the resources completes and
+     * the watch is opened, the {@code get}, {@code getAsync}, {@code list} and {@code listAsync} methods as well as the
+     * reconciliation of resources in this namespace are served from the cache instead of the Kubernetes API.
+     *
+     * @param namespace The namespace which should be cached or {@code *} for all namespaces.
+     * @param metrics   Metrics provider used for the cache metrics.
+     *
+     * @return A future which completes when the cache for the given namespace is synced.
+     */
+    public Future<Void> enableCache(String namespace, MetricsProvider metrics) {
+        synchronized (this) {
+            if (cache == null) {
+                cache = new ResourceCache<>(resourceKind, metrics);
+            }
+        }
+
+        return resourceSupport.executeBlocking(future -> {
+            try {
+                syncCache(cache, namespace);
+                future.complete();
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        });
+    }
+
+    private void syncCache(ResourceCache<T> cache, String namespace) {
+        FilterWatchListDeletable<T, L> operation = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)
+                ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+
+        L list = operation.list();
+        cache.populate(namespace, list.getItems());
+
+        Watch watch = operation.watch(new ListOptionsBuilder().withResourceVersion(list.getMetadata().getResourceVersion()).build(),
+                cache.watcher(namespace, e -> resyncCache(cache, namespace)));
+        cache.watching(namespace, watch);
+        LOGGER.debugOp("{} cache synced in namespace {} with {} resources", resourceKind, namespace, list.getItems().size());
+    }
+
+    private void resyncCache(ResourceCache<T> cache, String namespace) {
+        vertx.setTimer(CACHE_RESYNC_DELAY_MS, timerId -> resourceSupport.executeBlocking(future -> {
+            try {
+                syncCache(cache, namespace);
+                future.complete();
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        }).onFailure(error -> {
+            LOGGER.warnOp("Failed to re-sync {} cache in namespace {}", resourceKind, namespace, error);
+            resyncCache(cache, namespace);
+        }));
+    }
+
+    private T getCachedOrFromApi(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null && cache.covers(namespace, name)) {
+            return cache.get(namespace, name);
+        }
+
+        return operation().inNamespace(namespace).withName(name).get();
+    }
+
+    /**
+     * Checks whether the resource is read from the shared resource cache, which is kept up-to-date by the watch.
+     *
+     * @param namespace The namespace of the resource.
+     * @param name      The name of the resource.
+     *
+     * @return True if the {@code get} of the resource is served from the cache. False otherwise.
+     */
+    protected boolean isCached(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+        return cache != null && cache.covers(namespace, name);
+    }
+
+    private void cacheResult(String namespace, String name, ReconcileResult<T> result) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            if (result.resourceOpt().isPresent()) {
+                cache.written(result.resource());
+            } else {
+                cache.deleted(namespace, name);
+            }
+        }
+    }
+
+    /**
+     * Records a resource written to the Kubernetes API outside of {@link #reconcile(Reconciliation, String, String, HasMetadata)}
+     * (e.g. a status update) in the shared resource cache, if enabled.
+     *
+     * @param resource The resource as returned by the Kubernetes API.
+     */
+    protected void cacheWritten(T resource) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            cache.written(resource);
+        }
+    }
+
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
@@ -398,6 +638,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
      *
+     * When the shared resource cache is synced for the namespace, the predicate is evaluated whenever the watch
+     * reports a change of the resource. Polling is then used only as a fallback with a longer interval.
+     *
      * @param reconciliation The reconciliation
      * @param namespace The namespace.
      * @param name The resource name.
@@ -409,6 +652,18 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null && cache.synced(namespace)) {
+            return Util.waitFor(reconciliation, vertx,
+                String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
+                logState,
+                Math.max(pollIntervalMs, WATCHED_WAIT_POLL_INTERVAL_MS),
+                timeoutMs,
+                () -> predicate.test(namespace, name),
+                error -> false,
+                listener -> cache.onChange(namespace, name, listener));
+        }
+
         return Util.waitFor(reconciliation, vertx,
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
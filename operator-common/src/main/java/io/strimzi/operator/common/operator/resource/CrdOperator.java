@@ -91,6 +91,7 @@ public class CrdOperator<C extends KubernetesClient,
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(resource);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                cacheWritten(result);
                 future.complete(result);
             } catch (Exception e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -111,6 +112,7 @@ public class CrdOperator<C extends KubernetesClient,
             try {
                 T result = operation().inNamespace(namespace).withName(name).updateStatus(resource);
                 LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                cacheWritten(result);
                 future.complete(result);
             } catch (Exception e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -0,0 +1,32 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.zjsonpatch.internal.collections4.ListUtils;
+
+import java.util.List;
+
+/**
+ * Computes the longest common subsequence of two arrays the same way as JsonDiff does. There are often several
+ * longest common subsequences and AbstractJsonDiff has to pair the same array items as JsonDiff does, so it uses
+ * the implementation shaded into zjsonpatch. It is in an internal package of zjsonpatch, so it is used only from
+ * here and this is the only place which needs to change when zjsonpatch changes it.
+ */
+final class JsonDiffLcs {
+    private JsonDiffLcs() {}
+
+    /**
+     * Computes the longest common subsequence of the items
+     *
+     * @param source    Items of the source array
+     * @param target    Items of the target array
+     *
+     * @return  The longest common subsequence as paired by JsonDiff
+     */
+    static List<JsonNode> longestCommonSubsequence(List<JsonNode> source, List<JsonNode> target) {
+        return ListUtils.longestCommonSubsequence(source, target);
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+
+/**
+ * Watch backed cache of Kubernetes resources of a single kind. The cache is populated per namespace (or for all
+ * namespaces using {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}) by an initial list followed by a watch
+ * started from the resourceVersion of that list. Resources are indexed by namespace and name and by their labels so
+ * that both lookups by name and label selector queries can be served without calling the Kubernetes API server.
+ *
+ * Writes done by the operator itself are recorded in the cache straight away (read-your-writes). Watch events which
+ * are older than such a write (based on their resourceVersion) are ignored so that they do not roll back the cache.
+ * Deletions are different: the deleted resource can still exist for a while (e.g. a terminating Pod or a PVC with
+ * finalizers). Resources deleted by the operator are therefore kept in the cache until the watch reports their
+ * deletion and reads of them by name are sent to the Kubernetes API in the meantime.
+ *
+ * Resources are copied when they enter and when they leave the cache, so callers are free to modify them.
+ *
+ * Listeners can subscribe to the changes of individual resources. They are used to wait for the readiness of the
+ * resources based on the watch events instead of polling the Kubernetes API.
+ *
+ * @param <T>   The Kubernetes resource type
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+    private static final ObjectMapper MAPPER = Serialization.jsonMapper();
+
+    private final String resourceKind;
+
+    private final Map<String, T> resources = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> labelIndex = new ConcurrentHashMap<>();
+    private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingWrites = new ConcurrentHashMap<>();
+    private final Set<String> pendingDeletions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Counter staleEventsCounter;
+    private final AtomicInteger sizeGauge;
+    private final Timer stalenessTimer;
+
+    /**
+     * Constructor
+     *
+     * @param resourceKind  Kind of the cached resources (used for logging and metrics)
+     * @param metrics       Metrics provider
+     */
+    public ResourceCache(String resourceKind, MetricsProvider metrics) {
+        this.resourceKind = resourceKind;
+
+        Tags metricTags = Tags.of(Tag.of("kind", resourceKind));
+
+        hitsCounter = metrics.counter(METRICS_PREFIX + "resource.cache.hits",
+                "Number of reads served from the shared resource cache",
+                metricTags);
+
+        missesCounter = metrics.counter(METRICS_PREFIX + "resource.cache.misses",
+                "Number of reads which could not be served from the shared resource cache and were sent to the Kubernetes API",
+                metricTags);
+
+        staleEventsCounter = metrics.counter(METRICS_PREFIX + "resource.cache.stale.events",
+                "Number of watch events ignored because the cache already contained a newer version written by the operator",
+                metricTags);
+
+        sizeGauge = metrics.gauge(METRICS_PREFIX + "resource.cache.size",
+                "Number of resources held in the shared resource cache",
+                metricTags);
+
+        stalenessTimer = metrics.timer(METRICS_PREFIX + "resource.cache.staleness",
+                "Time between a write done by the operator and the watch event confirming it",
+                metricTags);
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    private static String key(HasMetadata resource) {
+        return key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    private static String labelKey(String label, String value) {
+        return label + "=" + value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T resource) {
+        try {
+            return (T) MAPPER.readValue(MAPPER.writeValueAsBytes(resource), resource.getClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the resourceVersion of a resource. The Kubernetes API considers resourceVersions to be opaque, so when
+     * they cannot be parsed, -1 is returned and the version is considered to be newer than anything cached.
+     */
+    private static long resourceVersion(HasMetadata resource) {
+        try {
+            return Long.parseLong(resource.getMetadata().getResourceVersion());
+        } catch (NumberFormatException | NullPointerException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Checks whether the resources have the same UID. Resources without UIDs are considered the same.
+     */
+    private static boolean sameUid(HasMetadata first, HasMetadata second) {
+        String firstUid = first.getMetadata().getUid();
+        String secondUid = second.getMetadata().getUid();
+        return firstUid == null || secondUid == null || firstUid.equals(secondUid);
+    }
+
+    /**
+     * Checks whether reads for given namespace can be served from the cache. Reads which cannot be served from the
+     * cache are counted as misses.
+     *
+     * @param namespace     Namespace
+     *
+     * @return  True if the cache is synced for the given namespace. False otherwise.
+     */
+    public boolean covers(String namespace) {
+        if (synced(namespace)) {
+            return true;
+        } else {
+            missesCounter.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a read of a single resource can be served from the cache. Unlike {@link #covers(String)}, this
+     * also returns false for resources which were deleted by the operator but whose deletion was not yet reported by
+     * the watch. Reads which cannot be served from the cache are counted as misses.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the resource can be read from the cache. False otherwise.
+     */
+    public boolean covers(String namespace, String name) {
+        if (synced(namespace) && !pendingDeletions.contains(key(namespace, name))) {
+            return true;
+        } else {
+            missesCounter.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the cache is synced and watched for given namespace. Unlike {@link #covers(String)}, this does
+     * not count a miss when it is not.
+     *
+     * @param namespace     Namespace
+     *
+     * @return  True if the cache is synced for the given namespace. False otherwise.
+     */
+    boolean synced(String namespace) {
+        return watches.containsKey(AbstractWatchableResourceOperator.ANY_NAMESPACE)
+                || watches.containsKey(namespace);
+    }
+
+    /**
+     * Subscribes the listener to the changes of a single resource. The listener is called (from the watch thread or
+     * from the thread writing the resource) after the resource was added, modified or deleted in the cache. It should
+     * only schedule the work and return.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param listener      Listener called when the resource changes
+     *
+     * @return  Handle which unsubscribes the listener
+     */
+    Runnable onChange(String namespace, String name, Runnable listener) {
+        String key = key(namespace, name);
+
+        listeners.compute(key, (k, keyListeners) -> {
+            Set<Runnable> updated = keyListeners != null ? keyListeners : ConcurrentHashMap.newKeySet();
+            updated.add(listener);
+            return updated;
+        });
+
+        return () -> listeners.computeIfPresent(key, (k, keyListeners) -> {
+            keyListeners.remove(listener);
+            return keyListeners.isEmpty() ? null : keyListeners;
+        });
+    }
+
+    private void changed(String key) {
+        Set<Runnable> keyListeners = listeners.get(key);
+
+        if (keyListeners != null) {
+            for (Runnable listener : keyListeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Gets a resource from the cache.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it does not exist
+     */
+    public T get(String namespace, String name) {
+        hitsCounter.increment();
+        T resource = resources.get(key(namespace, name));
+        return resource != null ? copy(resource) : null;
+    }
+
+    /**
+     * Lists the resources from the cache.
+     *
+     * @param namespace     Namespace or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE} for all namespaces
+     * @param labels        Labels which the resources need to have or null to return all resources
+     *
+     * @return  List of copies of the matching resources
+     */
+    public List<T> list(String namespace, Map<String, String> labels) {
+        hitsCounter.increment();
+
+        Set<String> candidates = null;
+        if (labels != null) {
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                Set<String> keys = labelIndex.getOrDefault(labelKey(label.getKey(), label.getValue()), Collections.emptySet());
+                if (candidates == null || keys.size() < candidates.size()) {
+                    candidates = keys;
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>();
+        for (String key : candidates != null ? candidates : resources.keySet()) {
+            T resource = resources.get(key);
+
+            if (resource != null
+                    && (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))
+                    && matchesLabels(resource, labels)) {
+                result.add(copy(resource));
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean matchesLabels(HasMetadata resource, Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return true;
+        }
+
+        Map<String, String> resourceLabels = resource.getMetadata().getLabels();
+        return resourceLabels != null && resourceLabels.entrySet().containsAll(labels.entrySet());
+    }
+
+    /**
+     * Replaces all cached resources from given namespace with the result of a fresh list operation.
+     *
+     * @param namespace     Namespace which was listed
+     * @param items         Listed resources
+     */
+    void populate(String namespace, List<T> items) {
+        invalidate(namespace);
+
+        for (T item : items) {
+            store(key(item), copy(item));
+        }
+    }
+
+    /**
+     * Marks the namespace as being watched. Only after this is called will reads for it be served from the cache.
+     *
+     * @param namespace     Namespace
+     * @param watch         The watch keeping the namespace up-to-date
+     */
+    void watching(String namespace, Watch watch) {
+        watches.put(namespace, watch);
+    }
+
+    /**
+     * Stops serving the namespace from the cache and drops all its cached resources.
+     *
+     * @param namespace     Namespace
+     */
+    void invalidate(String namespace) {
+        Watch watch = watches.remove(namespace);
+        if (watch != null) {
+            watch.close();
+        }
+
+        for (T resource : new ArrayList<>(resources.values())) {
+            if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace())) {
+                remove(key(resource));
+            }
+        }
+
+        pendingDeletions.removeIf(key -> AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || key.startsWith(namespace + "/"));
+    }
+
+    /**
+     * Records a resource written by the operator itself, so that the following reads see it even before the watch
+     * event for it arrives.
+     *
+     * @param resource  The resource as returned by the Kubernetes API
+     */
+    void written(T resource) {
+        if (resource == null || resource.getMetadata() == null) {
+            return;
+        }
+
+        String key = key(resource);
+        T current = resources.get(key);
+
+        if (current == null || resourceVersion(resource) < 0 || resourceVersion(resource) > resourceVersion(current)) {
+            pendingDeletions.remove(key);
+            store(key, copy(resource));
+            pendingWrites.put(key, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records a resource deleted by the operator itself. The resource is kept in the cache until the watch reports
+     * its deletion, because it might still exist while it is terminating. Until then, reads of it by name are sent to
+     * the Kubernetes API (see {@link #covers(String, String)}).
+     *
+     * @param namespace     Namespace of the deleted resource
+     * @param name          Name of the deleted resource
+     */
+    void deleted(String namespace, String name) {
+        String key = key(namespace, name);
+
+        // When the watch already reported the deletion, there is nothing to wait for
+        if (resources.containsKey(key)) {
+            pendingDeletions.add(key);
+        }
+    }
+
+    private void store(String key, T resource) {
+        T previous = resources.put(key, resource);
+
+        if (previous != null) {
+            unindex(key, previous);
+        }
+
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        if (labels != null) {
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                labelIndex.computeIfAbsent(labelKey(label.getKey(), label.getValue()), k -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+
+        sizeGauge.set(resources.size());
+        changed(key);
+    }
+
+    private void remove(String key) {
+        T previous = resources.remove(key);
+
+        if (previous != null) {
+            unindex(key, previous);
+        }
+
+        pendingWrites.remove(key);
+        pendingDeletions.remove(key);
+        sizeGauge.set(resources.size());
+
+        if (previous != null) {
+            changed(key);
+        }
+    }
+
+    private void unindex(String key, T resource) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        if (labels != null) {
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                labelIndex.computeIfPresent(labelKey(label.getKey(), label.getValue()), (k, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        }
+    }
+
+    /**
+     * Creates the watcher which keeps the given namespace of this cache up-to-date.
+     *
+     * @param namespace     Namespace which is watched
+     * @param onClose       Callback called when the watch is closed with an exception and the namespace needs to be
+     *                      re-synced
+     *
+     * @return  The watcher
+     */
+    Watcher<T> watcher(String namespace, Consumer<WatcherException> onClose) {
+        return new Watcher<T>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                String key = key(resource);
+
+                switch (action) {
+                    case ADDED:
+                    case MODIFIED:
+                        T current = resources.get(key);
+                        if (current != null && resourceVersion(resource) >= 0 && resourceVersion(resource) < resourceVersion(current)) {
+                            LOGGER.traceOp("Ignoring stale {} event for {} {}", action, resourceKind, key);
+                            staleEventsCounter.increment();
+                        } else {
+                            Long writtenAt = pendingWrites.remove(key);
+                            if (writtenAt != null) {
+                                stalenessTimer.record(System.nanoTime() - writtenAt, TimeUnit.NANOSECONDS);
+                            }
+
+                            store(key, copy(resource));
+                        }
+                        break;
+                    case DELETED:
+                        T cached = resources.get(key);
+                        if (cached != null && !sameUid(cached, resource)) {
+                            // The resource was already re-created by the operator
+                            LOGGER.traceOp("Ignoring DELETED event for previous instance of {} {}", resourceKind, key);
+                            staleEventsCounter.increment();
+                        } else {
+                            remove(key);
+                        }
+                        break;
+                    default:
+                        LOGGER.warnOp("Unexpected {} event for {} {} in the resource cache", action, resourceKind, key);
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException e) {
+                if (e != null) {
+                    LOGGER.warnOp("{} cache watch in namespace {} closed with exception", resourceKind, namespace, e);
+                    watches.remove(namespace);
+                    onClose.accept(e);
+                } else {
+                    LOGGER.infoOp("{} cache watch in namespace {} closed", resourceKind, namespace);
+                }
+            }
+        };
+    }
+}
@@ -12,9 +12,11 @@ import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.ServiceResource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -192,6 +194,21 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
         return internalDelete(reconciliation, namespace, name, true);
     }
 
+    /**
+     * Enables the shared resource cache for the Services and for their Endpoints in the given namespace. The cached
+     * Endpoints are used to wait for the endpoint readiness based on the watch events.
+     *
+     * @param namespace The namespace which should be cached or {@code *} for all namespaces.
+     * @param metrics   Metrics provider used for the cache metrics.
+     *
+     * @return A future which completes when both caches for the given namespace are synced.
+     */
+    @Override
+    public Future<Void> enableCache(String namespace, MetricsProvider metrics) {
+        return CompositeFuture.all(super.enableCache(namespace, metrics), endpointOperations.enableCache(namespace, metrics))
+                .map((Void) null);
+    }
+
     public Future<Void> endpointReadiness(Reconciliation reconciliation, String namespace, String name, long pollInterval, long operationTimeoutMs) {
         return endpointOperations.readiness(reconciliation, namespace, name, pollInterval, operationTimeoutMs);
     }
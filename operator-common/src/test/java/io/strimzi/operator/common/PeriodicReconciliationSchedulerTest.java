@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconciliationSchedulerTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String KIND = "TestResource";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Set<NamespaceAndName> resources(int count) {
+        Set<NamespaceAndName> resources = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            resources.add(new NamespaceAndName(NAMESPACE, "my-cluster-" + i));
+        }
+        return resources;
+    }
+
+    @Test
+    public void testPhaseOffsetsAreSpreadAcrossInterval() {
+        long intervalMs = 120_000;
+        int buckets = 10;
+        int[] histogram = new int[buckets];
+
+        for (NamespaceAndName resource : resources(1_000)) {
+            long offset = PeriodicReconciliationScheduler.phaseOffsetMs(KIND, resource, intervalMs);
+
+            assertThat(offset >= 0 && offset < intervalMs, is(true));
+            histogram[(int) (offset * buckets / intervalMs)]++;
+        }
+
+        // 100 resources are expected in each bucket
+        for (int count : histogram) {
+            assertThat(count, is(greaterThan(60)));
+            assertThat(count, is(lessThan(140)));
+        }
+    }
+
+    @Test
+    public void testPhaseOffsetIsStable() {
+        NamespaceAndName resource = new NamespaceAndName(NAMESPACE, "my-cluster");
+
+        assertThat(PeriodicReconciliationScheduler.phaseOffsetMs(KIND, resource, 120_000),
+                is(PeriodicReconciliationScheduler.phaseOffsetMs(KIND, new NamespaceAndName(NAMESPACE, "my-cluster"), 120_000)));
+    }
+
+    @Test
+    public void testReconciliationsRespectInFlightLimit(VertxTestContext context) {
+        int resourceCount = 20;
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> reconciled = new ArrayList<>();
+
+        Operator operator = mock(Operator.class);
+        when(operator.kind()).thenReturn(KIND);
+        when(operator.allResourceNames(anyString())).thenReturn(Future.succeededFuture(resources(resourceCount)));
+        when(operator.getResourceCounter()).thenReturn(new AtomicInteger());
+        when(operator.getPausedResourceCounter()).thenReturn(new AtomicInteger());
+        when(operator.getPeriodicReconciliationsCounter()).thenReturn(mock(Counter.class));
+        when(operator.enqueue(any())).thenAnswer(i -> {
+            Reconciliation reconciliation = i.getArgument(0);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+            Promise<Void> promise = Promise.promise();
+            vertx.setTimer(20, t -> {
+                running.decrementAndGet();
+                synchronized (reconciled) {
+                    reconciled.add(reconciliation.name());
+                }
+                promise.complete();
+            });
+            return promise.future();
+        });
+
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, operator, 200, 2, metrics);
+        scheduler.reconcileAll("timer", NAMESPACE);
+
+        vertx.setTimer(1_000, t -> context.verify(() -> {
+            assertThat(reconciled.size(), is(resourceCount));
+            assertThat(new HashSet<>(reconciled).size(), is(resourceCount));
+            assertThat(maxRunning.get() <= 2, is(true));
+            assertThat(scheduler.pending(), is(0));
+            assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.periodic.offset").timer().count(), is((long) resourceCount));
+            assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.periodic.lag").timer().count(), is((long) resourceCount));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testCancel(VertxTestContext context) {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        AtomicInteger reconciled = new AtomicInteger();
+
+        Operator operator = mock(Operator.class);
+        when(operator.kind()).thenReturn(KIND);
+        when(operator.allResourceNames(anyString())).thenReturn(Future.succeededFuture(resources(10)));
+        when(operator.getResourceCounter()).thenReturn(new AtomicInteger());
+        when(operator.getPausedResourceCounter()).thenReturn(new AtomicInteger());
+        when(operator.getPeriodicReconciliationsCounter()).thenReturn(mock(Counter.class));
+        when(operator.enqueue(any())).thenAnswer(i -> {
+            reconciled.incrementAndGet();
+            return Future.succeededFuture();
+        });
+
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, operator, 60_000, 2, metrics);
+        scheduler.reconcileAll("timer", NAMESPACE);
+
+        assertThat(scheduler.pending(), is(10));
+
+        // Scheduling again does not duplicate the reconciliations which did not start yet
+        scheduler.reconcileAll("timer", NAMESPACE);
+        assertThat(scheduler.pending(), is(10));
+
+        scheduler.cancel();
+        assertThat(scheduler.pending(), is(0));
+        assertThat(reconciled.get(), is(0));
+        context.completeNow();
+    }
+}
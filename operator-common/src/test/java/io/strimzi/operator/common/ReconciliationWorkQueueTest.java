@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationWorkQueueTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String KIND = "TestResource";
+
+    private static Vertx vertx;
+
+    private MetricsProvider metrics;
+    private List<Reconciliation> started;
+    private List<Promise<Void>> running;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        started = new ArrayList<>();
+        running = new ArrayList<>();
+    }
+
+    private Future<Void> reconcile(Reconciliation reconciliation) {
+        Promise<Void> promise = Promise.promise();
+        started.add(reconciliation);
+        running.add(promise);
+        return promise.future();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", KIND, NAMESPACE, name);
+    }
+
+    @Test
+    public void testConcurrencyLimit() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, KIND, this::reconcile, 2, BackOff::new, metrics);
+
+        queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+        Future<Void> c = queue.enqueue(reconciliation("c"));
+
+        assertThat(started.size(), is(2));
+        assertThat(queue.size(), is(1));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.queue.depth").gauge().value(), is(1.0));
+
+        running.get(0).complete();
+
+        assertThat(started.size(), is(3));
+        assertThat(started.get(2).name(), is("c"));
+        assertThat(queue.size(), is(0));
+
+        running.get(1).complete();
+        running.get(2).complete();
+
+        assertThat(c.succeeded(), is(true));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.queue.wait").timer().count(), is(3L));
+    }
+
+    @Test
+    public void testQueuedReconciliationsAreMerged() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, KIND, this::reconcile, 1, BackOff::new, metrics);
+
+        queue.enqueue(reconciliation("a"));
+        Future<Void> first = queue.enqueue(reconciliation("b"));
+        Future<Void> second = queue.enqueue(reconciliation("b"));
+
+        assertThat(queue.size(), is(1));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.queue.deduplicated").counter().count(), is(1.0));
+
+        running.get(0).complete();
+        running.get(1).complete();
+
+        assertThat(started.size(), is(2));
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.succeeded(), is(true));
+    }
+
+    @Test
+    public void testRunningResourceIsReconciledAgainOnce() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, KIND, this::reconcile, 2, BackOff::new, metrics);
+
+        Future<Void> first = queue.enqueue(reconciliation("a"));
+        Future<Void> second = queue.enqueue(reconciliation("a"));
+        Future<Void> third = queue.enqueue(reconciliation("a"));
+
+        // Only one reconciliation of the same resource runs at a time, even when the limit would allow more
+        assertThat(started.size(), is(1));
+
+        running.get(0).complete();
+
+        assertThat(first.succeeded(), is(true));
+        assertThat(started.size(), is(2));
+
+        running.get(1).complete();
+
+        assertThat(second.succeeded(), is(true));
+        assertThat(third.succeeded(), is(true));
+        assertThat(started.size(), is(2));
+    }
+
+    @Test
+    public void testFailedReconciliationIsRetried(VertxTestContext context) {
+        AtomicInteger attempts = new AtomicInteger();
+        Checkpoint retried = context.checkpoint();
+
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, KIND, reconciliation -> {
+            if (attempts.incrementAndGet() < 3) {
+                return Future.failedFuture(new RuntimeException("failed"));
+            } else {
+                context.verify(() -> {
+                    assertThat(reconciliation.toString(), containsString("(retry)"));
+                    assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.queue.retries").counter().count(), is(2.0));
+                });
+                retried.flag();
+                return Future.succeededFuture();
+            }
+        }, 1, () -> new BackOff(10, 2, 5), metrics);
+
+        queue.enqueue(reconciliation("a"))
+                .onComplete(context.failing(e -> context.verify(() -> assertThat(e.getMessage(), is("failed")))));
+    }
+
+    @Test
+    public void testRetriesGiveUpWhenBackOffIsExhausted(VertxTestContext context) {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, KIND, reconciliation -> {
+            attempts.incrementAndGet();
+            return Future.failedFuture(new RuntimeException("failed"));
+        }, 1, () -> new BackOff(10, 2, 3), metrics);
+
+        queue.enqueue(reconciliation("a"));
+
+        vertx.setTimer(500, t -> context.verify(() -> {
+            assertThat(attempts.get(), is(3));
+            assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "reconciliations.queue.retries").counter().count(), is(2.0));
+            context.completeNow();
+        }));
+    }
+}
@@ -10,11 +10,16 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.strimzi.operator.common.Util.matchesSelector;
 import static io.strimzi.operator.common.Util.parseMap;
@@ -188,4 +193,30 @@ public class UtilTest {
         selector = Optional.of(new LabelSelectorBuilder().withMatchLabels(Map.of("label2", "value2", "label1", "value1", "label3", "value3")).build());
         assertThat(matchesSelector(selector, testResource), is(false));
     }
+
+    @Test
+    public void testWaitForIsTriggeredByChanges() throws Exception {
+        Vertx vertx = Vertx.vertx();
+
+        try {
+            AtomicBoolean ready = new AtomicBoolean(false);
+            AtomicReference<Runnable> listener = new AtomicReference<>();
+            AtomicBoolean unsubscribed = new AtomicBoolean(false);
+
+            // The poll interval is longer than the test timeout, so only the change can complete the wait
+            Future<Void> wait = Util.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "test", "ready", 60_000L, 120_000L,
+                ready::get, error -> false, l -> {
+                    listener.set(l);
+                    return () -> unsubscribed.set(true);
+                });
+
+            ready.set(true);
+            listener.get().run();
+
+            wait.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThat(unsubscribed.get(), is(true));
+        } finally {
+            vertx.close();
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.zjsonpatch.JsonDiff;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AbstractJsonDiffTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Asserts that firstDifference finds a change which is not ignorable exactly when the full JsonDiff (as it was
+     * used by the diffs before) contains a change which is not ignorable.
+     */
+    private static String assertSameAsJsonDiff(String source, String target, String ignorable, boolean empty) throws IOException {
+        JsonNode sourceNode = MAPPER.readTree(source);
+        JsonNode targetNode = MAPPER.readTree(target);
+        Pattern ignorablePaths = Pattern.compile(ignorable);
+
+        boolean jsonDiffEmpty = true;
+        for (JsonNode d : JsonDiff.asJson(sourceNode, targetNode)) {
+            if (!ignorablePaths.matcher(d.get("path").asText()).matches()) {
+                jsonDiffEmpty = false;
+                break;
+            }
+        }
+
+        String path = AbstractJsonDiff.firstDifference(sourceNode, targetNode, ignorablePaths);
+
+        assertThat(jsonDiffEmpty, is(empty));
+        assertThat(path == null, is(empty));
+
+        return path;
+    }
+
+    @Test
+    public void testSameTrees() throws IOException {
+        assertSameAsJsonDiff("{\"a\":[{\"b\":1},{\"c\":[1,2]}]}", "{\"a\":[{\"b\":1},{\"c\":[1,2]}]}", "^$", true);
+    }
+
+    @Test
+    public void testArrayItemInserted() throws IOException {
+        String source = "{\"items\":[{\"a\":1,\"ignored\":1}]}";
+
+        assertThat(assertSameAsJsonDiff(source, "{\"items\":[{\"a\":0},{\"a\":1,\"ignored\":1}]}", "^/items/[0-9]+/ignored$", false), is("/items/0"));
+        // The inserted item differs from the existing one only in an ignorable field
+        assertThat(assertSameAsJsonDiff(source, "{\"items\":[{\"a\":1,\"ignored\":2},{\"a\":1,\"ignored\":1}]}", "^/items/[0-9]+/ignored$", false), is("/items/0"));
+        assertThat(assertSameAsJsonDiff(source, "{\"items\":[{\"a\":1,\"ignored\":1},{\"a\":1,\"ignored\":2}]}", "^/items/[0-9]+/ignored$", false), is("/items/1"));
+    }
+
+    @Test
+    public void testArrayItemRemoved() throws IOException {
+        String target = "{\"items\":[{\"a\":1,\"ignored\":1}]}";
+
+        assertSameAsJsonDiff("{\"items\":[{\"a\":0},{\"a\":1,\"ignored\":1}]}", target, "^/items/[0-9]+/ignored$", false);
+        assertSameAsJsonDiff("{\"items\":[{\"a\":1,\"ignored\":2},{\"a\":1,\"ignored\":1}]}", target, "^/items/[0-9]+/ignored$", false);
+        assertSameAsJsonDiff("{\"items\":[{\"a\":1,\"ignored\":1},{\"a\":1,\"ignored\":2}]}", target, "^/items/[0-9]+/ignored$", false);
+        assertSameAsJsonDiff("{\"items\":[1,2,3]}", "{\"items\":[]}", "^/items/[0-9]+$", true);
+    }
+
+    @Test
+    public void testArrayItemsReordered() throws IOException {
+        // Compared by position, the items would differ only in the ignorable fields
+        assertSameAsJsonDiff("{\"items\":[{\"a\":1,\"ignored\":1},{\"a\":1,\"ignored\":2}]}",
+                "{\"items\":[{\"a\":1,\"ignored\":2},{\"a\":1,\"ignored\":1}]}",
+                "^/items/[0-9]+/ignored$", false);
+    }
+
+    @Test
+    public void testArrayItemChanged() throws IOException {
+        assertThat(assertSameAsJsonDiff("{\"items\":[{\"a\":1,\"ignored\":1},{\"a\":2}]}", "{\"items\":[{\"a\":1,\"ignored\":2},{\"a\":3}]}", "^/items/[0-9]+/ignored$", false), is("/items/1/a"));
+        assertSameAsJsonDiff("{\"items\":[{\"a\":1,\"ignored\":1},{\"a\":2}]}", "{\"items\":[{\"a\":1,\"ignored\":2},{\"a\":2}]}", "^/items/[0-9]+/ignored$", true);
+    }
+
+    @Test
+    public void testRemovalMergedIntoIgnorableMove() throws IOException {
+        // JsonDiff reports the removal and the addition of the same value as a move to the ignorable path
+        assertSameAsJsonDiff("{\"a\":\"x\"}", "{\"ignored\":\"x\"}", "^/ignored$", true);
+        assertSameAsJsonDiff("{\"a\":\"x\"}", "{\"ignored\":\"y\"}", "^/ignored$", false);
+    }
+
+    @Test
+    public void testObjectReplacedByArray() throws IOException {
+        assertThat(assertSameAsJsonDiff("{\"a\":{\"b\":1}}", "{\"a\":[1]}", "^/a/b$", false), is("/a"));
+        assertThat(assertSameAsJsonDiff("{\"a\":[1]}", "{\"a\":{\"b\":1}}", "^/a/0$", false), is("/a"));
+        assertSameAsJsonDiff("{\"a\":{\"b\":1}}", "{\"a\":[1]}", "^/a$", true);
+        assertSameAsJsonDiff("{\"a\":[1]}", "{\"a\":{\"b\":1}}", "^/a$", true);
+        assertThat(assertSameAsJsonDiff("{\"a\":1}", "[1]", "^/a$", false), is("/"));
+    }
+
+    @Test
+    public void testEscapedPaths() throws IOException {
+        String source = "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"1\",\"a~b\":\"1\"}}}";
+
+        assertSameAsJsonDiff(source, "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"2\",\"a~b\":\"1\"}}}",
+                "^/metadata/annotations/strimzi.io~1generation$", true);
+        assertSameAsJsonDiff(source, "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"1\",\"a~b\":\"2\"}}}",
+                "^/metadata/annotations/a~0b$", true);
+        assertThat(assertSameAsJsonDiff(source, "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"2\",\"a~b\":\"2\"}}}",
+                "^/metadata/annotations/strimzi.io~1generation$", false), is("/metadata/annotations/a~0b"));
+        assertThat(assertSameAsJsonDiff(source, "{\"metadata\":{\"annotations\":{\"strimzi.io/generation\":\"2\",\"a~b\":\"2\"}}}",
+                "^/metadata/annotations/a~0b$", false), is("/metadata/annotations/strimzi.io~1generation"));
+    }
+
+    @Test
+    public void testIgnorableLeafNextToChangedSibling() throws IOException {
+        String source = "{\"spec\":{\"ignored\":1,\"value\":1}}";
+
+        assertSameAsJsonDiff(source, "{\"spec\":{\"ignored\":2,\"value\":1}}", "^/spec/ignored$", true);
+        assertThat(assertSameAsJsonDiff(source, "{\"spec\":{\"ignored\":2,\"value\":2}}", "^/spec/ignored$", false), is("/spec/value"));
+        assertThat(assertSameAsJsonDiff(source, "{\"spec\":{\"value\":1,\"added\":1}}", "^/spec/ignored$", false), is("/spec/added"));
+        // Changes below an ignorable path are not ignored
+        assertThat(assertSameAsJsonDiff("{\"spec\":{\"ignored\":{\"a\":1}}}", "{\"spec\":{\"ignored\":{\"a\":2}}}", "^/spec/ignored$", false), is("/spec/ignored/a"));
+    }
+}
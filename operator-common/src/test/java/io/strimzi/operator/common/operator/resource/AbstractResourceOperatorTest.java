@@ -11,10 +11,12 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -23,13 +25,19 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
@@ -211,6 +219,186 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
         })));
     }
 
+    @Test
+    public void testReconcileAllPatchesListedResourceWithoutGettingIt(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.withPropagationPolicy(any())).thenReturn(mockResource);
+        when(mockResource.patch(any())).thenReturn(resource);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClientForReconcileAll(List.of(resource), Map.of(RESOURCE_NAME, mockResource)));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), List.of(modifiedResource()))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.size(), is(1));
+                verify(mockResource, never()).get();
+                verify(mockResource).patch(any());
+                verify(mockResource, never()).create(any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllGetsAndCreatesResourceMissingInTheList(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.create((T) any())).thenReturn(resource);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClientForReconcileAll(List.of(), Map.of(RESOURCE_NAME, mockResource)));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), List.of(resource))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.size(), is(1));
+                verify(mockResource).get();
+                verify(mockResource).create(eq(resource));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllDoesNotCreateExistingResourceMissingInTheList(VertxTestContext context) {
+        // The resource exists, but it does not match the selector anymore and is therefore not listed
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.withPropagationPolicy(any())).thenReturn(mockResource);
+        when(mockResource.patch(any())).thenReturn(resource);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClientForReconcileAll(List.of(), Map.of(RESOURCE_NAME, mockResource)));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), List.of(modifiedResource()))
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.size(), is(1));
+                verify(mockResource).get();
+                verify(mockResource, never()).create(any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllDeletesListedResourcesWhichAreNotDesired(VertxTestContext context) {
+        EditReplacePatchDeletable mockDeletable = mock(EditReplacePatchDeletable.class);
+        when(mockDeletable.delete()).thenReturn(Boolean.TRUE);
+        EditReplacePatchDeletable mockDeletableGrace = mock(EditReplacePatchDeletable.class);
+        when(mockDeletableGrace.withGracePeriod(anyLong())).thenReturn(mockDeletable);
+
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.withPropagationPolicy(any())).thenReturn(mockDeletableGrace);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.DELETED, resource);
+            return (Watch) () -> { };
+        });
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClientForReconcileAll(List.of(resource), Map.of(RESOURCE_NAME, mockResource)));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), List.of())
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.size(), is(1));
+                verify(mockDeletable).delete();
+                verify(mockResource, never()).create(any());
+                verify(mockResource, never()).patch(any());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllReconcilesAtMostTheParallelismAtTheSameTime(VertxTestContext context) {
+        int numResources = AbstractResourceOperator.RECONCILE_ALL_PARALLELISM * 3;
+        AtomicInteger inProgress = new AtomicInteger(0);
+        AtomicInteger maxInProgress = new AtomicInteger(0);
+
+        List<T> desired = new ArrayList<>(numResources);
+        Map<String, Resource> mockResources = new HashMap<>(numResources);
+        for (int i = 0; i < numResources; i++) {
+            T resource = resource();
+            resource.getMetadata().setName(RESOURCE_NAME + "-" + i);
+            desired.add(resource);
+
+            Resource mockResource = mock(resourceType());
+            when(mockResource.get()).thenReturn(null);
+            when(mockResource.create((T) any())).thenAnswer(invocation -> {
+                maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                inProgress.decrementAndGet();
+                return resource;
+            });
+            mockResources.put(resource.getMetadata().getName(), mockResource);
+        }
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx, mockClientForReconcileAll(List.of(), mockResources));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), desired)
+            .onComplete(context.succeeding(results -> context.verify(() -> {
+                assertThat(results.size(), is(numResources));
+                assertThat(maxInProgress.get() <= AbstractResourceOperator.RECONCILE_ALL_PARALLELISM, is(true));
+                for (T resource : desired) {
+                    verify(mockResources.get(resource.getMetadata().getName())).create(eq(resource));
+                }
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileAllFailsWhenAnyResourceFails(VertxTestContext context) {
+        RuntimeException ex = new RuntimeException("Testing this exception is handled correctly");
+
+        T failing = resource();
+        failing.getMetadata().setName(RESOURCE_NAME + "-failing");
+        Resource mockFailingResource = mock(resourceType());
+        when(mockFailingResource.get()).thenReturn(null);
+        when(mockFailingResource.create((T) any())).thenThrow(ex);
+
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.create((T) any())).thenReturn(resource);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperationsWithMockedReadiness(vertx,
+                mockClientForReconcileAll(List.of(), Map.of(failing.getMetadata().getName(), mockFailingResource, RESOURCE_NAME, mockResource)));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), List.of(failing, resource))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, is(ex));
+                // The other resources are still reconciled
+                verify(mockResource).create(eq(resource));
+                async.flag();
+            })));
+    }
+
+    /**
+     * Mocks a client listing the given {@code listed} resources and returning the given {@code mockResources} by name.
+     */
+    @SuppressWarnings("unchecked")
+    protected C mockClientForReconcileAll(List<T> listed, Map<String, Resource> mockResources) {
+        KubernetesResourceList mockList = mock(KubernetesResourceList.class);
+        when(mockList.getItems()).thenReturn(listed);
+
+        FilterWatchListDeletable mockListable = mock(FilterWatchListDeletable.class);
+        when(mockListable.list()).thenReturn(mockList);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(anyString())).thenAnswer(invocation -> mockResources.get(invocation.<String>getArgument(0)));
+        when(mockNameable.withLabels(any())).thenReturn(mockListable);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        return mockClient;
+    }
+
     @Test
     public void testCreateOrUpdateThrowsWhenCreateThrows(VertxTestContext context) {
         T resource = resource();
@@ -4,27 +4,44 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PodOperatorTest extends
@@ -53,6 +70,122 @@ public class PodOperatorTest extends
         });
     }
 
+    @Test
+    public void testRestartWithCacheWaitsForTheWatchToReportTheDeletion(VertxTestContext context) {
+        Pod pod = new PodBuilder(resource())
+                .editMetadata()
+                    .withUid("old-uid")
+                    .withResourceVersion("10")
+                .endMetadata()
+                .build();
+
+        EditReplacePatchDeletable mockDeletable = mock(EditReplacePatchDeletable.class);
+        when(mockDeletable.delete()).thenReturn(Boolean.TRUE);
+        when(mockDeletable.withGracePeriod(anyLong())).thenReturn(mockDeletable);
+
+        PodResource mockResource = mock(PodResource.class);
+        // The Kubernetes API still returns the terminating pod
+        when(mockResource.get()).thenReturn(pod);
+        when(mockResource.withPropagationPolicy(eq(DeletionPropagation.FOREGROUND))).thenReturn(mockDeletable);
+        // The watch used by the deletion sees the pod deleted before the cache watch does
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.DELETED, pod);
+            return mock(Watch.class);
+        });
+
+        AtomicReference<Watcher<Pod>> cacheWatcher = new AtomicReference<>();
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.list()).thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("10").endMetadata().withItems(pod).build());
+        when(mockNameable.watch(any(ListOptions.class), any(Watcher.class))).thenAnswer(invocation -> {
+            cacheWatcher.set(invocation.getArgument(1));
+            return mock(Watch.class);
+        });
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+
+        PodOperator op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(NAMESPACE, new MicrometerMetricsProvider(new SimpleMeterRegistry()))
+            .onComplete(context.succeeding(v -> {
+                Future<Void> restart = op.restart(Reconciliation.DUMMY_RECONCILIATION, pod, 10_000);
+
+                vertx.setTimer(2_000, timerId -> {
+                    context.verify(() -> assertThat(restart.isComplete(), is(false)));
+
+                    cacheWatcher.get().eventReceived(Watcher.Action.DELETED, pod);
+                    restart.onComplete(context.succeeding(v2 -> async.flag()));
+                });
+            }));
+    }
+
+    @Test
+    public void testReadinessWithCacheIsEvaluatedOnTheWatchedPod(VertxTestContext context) {
+        Pod pod = new PodBuilder(resource())
+                .editMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("False")
+                    .endCondition()
+                .endStatus()
+                .build();
+
+        PodResource mockResource = mock(PodResource.class);
+
+        AtomicReference<Watcher<Pod>> cacheWatcher = new AtomicReference<>();
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.list()).thenReturn(new PodListBuilder().withNewMetadata().withResourceVersion("10").endMetadata().withItems(pod).build());
+        when(mockNameable.watch(any(ListOptions.class), any(Watcher.class))).thenAnswer(invocation -> {
+            cacheWatcher.set(invocation.getArgument(1));
+            return mock(Watch.class);
+        });
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+
+        PodOperator op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(NAMESPACE, new MicrometerMetricsProvider(new SimpleMeterRegistry()))
+            .onComplete(context.succeeding(v -> {
+                Future<Void> readiness = op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 1_000, 10_000);
+
+                vertx.setTimer(500, timerId -> {
+                    context.verify(() -> assertThat(readiness.isComplete(), is(false)));
+
+                    cacheWatcher.get().eventReceived(Watcher.Action.MODIFIED, new PodBuilder(pod)
+                            .editMetadata()
+                                .withResourceVersion("11")
+                            .endMetadata()
+                            .editStatus()
+                                .editFirstCondition()
+                                    .withStatus("True")
+                                .endCondition()
+                            .endStatus()
+                            .build());
+
+                    readiness.onComplete(context.succeeding(v2 -> context.verify(() -> {
+                        verify(mockResource, never()).get();
+                        verify(mockResource, never()).isReady();
+                        async.flag();
+                    })));
+                });
+            }));
+    }
+
     @Override
     protected Class clientType() {
         return KubernetesClient.class;
@@ -0,0 +1,201 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.operator.common.AbstractOperator.METRICS_PREFIX;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private MetricsProvider metrics;
+    private ResourceCache<ConfigMap> cache;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        cache = new ResourceCache<>("ConfigMap", metrics);
+    }
+
+    private static ConfigMap configMap(String namespace, String name, String resourceVersion, Map<String, String> labels, String value) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(labels)
+                .endMetadata()
+                .withData(Map.of("key", value))
+                .build();
+    }
+
+    @Test
+    public void testReadsAreServedOnlyForWatchedNamespaces() {
+        cache.populate(NAMESPACE, List.of(configMap(NAMESPACE, "cm", "1", Map.of(), "a")));
+
+        assertThat(cache.covers(NAMESPACE), is(false));
+
+        cache.watching(NAMESPACE, mock(Watch.class));
+
+        assertThat(cache.covers(NAMESPACE), is(true));
+        assertThat(cache.covers("other-namespace"), is(false));
+        assertThat(cache.get(NAMESPACE, "cm").getData().get("key"), is("a"));
+        assertThat(cache.get(NAMESPACE, "missing"), is(nullValue()));
+
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "resource.cache.hits").counter().count(), is(2.0));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "resource.cache.misses").counter().count(), is(2.0));
+    }
+
+    @Test
+    public void testListByLabels() {
+        cache.populate(NAMESPACE, List.of(
+                configMap(NAMESPACE, "cm1", "1", Map.of("app", "kafka", "cluster", "a"), "a"),
+                configMap(NAMESPACE, "cm2", "2", Map.of("app", "kafka", "cluster", "b"), "b"),
+                configMap(NAMESPACE, "cm3", "3", Map.of("app", "other"), "c"),
+                configMap("other-namespace", "cm4", "4", Map.of("app", "kafka", "cluster", "a"), "d")));
+
+        assertThat(cache.list(NAMESPACE, null).size(), is(3));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "kafka")).size(), is(2));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "kafka", "cluster", "b")).get(0).getMetadata().getName(), is("cm2"));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "missing")).size(), is(0));
+        assertThat(cache.list(AbstractWatchableResourceOperator.ANY_NAMESPACE, Map.of("cluster", "a")).size(), is(2));
+    }
+
+    @Test
+    public void testLabelIndexIsUpdatedOnModification() {
+        Watcher<ConfigMap> watcher = cache.watcher(NAMESPACE, e -> { });
+        watcher.eventReceived(Watcher.Action.ADDED, configMap(NAMESPACE, "cm", "1", Map.of("app", "kafka"), "a"));
+        watcher.eventReceived(Watcher.Action.MODIFIED, configMap(NAMESPACE, "cm", "2", Map.of("app", "other"), "a"));
+
+        assertThat(cache.list(NAMESPACE, Map.of("app", "kafka")).size(), is(0));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "other")).size(), is(1));
+
+        watcher.eventReceived(Watcher.Action.DELETED, configMap(NAMESPACE, "cm", "3", Map.of("app", "other"), "a"));
+
+        assertThat(cache.list(NAMESPACE, Map.of("app", "other")).size(), is(0));
+        assertThat(cache.get(NAMESPACE, "cm"), is(nullValue()));
+    }
+
+    @Test
+    public void testReadYourWrites() {
+        Watcher<ConfigMap> watcher = cache.watcher(NAMESPACE, e -> { });
+        watcher.eventReceived(Watcher.Action.ADDED, configMap(NAMESPACE, "cm", "10", Map.of(), "a"));
+
+        cache.written(configMap(NAMESPACE, "cm", "12", Map.of(), "c"));
+        assertThat(cache.get(NAMESPACE, "cm").getData().get("key"), is("c"));
+
+        // Event for an older version arriving after our write should not roll the cache back
+        watcher.eventReceived(Watcher.Action.MODIFIED, configMap(NAMESPACE, "cm", "11", Map.of(), "b"));
+        assertThat(cache.get(NAMESPACE, "cm").getData().get("key"), is("c"));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "resource.cache.stale.events").counter().count(), is(1.0));
+
+        watcher.eventReceived(Watcher.Action.MODIFIED, configMap(NAMESPACE, "cm", "12", Map.of(), "c"));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "resource.cache.staleness").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testDeletedResourcesAreKeptUntilTheWatchReportsTheDeletion() {
+        Watcher<ConfigMap> watcher = cache.watcher(NAMESPACE, e -> { });
+        cache.watching(NAMESPACE, mock(Watch.class));
+        watcher.eventReceived(Watcher.Action.ADDED, configMap(NAMESPACE, "cm", "10", Map.of("app", "kafka"), "a"));
+
+        cache.deleted(NAMESPACE, "cm");
+
+        // The resource might still be terminating, so it is read from the Kubernetes API
+        assertThat(cache.covers(NAMESPACE, "cm"), is(false));
+        assertThat(cache.covers(NAMESPACE, "other-cm"), is(true));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "kafka")).size(), is(1));
+
+        watcher.eventReceived(Watcher.Action.DELETED, configMap(NAMESPACE, "cm", "11", Map.of("app", "kafka"), "a"));
+
+        assertThat(cache.covers(NAMESPACE, "cm"), is(true));
+        assertThat(cache.get(NAMESPACE, "cm"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "kafka")).size(), is(0));
+    }
+
+    @Test
+    public void testDeletionOfPreviousInstanceDoesNotRemoveRecreatedResource() {
+        Watcher<ConfigMap> watcher = cache.watcher(NAMESPACE, e -> { });
+        cache.watching(NAMESPACE, mock(Watch.class));
+
+        ConfigMap old = configMap(NAMESPACE, "cm", "10", Map.of(), "a");
+        old.getMetadata().setUid("old-uid");
+        watcher.eventReceived(Watcher.Action.ADDED, old);
+        cache.deleted(NAMESPACE, "cm");
+
+        ConfigMap recreated = configMap(NAMESPACE, "cm", "12", Map.of(), "b");
+        recreated.getMetadata().setUid("new-uid");
+        cache.written(recreated);
+        assertThat(cache.covers(NAMESPACE, "cm"), is(true));
+
+        watcher.eventReceived(Watcher.Action.DELETED, old);
+        assertThat(cache.get(NAMESPACE, "cm").getData().get("key"), is("b"));
+    }
+
+    @Test
+    public void testCachedResourcesAreCopied() {
+        ConfigMap cm = configMap(NAMESPACE, "cm", "1", Map.of(), "a");
+        cache.populate(NAMESPACE, List.of(cm));
+
+        cm.getData().put("key", "modified");
+        cache.get(NAMESPACE, "cm").getData().put("key", "modified");
+
+        assertThat(cache.get(NAMESPACE, "cm").getData().get("key"), is("a"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.populate(NAMESPACE, List.of(configMap(NAMESPACE, "cm", "1", Map.of(), "a"), configMap("other-namespace", "cm", "1", Map.of(), "a")));
+        cache.watching(NAMESPACE, mock(Watch.class));
+
+        cache.invalidate(NAMESPACE);
+
+        assertThat(cache.covers(NAMESPACE), is(false));
+        assertThat(cache.list(AbstractWatchableResourceOperator.ANY_NAMESPACE, null).size(), is(1));
+        assertThat(metrics.meterRegistry().get(METRICS_PREFIX + "resource.cache.size").gauge().value(), is(1.0));
+    }
+
+    @Test
+    public void testListenersAreNotifiedAboutChanges() {
+        AtomicInteger changes = new AtomicInteger();
+        Runnable unsubscribe = cache.onChange(NAMESPACE, "cm", changes::incrementAndGet);
+        Watcher<ConfigMap> watcher = cache.watcher(NAMESPACE, e -> { });
+
+        watcher.eventReceived(Watcher.Action.ADDED, configMap(NAMESPACE, "cm", "1", Map.of(), "a"));
+        assertThat(changes.get(), is(1));
+
+        // Changes of other resources are not reported
+        watcher.eventReceived(Watcher.Action.ADDED, configMap(NAMESPACE, "other-cm", "2", Map.of(), "a"));
+        assertThat(changes.get(), is(1));
+
+        cache.written(configMap(NAMESPACE, "cm", "3", Map.of(), "b"));
+        assertThat(changes.get(), is(2));
+
+        watcher.eventReceived(Watcher.Action.DELETED, configMap(NAMESPACE, "cm", "4", Map.of(), "b"));
+        assertThat(changes.get(), is(3));
+
+        unsubscribe.run();
+        watcher.eventReceived(Watcher.Action.ADDED, configMap(NAMESPACE, "cm", "5", Map.of(), "c"));
+        assertThat(changes.get(), is(3));
+    }
+}
@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxTestContext;
@@ -121,6 +122,26 @@ public class ServiceAccountOperatorTest extends AbstractResourceOperatorTest<Kub
             }));
     }
 
+    @Override
+    @Test
+    public void testReconcileAllPatchesListedResourceWithoutGettingIt(VertxTestContext context) {
+        // This is overridden because SA patch is coded as a no op to avoid needless token creation.
+        ServiceAccount resource = resource();
+        Resource mockResource = mock(resourceType());
+
+        ServiceAccountOperator op = new ServiceAccountOperator(vertx, mockClientForReconcileAll(List.of(resource), Map.of(RESOURCE_NAME, mockResource)));
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.fromMap(Map.of("foo", "bar")), List.of(modifiedResource()))
+            .onComplete(context.succeeding(results -> {
+                context.verify(() -> assertThat(results.get(0), instanceOf(ReconcileResult.Noop.class)));
+                verify(mockResource, never()).get();
+                verify(mockResource, never()).patch(any());
+                verify(mockResource, never()).create(any());
+                async.flag();
+            }));
+    }
+
     @Test
     public void testSecretsPatching(VertxTestContext context)   {
         List<ObjectReference> secrets = List.of(
@@ -0,0 +1,282 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.TopicExistsException;
+
+/**
+ * {@link KafkaImpl} which batches the Admin API requests for individual topics. The requests for the same operation
+ * which are made within the batch window are sent as a single Admin API request with up to {@code batchSize} topics.
+ * This applies to:
+ *
+ * <ul>
+ *     <li>the validate-only topic creation used to check whether a topic exists,</li>
+ *     <li>describing the topics and their configurations,</li>
+ *     <li>updating the topic configurations (using {@code incrementalAlterConfigs}), and</li>
+ *     <li>increasing the number of partitions.</li>
+ * </ul>
+ *
+ * Every caller still gets its own future for its own topic, so the per-topic locking done by the {@link TopicOperator}
+ * is not affected. With thousands of topics, the periodic reconciliation then needs a few requests per window instead
+ * of several requests for every topic.
+ */
+public class BatchingKafkaImpl extends KafkaImpl {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingKafkaImpl.class);
+
+    private final int batchSize;
+    private final long batchWindowMs;
+
+    private final Batch<NewTopic, Void> validateOnlyCreations;
+    private final Batch<Void, TopicDescription> topicDescriptions;
+    private final Batch<Void, Config> topicConfigs;
+    private final Batch<Collection<AlterConfigOp>, Void> configUpdates;
+    private final Batch<NewPartitions, Void> partitionIncreases;
+
+    /**
+     * Constructor
+     *
+     * @param adminClient   Kafka Admin client
+     * @param vertx         Vertx instance
+     * @param batchSize     Maximal number of topics in a single Admin API request
+     * @param batchWindowMs Time for which the requests are collected before they are sent
+     */
+    public BatchingKafkaImpl(Admin adminClient, Vertx vertx, int batchSize, long batchWindowMs) {
+        super(adminClient, vertx);
+        this.batchSize = batchSize;
+        this.batchWindowMs = batchWindowMs;
+
+        this.validateOnlyCreations = new Batch<>("validate-only createTopics",
+            requests -> adminClient.createTopics(requests.values(), new CreateTopicsOptions().validateOnly(true)).values());
+        this.topicDescriptions = new Batch<>("describeTopics",
+            requests -> adminClient.describeTopics(requests.keySet()).values());
+        this.topicConfigs = new Batch<>("describeConfigs",
+            requests -> byTopicName(adminClient.describeConfigs(topicResources(requests).keySet()).values()));
+        this.configUpdates = new Batch<>("incrementalAlterConfigs",
+            requests -> byTopicName(adminClient.incrementalAlterConfigs(topicResources(requests)).values()));
+        this.partitionIncreases = new Batch<>("createPartitions",
+            requests -> adminClient.createPartitions(requests).values());
+    }
+
+    @Override
+    public Future<Boolean> topicExists(Reconciliation reconciliation, TopicName topicName) {
+        // Same as in KafkaImpl, a validate-only creation goes to the controller
+        return validateOnlyCreations.add(topicName.toString(), new NewTopic(topicName.toString(), 1, (short) 1))
+                .map(ignored -> false)
+                .recover(
+                    e -> {
+                        if (e instanceof ExecutionException) {
+                            e = e.getCause();
+                        }
+                        if (e instanceof TopicExistsException) {
+                            return Future.succeededFuture(true);
+                        } else {
+                            return Future.failedFuture(e);
+                        }
+                    });
+    }
+
+    @Override
+    protected Future<TopicDescription> describeTopic(TopicName topicName) {
+        return topicDescriptions.add(topicName.toString(), null);
+    }
+
+    @Override
+    protected Future<Config> describeTopicConfig(TopicName topicName) {
+        return topicConfigs.add(topicName.toString(), null);
+    }
+
+    /**
+     * Updates the topic configuration using {@code incrementalAlterConfigs}. The current configuration is described
+     * first, so that only the changed options are set and the options which are not desired anymore are deleted. This
+     * gives the same result as replacing the whole configuration with the (deprecated) {@code alterConfigs}.
+     */
+    @Override
+    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+        TopicName topicName = topic.getTopicName();
+
+        return describeTopicConfig(topicName).compose(current -> {
+            Collection<AlterConfigOp> ops = configChanges(topic, current);
+
+            if (ops.isEmpty()) {
+                LOGGER.debugCr(reconciliation, "Configuration of topic {} is already up to date", topicName);
+                return Future.succeededFuture();
+            } else {
+                LOGGER.debugCr(reconciliation, "Updating configuration of topic {}: {}", topicName, ops);
+                return configUpdates.add(topicName.toString(), ops);
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+        NewPartitions newPartitions = NewPartitions.increaseTo(topic.getNumPartitions());
+        LOGGER.debugCr(reconciliation, "Increasing partitions {}", newPartitions);
+        return partitionIncreases.add(topic.getTopicName().toString(), newPartitions);
+    }
+
+    /**
+     * Computes the operations which change the current topic configuration to the desired one
+     *
+     * @param topic     Topic with the desired configuration
+     * @param current   Current configuration of the topic
+     *
+     * @return  Operations setting the changed options and deleting the options which are not desired anymore
+     */
+    /* test */ static Collection<AlterConfigOp> configChanges(Topic topic, Config current) {
+        Map<String, String> desired = topic.getConfig();
+        List<AlterConfigOp> ops = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : desired.entrySet()) {
+            ConfigEntry currentEntry = current.get(entry.getKey());
+
+            if (currentEntry == null
+                    || currentEntry.source() != ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG
+                    || !entry.getValue().equals(currentEntry.value())) {
+                ops.add(new AlterConfigOp(new ConfigEntry(entry.getKey(), entry.getValue()), AlterConfigOp.OpType.SET));
+            }
+        }
+
+        for (ConfigEntry entry : current.entries()) {
+            if (entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG && !desired.containsKey(entry.name())) {
+                ops.add(new AlterConfigOp(new ConfigEntry(entry.name(), ""), AlterConfigOp.OpType.DELETE));
+            }
+        }
+
+        return ops;
+    }
+
+    private static <V> Map<ConfigResource, V> topicResources(Map<String, V> requests) {
+        Map<ConfigResource, V> resources = new LinkedHashMap<>(requests.size());
+
+        for (Map.Entry<String, V> request : requests.entrySet()) {
+            resources.put(new ConfigResource(ConfigResource.Type.TOPIC, request.getKey()), request.getValue());
+        }
+
+        return resources;
+    }
+
+    private static <T> Map<String, KafkaFuture<T>> byTopicName(Map<ConfigResource, KafkaFuture<T>> results) {
+        Map<String, KafkaFuture<T>> byName = new HashMap<>(results.size());
+
+        for (Map.Entry<ConfigResource, KafkaFuture<T>> result : results.entrySet()) {
+            byName.put(result.getKey().name(), result.getValue());
+        }
+
+        return byName;
+    }
+
+    /**
+     * Collects the requests for one operation and sends them as one Admin API request when the batch window elapses
+     * or when the batch is full.
+     *
+     * @param <R>   Type of the request for a single topic
+     * @param <T>   Type of the result for a single topic
+     */
+    private class Batch<R, T> {
+        private final String operation;
+        private final Function<Map<String, R>, Map<String, KafkaFuture<T>>> send;
+
+        private Map<String, R> requests = new LinkedHashMap<>();
+        private Map<String, List<Promise<T>>> promises = new HashMap<>();
+        private boolean scheduled = false;
+
+        Batch(String operation, Function<Map<String, R>, Map<String, KafkaFuture<T>>> send) {
+            this.operation = operation;
+            this.send = send;
+        }
+
+        /**
+         * Adds the request for the topic to the batch. When the batch already contains a request for the same topic,
+         * it is replaced by the new request and both callers get the result of the new request.
+         *
+         * @param topic     Name of the topic
+         * @param request   Request for the topic
+         *
+         * @return  Future which completes with the result for the topic
+         */
+        Future<T> add(String topic, R request) {
+            Promise<T> promise = Promise.promise();
+            boolean full;
+
+            synchronized (this) {
+                requests.put(topic, request);
+                promises.computeIfAbsent(topic, t -> new ArrayList<>(1)).add(promise);
+                full = requests.size() >= batchSize;
+
+                if (!full && !scheduled) {
+                    scheduled = true;
+                    vertx.setTimer(batchWindowMs, id -> flush());
+                }
+            }
+
+            if (full) {
+                flush();
+            }
+
+            return promise.future();
+        }
+
+        private void flush() {
+            Map<String, R> requests;
+            Map<String, List<Promise<T>>> promises;
+
+            synchronized (this) {
+                requests = this.requests;
+                promises = this.promises;
+                this.requests = new LinkedHashMap<>();
+                this.promises = new HashMap<>();
+                this.scheduled = false;
+            }
+
+            if (requests.isEmpty()) {
+                return;
+            }
+
+            LOGGER.debugOp("Sending {} request for {} topics", operation, requests.size());
+            Map<String, KafkaFuture<T>> results;
+
+            try {
+                results = send.apply(requests);
+            } catch (Exception e) {
+                promises.values().forEach(topicPromises -> topicPromises.forEach(promise -> promise.fail(e)));
+                return;
+            }
+
+            for (Map.Entry<String, List<Promise<T>>> entry : promises.entrySet()) {
+                KafkaFuture<T> result = results.get(entry.getKey());
+                Future<T> future = result != null
+                        ? mapFuture(result)
+                        : Future.failedFuture(new OperatorException("No " + operation + " result for topic " + entry.getKey()));
+
+                future.onComplete(ar -> entry.getValue().forEach(promise -> promise.handle(ar)));
+            }
+        }
+    }
+}
@@ -122,10 +122,18 @@ public class Config {
     public static final String TC_STORE_NAME = "STRIMZI_STORE_NAME";
     public static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     public static final String TC_APPLICATION_SERVER = "STRIMZI_APPLICATION_SERVER";
+    public static final String TC_USE_CONFIG_CHANGE_NOTIFICATIONS = "STRIMZI_USE_CONFIG_CHANGE_NOTIFICATIONS";
+    public static final String TC_PARTITIONS_POLL_INTERVAL_MS = "STRIMZI_PARTITIONS_POLL_INTERVAL_MS";
+    public static final String TC_STORE_BINARY_FORMAT = "STRIMZI_STORE_BINARY_FORMAT";
+    public static final String TC_STORE_PERSISTENT = "STRIMZI_STORE_PERSISTENT";
+    public static final String TC_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
+    public static final String TC_KAFKA_ADMIN_BATCH_SIZE = "STRIMZI_KAFKA_ADMIN_BATCH_SIZE";
+    public static final String TC_KAFKA_ADMIN_BATCH_WINDOW_MS = "STRIMZI_KAFKA_ADMIN_BATCH_WINDOW_MS";
+
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
     /** A comma-separated list of key=value pairs for selecting Resources that describe topics. */
@@ -192,10 +200,29 @@ public class Config {
     public static final Value<String> APPLICATION_SERVER = new Value<>(TC_APPLICATION_SERVER, STRING, "localhost:9000");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /** Do we write the records of the Kafka Streams based TopicStore in the compact binary encoding instead of JSON */
+    public static final Value<Boolean> STORE_BINARY_FORMAT = new Value<>(TC_STORE_BINARY_FORMAT, BOOLEAN, "false");
+    /** Do we keep the Kafka Streams based TopicStore in a persistent (RocksDB) store instead of in memory */
+    public static final Value<Boolean> STORE_PERSISTENT = new Value<>(TC_STORE_PERSISTENT, BOOLEAN, "false");
+    /** The Kafka Streams state directory of the persistent TopicStore. It should be on a disk-backed volume. Empty uses the Kafka Streams default. */
+    public static final Value<String> STORE_STATE_DIR = new Value<>(TC_STORE_STATE_DIR, STRING, "");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /**
+     * Do we detect the topic config changes from the config change notifications in ZooKeeper and the topic partition
+     * changes by polling Kafka, instead of watching the config and the partitions znodes of every topic
+     */
+    public static final Value<Boolean> USE_CONFIG_CHANGE_NOTIFICATIONS = new Value<>(TC_USE_CONFIG_CHANGE_NOTIFICATIONS, BOOLEAN, "false");
+    /** The interval between the polls of the topic partitions when the config change notifications are used */
+    public static final Value<Long> PARTITIONS_POLL_INTERVAL_MS = new Value<>(TC_PARTITIONS_POLL_INTERVAL_MS, DURATION, "30000");
+
+    /** The maximum number of topics in a single batched Kafka Admin API request */
+    public static final Value<Integer> KAFKA_ADMIN_BATCH_SIZE = new Value<>(TC_KAFKA_ADMIN_BATCH_SIZE, POSITIVE_INTEGER, "100");
+    /** The time for which the Kafka Admin API requests for individual topics are collected into batches. 0 disables the batching. */
+    public static final Value<Long> KAFKA_ADMIN_BATCH_WINDOW_MS = new Value<>(TC_KAFKA_ADMIN_BATCH_WINDOW_MS, DURATION, "0");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -221,7 +248,14 @@ public class Config {
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, STORE_BINARY_FORMAT);
+        addConfigValue(configValues, STORE_PERSISTENT);
+        addConfigValue(configValues, STORE_STATE_DIR);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_CONFIG_CHANGE_NOTIFICATIONS);
+        addConfigValue(configValues, PARTITIONS_POLL_INTERVAL_MS);
+        addConfigValue(configValues, KAFKA_ADMIN_BATCH_SIZE);
+        addConfigValue(configValues, KAFKA_ADMIN_BATCH_WINDOW_MS);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
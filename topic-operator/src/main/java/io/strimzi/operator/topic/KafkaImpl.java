@@ -106,13 +106,10 @@ public class KafkaImpl implements Kafka {
     @Override
     public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
         LOGGER.debugCr(reconciliation, "Getting metadata for topic {}", topicName);
-        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
         return topicExists(reconciliation, topicName).compose(exists -> {
             if (exists) {
-                Future<TopicDescription> topicDescriptionFuture = mapFuture(adminClient.describeTopics(
-                        singleton(topicName.toString())).values().get(topicName.toString()));
-                Future<Config> configFuture = mapFuture(adminClient.describeConfigs(
-                        singleton(resource)).values().get(resource));
+                Future<TopicDescription> topicDescriptionFuture = describeTopic(topicName);
+                Future<Config> configFuture = describeTopicConfig(topicName);
                 return CompositeFuture.all(topicDescriptionFuture, configFuture)
                         .map(compositeFuture -> new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
             } else {
@@ -121,6 +118,29 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Describes the topic using the Kafka AdminClient API
+     *
+     * @param topicName The name of the topic.
+     * @return A future which is completed with the topic description.
+     */
+    protected Future<TopicDescription> describeTopic(TopicName topicName) {
+        return mapFuture(adminClient.describeTopics(
+                singleton(topicName.toString())).values().get(topicName.toString()));
+    }
+
+    /**
+     * Describes the configuration of the topic using the Kafka AdminClient API
+     *
+     * @param topicName The name of the topic.
+     * @return A future which is completed with the topic configuration.
+     */
+    protected Future<Config> describeTopicConfig(TopicName topicName) {
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
+        return mapFuture(adminClient.describeConfigs(
+                singleton(resource)).values().get(resource));
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -163,7 +183,7 @@ public class KafkaImpl implements Kafka {
         }
     }
 
-    private <T> Future<T> mapFuture(KafkaFuture<T> future) {
+    protected <T> Future<T> mapFuture(KafkaFuture<T> future) {
         Promise<T> handler = Promise.promise();
         try {
             future.whenComplete((result, error) -> {
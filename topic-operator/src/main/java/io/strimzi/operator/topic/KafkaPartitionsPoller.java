@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Detects the changes of the topic partitions by periodically describing all topics in batches, instead of watching
+ * the {@code /brokers/topics/<topic>} znode of every topic. The number of requests per poll is bounded by the number
+ * of topics divided by the batch size and no ZooKeeper watches are used.
+ */
+class KafkaPartitionsPoller extends ZkTopicWatcher {
+
+    private static final int UNKNOWN = -1;
+
+    private final Vertx vertx;
+    private final Admin adminClient;
+    private final int batchSize;
+    private final long intervalMs;
+
+    /** The number of partitions of each topic seen by the last poll */
+    private final Map<String, Integer> partitions = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+    private volatile Long timerId;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator Operator instance to notify
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchSize Maximal number of topics described in a single request
+     * @param intervalMs Interval between the polls
+     */
+    KafkaPartitionsPoller(TopicOperator topicOperator, Vertx vertx, Admin adminClient, int batchSize, long intervalMs) {
+        super(topicOperator);
+        this.vertx = vertx;
+        this.adminClient = adminClient;
+        this.batchSize = batchSize;
+        this.intervalMs = intervalMs;
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        timerId = vertx.setPeriodic(intervalMs, id -> poll());
+    }
+
+    @Override
+    protected void stop() {
+        super.stop();
+        Long timerId = this.timerId;
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    @Override
+    protected void addChild(String child) {
+        partitions.putIfAbsent(child, UNKNOWN);
+    }
+
+    @Override
+    protected void removeChild(String child) {
+        partitions.remove(child);
+    }
+
+    @Override
+    protected boolean watching(String child) {
+        return partitions.containsKey(child);
+    }
+
+    /**
+     * Describes all topics, one batch after another. A poll is skipped when the previous one has not finished yet.
+     */
+    /* test */ void poll() {
+        if (!started() || !polling.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<String> topics = new ArrayList<>(partitions.keySet());
+        logger.debugOp("Polling partitions of {} topics", topics.size());
+        describe(topics, 0);
+    }
+
+    private void describe(List<String> topics, int from) {
+        if (from >= topics.size() || !started()) {
+            polling.set(false);
+            return;
+        }
+
+        List<String> batch = topics.subList(from, Math.min(from + batchSize, topics.size()));
+        Map<String, KafkaFuture<TopicDescription>> results;
+        try {
+            results = adminClient.describeTopics(batch).values();
+        } catch (RuntimeException e) {
+            logger.warnOp("Error polling topic partitions", e);
+            polling.set(false);
+            return;
+        }
+        for (Map.Entry<String, KafkaFuture<TopicDescription>> result : results.entrySet()) {
+            result.getValue().whenComplete((description, error) -> {
+                if (error != null) {
+                    // Deleted topics are handled by the watch of the topics
+                    logger.debugOp("Error describing topic {}", result.getKey(), error);
+                } else {
+                    update(result.getKey(), description.partitions().size());
+                }
+            });
+        }
+
+        KafkaFuture.allOf(results.values().toArray(new KafkaFuture<?>[0]))
+                .whenComplete((ignored, error) -> describe(topics, from + batchSize));
+    }
+
+    private void update(String topic, int numPartitions) {
+        Integer previous = partitions.get(topic);
+        if (previous == null || !partitions.replace(topic, previous, numPartitions)) {
+            // The topic was deleted in the meantime
+            return;
+        }
+        if (previous != UNKNOWN && previous != numPartitions) {
+            notifyOperator(topic);
+        }
+    }
+}
@@ -11,6 +11,9 @@ import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 
@@ -78,21 +81,36 @@ public class KafkaStreamsTopicStore implements TopicStore {
         }
     }
 
+    /**
+     * Applies the commands as a pipeline: the results of all commands are registered first and then all commands are
+     * sent without waiting for the previous ones to be processed, so that the producer sends them in the same batches
+     * and the Kafka Streams round trips of the commands overlap.
+     */
+    @Override
+    public List<Future<Void>> apply(List<TopicCommand> commands) {
+        List<Future<Void>> results = new ArrayList<>(commands.size());
+        for (TopicCommand cmd : commands) {
+            LOGGER.debug("Handling topic command [{}]: {}", cmd.getType(), cmd.getKey());
+            CompletionStage<Throwable> result = resultService.apply(cmd.getKey(), cmd.getUuid())
+                    .thenApply(KafkaStreamsTopicStore::toThrowable);
+            results.add(Future.fromCompletionStage(result).compose(
+                t -> t != null ? Future.failedFuture(t) : Future.succeededFuture()
+            ));
+        }
+        // Kafka Streams can re-balance in-between registering the results and sending the commands ...
+        for (TopicCommand cmd : commands) {
+            producer.apply(new ProducerRecord<>(storeTopic, cmd.getKey(), cmd))
+                    .whenComplete((r, t) -> {
+                        if (t != null) {
+                            LOGGER.error("Error sending topic command", t);
+                        }
+                    });
+        }
+        return results;
+    }
+
     private Future<Void> handleTopicCommand(TopicCommand cmd) {
-        LOGGER.debug("Handling topic command [{}]: {}", cmd.getType(), cmd.getKey());
-        String key = cmd.getKey();
-        CompletionStage<Throwable> result = resultService.apply(key, cmd.getUuid())
-                .thenApply(KafkaStreamsTopicStore::toThrowable);
-        // Kafka Streams can re-balance in-between these two calls ...
-        producer.apply(new ProducerRecord<>(storeTopic, key, cmd))
-                .whenComplete((r, t) -> {
-                    if (t != null) {
-                        LOGGER.error("Error sending topic command", t);
-                    }
-                });
-        return Future.fromCompletionStage(result).compose(
-            t -> t != null ? Future.failedFuture(t) : Future.succeededFuture()
-        );
+        return apply(Collections.singletonList(cmd)).get(0);
     }
 
     @Override
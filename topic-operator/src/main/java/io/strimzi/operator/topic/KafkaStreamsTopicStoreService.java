@@ -82,7 +82,7 @@ public class KafkaStreamsTopicStoreService {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
             Serdes.String().serializer(),
-            new TopicCommandSerde()
+            new TopicCommandSerde(config.get(Config.STORE_BINARY_FORMAT))
         );
         closeables.add(producer);
 
@@ -120,7 +120,19 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        if (config.get(Config.STORE_PERSISTENT)) {
+            String stateDir = config.get(Config.STORE_STATE_DIR);
+            if (!stateDir.isEmpty()) {
+                streamsProperties.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+            } else if (!streamsProperties.containsKey(StreamsConfig.STATE_DIR_CONFIG)) {
+                // The default is under java.io.tmpdir, which is a memory-backed volume in the Entity Operator
+                LOGGER.warn("The persistent topic store uses the default Kafka Streams state directory. Set {} to a directory on a disk-backed volume to keep the state across restarts.",
+                        Config.TC_STORE_STATE_DIR);
+            }
+        }
+
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher,
+                config.get(Config.STORE_BINARY_FORMAT), config.get(Config.STORE_PERSISTENT)).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
@@ -0,0 +1,119 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the {@code resource.state} gauges of the topics. The gauge of each topic is kept in a map, so it can be updated
+ * or removed without searching through all meters in the registry. The {@code reason} tag is the only tag which
+ * changes between reconciliations. The gauge is registered again only when the reason changes, otherwise only its
+ * value is updated.
+ */
+class ResourceStateMetrics {
+    private final MeterRegistry registry;
+    private final String metricName;
+    private final String namespace;
+    private final Map<String, ResourceState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Gauge of a single topic
+     */
+    private static class ResourceState {
+        private final String kind;
+        private final String reason;
+        private final AtomicInteger value = new AtomicInteger(0);
+        private Meter.Id id;
+
+        ResourceState(String kind, String reason) {
+            this.kind = kind;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param registry      Registry where the gauges are registered
+     * @param metricName    Name of the gauge
+     * @param namespace     Namespace of the topic resources
+     */
+    ResourceStateMetrics(MeterRegistry registry, String metricName, String namespace) {
+        this.registry = registry;
+        this.metricName = metricName;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Sets the state of the topic
+     *
+     * @param kind      Kind of the resource
+     * @param name      Name of the resource
+     * @param ready     True if the last reconciliation succeeded
+     * @param reason    Reason of the failure or "none" if the reconciliation succeeded
+     */
+    void update(String kind, String name, boolean ready, String reason) {
+        ResourceState state = states.compute(name, (key, current) -> {
+            if (current != null && current.reason.equals(reason) && current.kind.equals(kind)) {
+                return current;
+            }
+
+            if (current != null) {
+                registry.remove(current.id);
+            }
+
+            ResourceState updated = new ResourceState(kind, reason);
+            updated.id = Gauge.builder(metricName, updated.value, AtomicInteger::get)
+                    .description("Current state of the resource: 1 ready, 0 fail")
+                    .tags(tags(kind, name, reason))
+                    .register(registry)
+                    .getId();
+            return updated;
+        });
+
+        state.value.set(ready ? 1 : 0);
+    }
+
+    /**
+     * Removes the gauge of the topic
+     *
+     * @param name  Name of the resource
+     *
+     * @return  True if the topic had a gauge
+     */
+    boolean remove(String name) {
+        ResourceState removed = states.remove(name);
+
+        if (removed != null) {
+            registry.remove(removed.id);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return  Number of topics with a gauge
+     */
+    int size() {
+        return states.size();
+    }
+
+    private Tags tags(String kind, String name, String reason) {
+        return Tags.of(
+                Tag.of("kind", kind),
+                Tag.of("name", name),
+                Tag.of("resource-namespace", namespace),
+                Tag.of("reason", reason));
+    }
+}
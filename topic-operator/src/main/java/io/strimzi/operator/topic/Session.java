@@ -163,7 +163,10 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(kafkaClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        long batchWindowMs = config.get(Config.KAFKA_ADMIN_BATCH_WINDOW_MS);
+        this.kafka = batchWindowMs > 0
+                ? new BatchingKafkaImpl(adminClient, vertx, config.get(Config.KAFKA_ADMIN_BATCH_SIZE), batchWindowMs)
+                : new KafkaImpl(adminClient, vertx);
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -220,9 +223,15 @@ public class Session extends AbstractVerticle {
                 this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                if (config.get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS)) {
+                    this.topicConfigsWatcher = new ZkConfigChangesWatcher(topicOperator);
+                    this.topicWatcher = new KafkaPartitionsPoller(topicOperator, vertx, adminClient,
+                            config.get(Config.KAFKA_ADMIN_BATCH_SIZE), config.get(Config.PARTITIONS_POLL_INTERVAL_MS));
+                } else {
+                    this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                    this.topicWatcher = new ZkTopicWatcher(topicOperator);
+                }
                 LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
                 LOGGER.debug("Using TopicWatcher {}", topicWatcher);
                 this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
                 LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
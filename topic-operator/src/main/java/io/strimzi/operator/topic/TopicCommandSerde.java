@@ -11,7 +11,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde.
+ * Both the JSON and the binary encoded records are read, the records are written in the configured encoding.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,14 +22,43 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binary;
+
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binary whether the records are written in the compact binary encoding instead of JSON
+     */
+    public TopicCommandSerde(boolean binary) {
+        this.binary = binary;
+    }
+
+    private static boolean hasTopic(TopicCommand.Type type) {
+        return type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE;
+    }
+
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        if (binary) {
+            return TopicSerialization.toBinary(out -> {
+                TopicSerialization.writeString(out, data.getUuid());
+                out.writeInt(data.getVersion());
+                out.writeByte(data.getType().getId());
+                if (hasTopic(data.getType())) {
+                    TopicSerialization.writeTopic(out, data.getTopic());
+                } else {
+                    TopicSerialization.writeString(out, data.getKey());
+                }
+            });
+        }
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
             root.put(VERSION, data.getVersion());
             root.put(TYPE, type.getId());
-            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+            if (hasTopic(type)) {
                 JsonNode json = TopicSerialization.toJsonNode(data.getTopic());
                 root.set(TOPIC, json);
             } else {
@@ -39,6 +69,21 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (TopicSerialization.isBinary(data)) {
+            return TopicSerialization.fromBinary(data, in -> {
+                String uuid = TopicSerialization.readString(in);
+                int version = in.readInt();
+                TopicCommand.Type type = TopicCommand.Type.fromId(in.readByte());
+                Topic topic = null;
+                TopicName name = null;
+                if (hasTopic(type)) {
+                    topic = TopicSerialization.readTopic(in);
+                } else {
+                    name = new TopicName(TopicSerialization.readString(in));
+                }
+                return new TopicCommand(uuid, type, topic, name, version);
+            });
+        }
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
@@ -47,7 +92,7 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
                 TopicCommand.Type type = TopicCommand.Type.fromId(id);
                 Topic topic = null;
                 TopicName name = null;
-                if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                if (hasTopic(type)) {
                     JsonNode json = root.get(TOPIC);
                     topic = TopicSerialization.fromJsonNode(json);
                 } else {
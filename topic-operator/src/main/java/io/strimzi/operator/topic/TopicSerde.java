@@ -7,16 +7,30 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde.
+ * Both the JSON and the binary encoded records are read, the records are written in the configured encoding.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binary;
+
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binary whether the records are written in the compact binary encoding instead of JSON
+     */
+    public TopicSerde(boolean binary) {
+        this.binary = binary;
+    }
+
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return binary ? TopicSerialization.toBinary(data) : TopicSerialization.toJson(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        return TopicSerialization.isBinary(data) ? TopicSerialization.fromBinary(data) : TopicSerialization.fromJson(data);
     }
 }
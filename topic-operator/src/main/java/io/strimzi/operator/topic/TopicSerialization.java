@@ -19,8 +19,13 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.ConfigResource;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,6 +50,10 @@ class TopicSerialization {
     public static final String JSON_KEY_REPLICAS = "replicas";
     public static final String JSON_KEY_CONFIG = "config";
 
+    // The binary records start with a zero byte, which cannot start a JSON record, followed by the format version
+    static final byte BINARY_MAGIC = 0;
+    static final byte BINARY_VERSION = 1;
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> topicConfigFromTopicConfig(KafkaTopic kafkaTopic) {
         if (kafkaTopic.getSpec().getConfig() != null) {
@@ -324,6 +333,110 @@ class TopicSerialization {
         return builder.build();
     }
 
+    /**
+     * Returns the compact binary encoding of the given Topic.
+     * It is used by the Kafka Streams based TopicStore instead of the JSON when enabled.
+     */
+    public static byte[] toBinary(Topic topic) {
+        return toBinary(out -> writeTopic(out, topic));
+    }
+
+    /**
+     * Returns the Topic represented by the given binary encoding.
+     *
+     * @param data the binary encoding as produced by {@link #toBinary(Topic)}
+     * @return topic from the binary encoding
+     */
+    public static Topic fromBinary(byte[] data) {
+        return fromBinary(data, TopicSerialization::readTopic);
+    }
+
+    /**
+     * @param data the serialized record
+     * @return true if the record uses the binary encoding, false if it is JSON
+     */
+    static boolean isBinary(byte[] data) {
+        return data.length > 0 && data[0] == BINARY_MAGIC;
+    }
+
+    static void writeTopic(DataOutputStream out, Topic topic) throws IOException {
+        writeString(out, topic.getTopicName().toString());
+        writeString(out, topic.getOrAsKubeName().toString());
+        out.writeInt(topic.getNumPartitions());
+        out.writeShort(topic.getNumReplicas());
+        out.writeInt(topic.getConfig().size());
+        for (Map.Entry<String, String> entry : topic.getConfig().entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    static Topic readTopic(DataInputStream in) throws IOException {
+        Topic.Builder builder = new Topic.Builder();
+        builder.withTopicName(readString(in))
+                .withMapName(readString(in))
+                .withNumPartitions(in.readInt())
+                .withNumReplicas(in.readShort());
+        int configSize = in.readInt();
+        for (int i = 0; i < configSize; i++) {
+            builder.withConfigEntry(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes the string as its length followed by its UTF-8 bytes.
+     * Unlike {@link DataOutputStream#writeUTF(String)}, it is not limited to 64KB.
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static byte[] toBinary(BinaryWriter writer) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeByte(BINARY_MAGIC);
+            out.writeByte(BINARY_VERSION);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    static <T> T fromBinary(byte[] data, BinaryReader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != BINARY_MAGIC) {
+                throw new IllegalArgumentException("Not a binary encoded record");
+            }
+            byte version = in.readByte();
+            if (version > BINARY_VERSION) {
+                throw new IllegalArgumentException("Unsupported binary format version " + version);
+            }
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface BinaryWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface BinaryReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
     static byte[] toBytes(BiConsumer<ObjectMapper, ObjectNode> consumer) {
         ObjectMapper mapper = objectMapper();
         ObjectNode root = mapper.createObjectNode();
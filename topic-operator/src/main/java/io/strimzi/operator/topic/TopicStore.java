@@ -6,6 +6,9 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Represents a persistent data store where the operator can store its copy of the
  * topic state that won't be modified by either K8S or Kafka.
@@ -72,5 +75,36 @@ interface TopicStore {
      * @return A future which completes when the given topic has been deleted.
      */
     Future<Void> delete(TopicName topic);
-}
 
+    /**
+     * Asynchronously apply the given create, update and delete commands to the store,
+     * without waiting for a command to complete before applying the next one.
+     * Each returned future fails in the same way as the corresponding
+     * {@link #create(Topic)}, {@link #update(Topic)} or {@link #delete(TopicName)}.
+     * The single-command methods do not wait for the previous commands either, so the writes of the concurrent
+     * per-topic reconciliations overlap in the same way. This method is meant for callers which already have
+     * all the commands at hand, such as the migration from the ZooKeeper based store.
+     *
+     * @param commands The commands.
+     * @return The futures which complete when the respective command has been applied, in the order of the commands.
+     */
+    default List<Future<Void>> apply(List<TopicCommand> commands) {
+        List<Future<Void>> results = new ArrayList<>(commands.size());
+        for (TopicCommand command : commands) {
+            switch (command.getType()) {
+                case CREATE:
+                    results.add(create(command.getTopic()));
+                    break;
+                case UPDATE:
+                    results.add(update(command.getTopic()));
+                    break;
+                case DELETE:
+                    results.add(delete(command.getName()));
+                    break;
+                default:
+                    results.add(Future.failedFuture(new IllegalArgumentException("Unknown command type " + command.getType())));
+            }
+        }
+        return results;
+    }
+}
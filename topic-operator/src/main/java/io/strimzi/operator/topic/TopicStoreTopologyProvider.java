@@ -13,6 +13,7 @@ import org.apache.kafka.streams.kstream.ForeachAction;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.processor.Processor;
 import org.apache.kafka.streams.processor.ProcessorContext;
+import org.apache.kafka.streams.state.KeyValueBytesStoreSupplier;
 import org.apache.kafka.streams.state.KeyValueStore;
 import org.apache.kafka.streams.state.StoreBuilder;
 import org.apache.kafka.streams.state.Stores;
@@ -30,17 +31,42 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String topicStoreName;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
+    private final boolean binaryFormat;
+    private final boolean persistent;
 
     public TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
+    ) {
+        this(storeTopic, topicStoreName, kafkaProperties, dispatcher, false, false);
+    }
+
+    /**
+     * @param storeTopic the store topic with the topic commands
+     * @param topicStoreName the name of the key-value store
+     * @param kafkaProperties the Kafka Streams properties
+     * @param dispatcher the dispatcher of the store modification results
+     * @param binaryFormat whether the store changelog records are written in the compact binary encoding
+     * @param persistent whether the key-value store is persistent (RocksDB) instead of in-memory, so that it is
+     *                   restored from the local state in the Kafka Streams state directory after a restart
+     *                   and only the changelog records written since then are replayed
+     */
+    public TopicStoreTopologyProvider(
+            String storeTopic,
+            String topicStoreName,
+            Properties kafkaProperties,
+            ForeachAction<? super String, ? super Integer> dispatcher,
+            boolean binaryFormat,
+            boolean persistent
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
+        this.binaryFormat = binaryFormat;
+        this.persistent = persistent;
     }
 
     @Override
@@ -57,15 +83,18 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         // Key is Kafka topic name -- which is also used for KeyValue store key
         KStream<String, TopicCommand> topicRequest = builder.stream(
                 storeTopic,
-                Consumed.with(Serdes.String(), new TopicCommandSerde())
+                Consumed.with(Serdes.String(), new TopicCommandSerde(binaryFormat))
         );
 
         // Data structure holds all topic information
+        KeyValueBytesStoreSupplier storeSupplier = persistent
+                ? Stores.persistentKeyValueStore(topicStoreName)
+                : Stores.inMemoryKeyValueStore(topicStoreName);
         StoreBuilder<KeyValueStore<String /* topic */, Topic>> topicStoreBuilder =
                 Stores
                         .keyValueStoreBuilder(
-                                Stores.inMemoryKeyValueStore(topicStoreName),
-                                Serdes.String(), new TopicSerde()
+                                storeSupplier,
+                                Serdes.String(), new TopicSerde(binaryFormat)
                         )
                         .withCachingEnabled()
                         .withLoggingEnabled(configuration);
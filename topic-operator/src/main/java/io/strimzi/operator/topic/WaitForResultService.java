@@ -9,11 +9,12 @@ import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
 
-import java.util.Iterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +28,8 @@ public class WaitForResultService implements AsyncBiFunctionService.WithSerdes<S
 
     private final long timeoutMillis;
     private final Map<String, ResultCF> waitingResults = new ConcurrentHashMap<>();
+    // All results have the same timeout, so the results are queued in the order of their deadlines
+    private final Queue<ResultCF> deadlines = new ConcurrentLinkedQueue<>();
     private final ScheduledExecutorService executorService;
 
     public WaitForResultService(long timeoutMillis, ForeachActionDispatcher<String, Integer> dispatcher) {
@@ -41,13 +44,13 @@ public class WaitForResultService implements AsyncBiFunctionService.WithSerdes<S
      * This way we don't block / hang the response in KafkaStreamsTopicStore for too long.
      */
     private void checkStaleResults() {
-        long now = System.currentTimeMillis();
-        Iterator<Map.Entry<String, ResultCF>> iterator = waitingResults.entrySet().iterator();
-        while (iterator.hasNext()) {
-            ResultCF rcf = iterator.next().getValue();
-            if (now - rcf.ts > timeoutMillis) {
+        long now = System.nanoTime();
+        // Only the results at the head of the queue which are expired or already completed are visited
+        ResultCF rcf;
+        while ((rcf = deadlines.peek()) != null && (rcf.isDone() || now - rcf.deadline >= 0)) {
+            deadlines.poll();
+            if (waitingResults.remove(rcf.uuid, rcf)) {
                 rcf.complete(KafkaStreamsTopicStore.toIndex(TopicStore.InvalidStateException.class));
-                iterator.remove();
             }
         }
     }
@@ -84,16 +87,19 @@ public class WaitForResultService implements AsyncBiFunctionService.WithSerdes<S
 
     @Override
     public CompletionStage<Integer> apply(String name, String uuid) {
-        ResultCF cf = new ResultCF();
+        ResultCF cf = new ResultCF(uuid, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
         waitingResults.put(uuid, cf);
+        deadlines.add(cf);
         return cf;
     }
 
     private static class ResultCF extends CompletableFuture<Integer> {
-        private final long ts;
+        private final String uuid;
+        private final long deadline;
 
-        private ResultCF() {
-            this.ts = System.currentTimeMillis();
+        private ResultCF(String uuid, long deadline) {
+            this.uuid = uuid;
+            this.deadline = deadline;
         }
     }
 
@@ -10,7 +10,6 @@ import io.vertx.core.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -39,22 +38,37 @@ public class Zk2KafkaStreams {
                 .thenCompose(ksTopicStore -> {
                     LOGGER.info("Starting upgrade ...");
                     @SuppressWarnings("rawtypes")
-                    List<Future> results = new ArrayList<>();
+                    List<Future> reads = new ArrayList<>();
                     List<String> list = zk.getChildren(topicsPath);
                     LOGGER.info("Topics to upgrade: {}", list);
                     list.forEach(topicName -> {
                         TopicName tn = new TopicName(topicName);
                         Future<Topic> ft = zkTopicStore.read(tn);
-                        results.add(
+                        reads.add(
                                 // check if the topic already exists in the new KSTS
                                 // only create if it doesn't, and do not update it with an old value
-                                ft.compose(t -> ksTopicStore.read(tn).map(et -> new AbstractMap.SimpleImmutableEntry<>(t, et)))
-                                        .compose(e -> e.getValue() == null ? ksTopicStore.create(e.getKey()) : Future.succeededFuture())
-                                        .compose(v -> zkTopicStore.delete(tn))
+                                ft.compose(t -> ksTopicStore.read(tn).map(et -> et == null ? t : null))
                         );
                     });
+                    Future<CompositeFuture> cf = CompositeFuture.all(reads).compose(readResults -> {
+                        // the missing topics are created in the new KSTS as one pipelined batch
+                        List<TopicCommand> commands = new ArrayList<>();
+                        for (int i = 0; i < readResults.size(); i++) {
+                            Topic topic = readResults.resultAt(i);
+                            if (topic != null) {
+                                commands.add(TopicCommand.create(topic));
+                            }
+                        }
+                        @SuppressWarnings("rawtypes")
+                        List<Future> creates = new ArrayList<>(ksTopicStore.apply(commands));
+                        return CompositeFuture.all(creates);
+                    }).compose(created -> {
+                        @SuppressWarnings("rawtypes")
+                        List<Future> deletes = new ArrayList<>();
+                        list.forEach(topicName -> deletes.add(zkTopicStore.delete(new TopicName(topicName))));
+                        return CompositeFuture.all(deletes);
+                    });
                     CompletableFuture<Void> result = new CompletableFuture<>();
-                    CompositeFuture cf = CompositeFuture.all(results);
                     cf.onComplete(ar -> {
                         if (ar.failed()) {
                             result.completeExceptionally(ar.cause());
@@ -0,0 +1,167 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ZooKeeper watcher for the topic config changes which uses the config change notifications written by Kafka as
+ * sequential child znodes of {@code /config/changes}, instead of watching the {@code /config/topics/<topic>} znode
+ * of every topic. It needs a single ZooKeeper watch and every notification is read only once.
+ */
+class ZkConfigChangesWatcher extends TopicConfigsWatcher {
+
+    static final String CHANGES_ZNODE = "/config/changes";
+    private static final String CHANGE_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY = "topics";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+
+    private volatile Zk zk;
+    /** The sequence number of the last processed notification, or null before the existing notifications are listed */
+    private Long lastSequence;
+
+    ZkConfigChangesWatcher(TopicOperator topicOperator) {
+        super(topicOperator);
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        this.zk = zk;
+        synchronized (this) {
+            lastSequence = null;
+        }
+        zk.watchChildren(CHANGES_ZNODE, this::onNotifications).compose(zk2 -> {
+            zk.children(CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    logger.errorOp("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                    return;
+                }
+                // The existing notifications are covered by the initial reconciliation
+                long last = -1;
+                for (String child : childResult.result()) {
+                    last = Math.max(last, sequence(child));
+                }
+                logger.debugOp("Starting after config change notification {}", last);
+                synchronized (this) {
+                    lastSequence = last;
+                }
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    @Override
+    protected void addChild(String child) {
+        topics.add(child);
+    }
+
+    @Override
+    protected void removeChild(String child) {
+        topics.remove(child);
+    }
+
+    @Override
+    protected boolean watching(String child) {
+        return topics.contains(child);
+    }
+
+    private void onNotifications(AsyncResult<List<String>> childResult) {
+        if (!started()) {
+            zk.unwatchChildren(CHANGES_ZNODE);
+            return;
+        }
+        if (childResult.failed()) {
+            logger.errorOp("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+            return;
+        }
+
+        // Only the notifications written since the last event are read, in the order in which they were written
+        TreeMap<Long, String> notifications = new TreeMap<>();
+        synchronized (this) {
+            if (lastSequence == null) {
+                return;
+            }
+            for (String child : childResult.result()) {
+                long sequence = sequence(child);
+                if (sequence > lastSequence) {
+                    notifications.put(sequence, child);
+                }
+            }
+            if (!notifications.isEmpty()) {
+                lastSequence = notifications.lastKey();
+            }
+        }
+
+        for (String child : notifications.values()) {
+            String path = CHANGES_ZNODE + "/" + child;
+            zk.getData(path, dataResult -> {
+                if (dataResult.failed()) {
+                    // The notifications are deleted by Kafka after some time
+                    logger.debugOp("Error getting config change notification {}", path, dataResult.cause());
+                    return;
+                }
+                String topic = topicName(dataResult.result());
+                if (topic != null && topics.contains(topic)) {
+                    notifyOperator(topic);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the sequence number of the notification znode, or -1 if it is not a config change notification
+     */
+    static long sequence(String child) {
+        if (child.startsWith(CHANGE_PREFIX)) {
+            try {
+                return Long.parseLong(child.substring(CHANGE_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                // Not a config change notification
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the topic changed according to the notification. Kafka writes the changed entity either as
+     * {@code {"version":2,"entity_path":"topics/<topic>"}} or as
+     * {@code {"version":1,"entity_type":"topics","entity_name":"<topic>"}}.
+     *
+     * @param data the content of the notification znode
+     * @return the name of the topic, or null if the notification is not about a topic config
+     */
+    static String topicName(byte[] data) {
+        try {
+            JsonNode root = MAPPER.readTree(data);
+            JsonNode entityPath = root.get("entity_path");
+            if (entityPath != null) {
+                String[] parts = entityPath.asText().split("/");
+                return parts.length == 2 && TOPICS_ENTITY.equals(parts[0]) ? parts[1] : null;
+            }
+            JsonNode entityType = root.get("entity_type");
+            JsonNode entityName = root.get("entity_name");
+            if (entityType != null && entityName != null && TOPICS_ENTITY.equals(entityType.asText())) {
+                return entityName.asText();
+            }
+        } catch (IOException e) {
+            // Not a config change notification
+        }
+        return null;
+    }
+}
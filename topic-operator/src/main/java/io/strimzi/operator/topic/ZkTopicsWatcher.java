@@ -29,7 +29,7 @@ class ZkTopicsWatcher {
     private final TopicConfigsWatcher tcw;
     private final ZkTopicWatcher tw;
 
-    private List<String> children;
+    private Set<String> children;
 
     private volatile int state = 0;
 
@@ -71,7 +71,7 @@ class ZkTopicsWatcher {
                 List<String> result = childResult.result();
                 LOGGER.debugOp("Setting initial children {}", result);
                 synchronized (this) {
-                    this.children = result;
+                    this.children = new HashSet<>(result);
                 }
                 // Start watching existing children for config and partition changes
                 for (String child : result) {
@@ -107,19 +107,26 @@ class ZkTopicsWatcher {
                 return;
             }
             ++watchCount;
-            List<String> result = childResult.result();
-            Set<String> deleted;
-            Set<String> created;
+            Set<String> result = new HashSet<>(childResult.result());
+            Set<String> deleted = new HashSet<>();
+            Set<String> created = new HashSet<>();
             synchronized (ZkTopicsWatcher.this) {
                 LOGGER.debugOp("{}: znode {} now has children {}, previous children {}", watchCount, TOPICS_ZNODE, result, ZkTopicsWatcher.this.children);
-                List<String> oldChildren = ZkTopicsWatcher.this.children;
+                Set<String> oldChildren = ZkTopicsWatcher.this.children;
                 if (oldChildren == null) {
                     return;
                 }
-                deleted = new HashSet<>(oldChildren);
-                deleted.removeAll(result);
-                created = new HashSet<>(result);
-                created.removeAll(ZkTopicsWatcher.this.children);
+                // Both sides are hash sets, so that the differences are computed in linear time
+                for (String child : oldChildren) {
+                    if (!result.contains(child)) {
+                        deleted.add(child);
+                    }
+                }
+                for (String child : result) {
+                    if (!oldChildren.contains(child)) {
+                        created.add(child);
+                    }
+                }
                 ZkTopicsWatcher.this.children = result;
             }
 
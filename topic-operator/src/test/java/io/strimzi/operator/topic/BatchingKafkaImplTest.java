@@ -0,0 +1,257 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreatePartitionsResult;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class BatchingKafkaImplTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaTopic", "my-namespace", "my-topic");
+
+    private Vertx vertx;
+    private Admin admin;
+
+    private final List<Set<String>> existenceChecks = new ArrayList<>();
+    private final List<Set<String>> describedTopics = new ArrayList<>();
+    private final List<Set<String>> describedConfigs = new ArrayList<>();
+    private final List<Map<String, Collection<AlterConfigOp>>> configUpdates = new ArrayList<>();
+    private final List<Map<String, NewPartitions>> partitionIncreases = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+        admin = mock(Admin.class);
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    private static <T> KafkaFuture<T> completed(T value) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.complete(value);
+        return future;
+    }
+
+    private static <T> KafkaFuture<T> failed(Throwable error) {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    /**
+     * Mocks a Kafka cluster with the given topics which all have the configuration retention.ms=1000
+     */
+    @SuppressWarnings("unchecked")
+    private void mockCluster(Set<String> existingTopics) {
+        when(admin.createTopics(any(), any(CreateTopicsOptions.class))).thenAnswer(invocation -> {
+            Collection<NewTopic> topics = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            Set<String> names = new HashSet<>();
+            for (NewTopic topic : topics) {
+                names.add(topic.name());
+                values.put(topic.name(), existingTopics.contains(topic.name()) ? failed(new TopicExistsException(topic.name())) : completed(null));
+            }
+            existenceChecks.add(names);
+            CreateTopicsResult result = mock(CreateTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        when(admin.describeTopics(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<String> topics = invocation.getArgument(0);
+            Map<String, KafkaFuture<TopicDescription>> values = new HashMap<>();
+            for (String topic : topics) {
+                values.put(topic, completed(new TopicDescription(topic, false, emptyList())));
+            }
+            describedTopics.add(Set.copyOf(topics));
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        when(admin.describeConfigs(any())).thenAnswer(invocation -> {
+            Collection<ConfigResource> resources = invocation.getArgument(0);
+            Map<ConfigResource, KafkaFuture<Config>> values = new HashMap<>();
+            Set<String> names = new HashSet<>();
+            for (ConfigResource resource : resources) {
+                names.add(resource.name());
+                values.put(resource, completed(new Config(singletonList(
+                        configEntry("retention.ms", "1000", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)))));
+            }
+            describedConfigs.add(names);
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        when(admin.incrementalAlterConfigs(any())).thenAnswer(invocation -> {
+            Map<ConfigResource, Collection<AlterConfigOp>> configs = invocation.getArgument(0);
+            Map<ConfigResource, KafkaFuture<Void>> values = new HashMap<>();
+            Map<String, Collection<AlterConfigOp>> byName = new HashMap<>();
+            for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> entry : configs.entrySet()) {
+                values.put(entry.getKey(), completed(null));
+                byName.put(entry.getKey().name(), entry.getValue());
+            }
+            configUpdates.add(byName);
+            AlterConfigsResult result = mock(AlterConfigsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        when(admin.createPartitions(any())).thenAnswer(invocation -> {
+            Map<String, NewPartitions> partitions = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            for (String topic : partitions.keySet()) {
+                values.put(topic, completed(null));
+            }
+            partitionIncreases.add(new HashMap<>(partitions));
+            CreatePartitionsResult result = mock(CreatePartitionsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+    }
+
+    private static ConfigEntry configEntry(String name, String value, ConfigEntry.ConfigSource source) {
+        ConfigEntry entry = mock(ConfigEntry.class);
+        when(entry.name()).thenReturn(name);
+        when(entry.value()).thenReturn(value);
+        when(entry.source()).thenReturn(source);
+        return entry;
+    }
+
+    private static Topic topic(String name, Map<String, String> config) {
+        return new Topic.Builder(name, 3, (short) 1, config).build();
+    }
+
+    @Test
+    public void testTopicMetadataIsBatched(VertxTestContext context) {
+        mockCluster(Set.of("a", "b", "c"));
+        BatchingKafkaImpl kafka = new BatchingKafkaImpl(admin, vertx, 100, 50);
+
+        Future<TopicMetadata> a = kafka.topicMetadata(RECONCILIATION, new TopicName("a"));
+        Future<TopicMetadata> b = kafka.topicMetadata(RECONCILIATION, new TopicName("b"));
+        Future<TopicMetadata> c = kafka.topicMetadata(RECONCILIATION, new TopicName("c"));
+        Future<TopicMetadata> missing = kafka.topicMetadata(RECONCILIATION, new TopicName("missing"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(a, b, c, missing).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(a.result().getDescription().name(), is("a"));
+            assertThat(b.result().getDescription().name(), is("b"));
+            assertThat(c.result().getConfig().get("retention.ms").value(), is("1000"));
+            assertThat(missing.result(), is(nullValue()));
+
+            assertThat(existenceChecks, is(singletonList(Set.of("a", "b", "c", "missing"))));
+            assertThat(describedTopics, is(singletonList(Set.of("a", "b", "c"))));
+            assertThat(describedConfigs, is(singletonList(Set.of("a", "b", "c"))));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testBatchesAreLimitedBySize(VertxTestContext context) {
+        mockCluster(Set.of("a", "b", "c"));
+        BatchingKafkaImpl kafka = new BatchingKafkaImpl(admin, vertx, 2, 50);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                kafka.topicExists(RECONCILIATION, new TopicName("a")),
+                kafka.topicExists(RECONCILIATION, new TopicName("b")),
+                kafka.topicExists(RECONCILIATION, new TopicName("c")))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(v.<Boolean>resultAt(0), is(true));
+                assertThat(v.<Boolean>resultAt(2), is(true));
+                assertThat(existenceChecks, is(List.of(Set.of("a", "b"), Set.of("c"))));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testConfigUpdatesAndPartitionIncreasesAreBatched(VertxTestContext context) {
+        mockCluster(Set.of("a", "b", "c"));
+        BatchingKafkaImpl kafka = new BatchingKafkaImpl(admin, vertx, 100, 50);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                kafka.updateTopicConfig(RECONCILIATION, topic("a", Map.of("retention.ms", "2000"))),
+                kafka.updateTopicConfig(RECONCILIATION, topic("b", Map.of("cleanup.policy", "compact"))),
+                // Topic c already has the desired configuration
+                kafka.updateTopicConfig(RECONCILIATION, topic("c", Map.of("retention.ms", "1000"))),
+                kafka.increasePartitions(RECONCILIATION, topic("a", Map.of())),
+                kafka.increasePartitions(RECONCILIATION, topic("b", Map.of())))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(describedConfigs, is(singletonList(Set.of("a", "b", "c"))));
+                assertThat(configUpdates.size(), is(1));
+                assertThat(configUpdates.get(0).keySet(), containsInAnyOrder("a", "b"));
+                assertThat(partitionIncreases.size(), is(1));
+                assertThat(partitionIncreases.get(0).get("a").totalCount(), is(3));
+                assertThat(partitionIncreases.get(0).get("b"), is(notNullValue()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testConfigChanges() {
+        Config current = new Config(List.of(
+                configEntry("retention.ms", "1000", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG),
+                configEntry("segment.bytes", "1024", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG),
+                configEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DEFAULT_CONFIG)));
+
+        Collection<AlterConfigOp> ops = BatchingKafkaImpl.configChanges(
+                topic("a", Map.of("retention.ms", "1000", "cleanup.policy", "delete")), current);
+
+        // retention.ms is unchanged, cleanup.policy is set explicitly, segment.bytes is not desired anymore
+        assertThat(ops, containsInAnyOrder(
+                new AlterConfigOp(new ConfigEntry("cleanup.policy", "delete"), AlterConfigOp.OpType.SET),
+                new AlterConfigOp(new ConfigEntry("segment.bytes", ""), AlterConfigOp.OpType.DELETE)));
+    }
+}
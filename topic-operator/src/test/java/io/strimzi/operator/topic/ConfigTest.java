@@ -76,4 +76,23 @@ public class ConfigTest {
         Config c = new Config(map);
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
+
+    @Test
+    public void testTopicStoreFormatAndPersistence() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+
+        Config c = new Config(map);
+        assertThat(c.get(Config.STORE_BINARY_FORMAT), is(false));
+        assertThat(c.get(Config.STORE_PERSISTENT), is(false));
+        assertThat(c.get(Config.STORE_STATE_DIR), is(""));
+
+        map.put(Config.TC_STORE_BINARY_FORMAT, "true");
+        map.put(Config.TC_STORE_PERSISTENT, "true");
+        map.put(Config.TC_STORE_STATE_DIR, "/var/lib/topic-store");
+
+        c = new Config(map);
+        assertThat(c.get(Config.STORE_BINARY_FORMAT), is(true));
+        assertThat(c.get(Config.STORE_PERSISTENT), is(true));
+        assertThat(c.get(Config.STORE_STATE_DIR), is("/var/lib/topic-store"));
+    }
 }
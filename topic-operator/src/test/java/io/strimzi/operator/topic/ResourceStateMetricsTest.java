@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResourceStateMetricsTest {
+    private static final String METRIC = "strimzi_resource_state";
+
+    @Test
+    public void testStateIsUpdated() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics metrics = new ResourceStateMetrics(registry, METRIC, "my-namespace");
+
+        metrics.update("KafkaTopic", "my-topic", true, "none");
+        assertThat(registry.get(METRIC).tag("name", "my-topic").tag("reason", "none").gauge().value(), is(1.0));
+
+        // Same reason => the same gauge is updated
+        metrics.update("KafkaTopic", "my-topic", true, "none");
+        assertThat(registry.getMeters().size(), is(1));
+
+        // Changed reason => the gauge is replaced
+        metrics.update("KafkaTopic", "my-topic", false, "Invalid config");
+        assertThat(registry.getMeters().size(), is(1));
+        assertThat(registry.get(METRIC).tag("name", "my-topic").tag("reason", "Invalid config").tag("resource-namespace", "my-namespace").gauge().value(), is(0.0));
+        assertThat(registry.find(METRIC).tag("reason", "none").gauge(), is(nullValue()));
+
+        metrics.update("KafkaTopic", "other-topic", true, "none");
+        assertThat(registry.getMeters().size(), is(2));
+        assertThat(metrics.size(), is(2));
+    }
+
+    @Test
+    public void testStateIsRemoved() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics metrics = new ResourceStateMetrics(registry, METRIC, "my-namespace");
+
+        metrics.update("KafkaTopic", "my-topic", true, "none");
+        metrics.update("KafkaTopic", "other-topic", true, "none");
+
+        assertThat(metrics.remove("my-topic"), is(true));
+        assertThat(metrics.remove("my-topic"), is(false));
+        assertThat(registry.find(METRIC).tag("name", "my-topic").gauge(), is(nullValue()));
+        assertThat(registry.get(METRIC).tag("name", "other-topic").gauge().value(), is(1.0));
+        assertThat(metrics.size(), is(1));
+    }
+}
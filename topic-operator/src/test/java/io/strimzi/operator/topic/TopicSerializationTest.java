@@ -27,6 +27,7 @@ import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class TopicSerializationTest {
@@ -63,6 +64,78 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testBinaryTopicCommandSerde() {
+        TopicCommandSerde serde = new TopicCommandSerde(true);
+
+        Topic.Builder builder = new Topic.Builder();
+        builder.withTopicName("foobar");
+        builder.withMapName("foobar-map");
+        builder.withNumReplicas((short) 3);
+        builder.withNumPartitions(12);
+        builder.withConfigEntry("cleanup.policy", "compact");
+        builder.withConfigEntry("retention.ms", "3600000");
+        Topic topic = builder.build();
+
+        TopicCommand data = TopicCommand.update(topic);
+        byte[] bytes = serde.serialize("dummy", data);
+        assertThat(TopicSerialization.isBinary(bytes), is(true));
+        TopicCommand read = serde.deserialize("dummy", bytes);
+        Assertions.assertEquals(TopicCommand.Type.UPDATE, read.getType());
+        Assertions.assertEquals(data.getUuid(), read.getUuid());
+        Assertions.assertEquals(topic, read.getTopic());
+        Assertions.assertEquals(topic.getResourceName(), read.getTopic().getResourceName());
+        Assertions.assertEquals(TopicCommand.CURRENT_VERSION, read.getVersion());
+
+        TopicName tn = new TopicName("deleteme");
+        data = TopicCommand.delete(tn);
+        bytes = serde.serialize("dummy", data);
+        read = serde.deserialize("dummy", bytes);
+        Assertions.assertEquals(TopicCommand.Type.DELETE, read.getType());
+        Assertions.assertEquals(tn, read.getName());
+        Assertions.assertEquals(TopicCommand.CURRENT_VERSION, read.getVersion());
+    }
+
+    @Test
+    public void testBinarySerdesReadJsonRecords() {
+        Topic.Builder builder = new Topic.Builder();
+        builder.withTopicName("foobar");
+        builder.withNumReplicas((short) 1);
+        builder.withNumPartitions(2);
+        builder.withConfigEntry("cleanup.policy", "bar");
+        Topic topic = builder.build();
+
+        byte[] json = new TopicSerde().serialize("dummy", topic);
+        assertThat(TopicSerialization.isBinary(json), is(false));
+        assertThat(new TopicSerde(true).deserialize("dummy", json), is(topic));
+
+        TopicCommand command = TopicCommand.create(topic);
+        json = new TopicCommandSerde().serialize("dummy", command);
+        TopicCommand read = new TopicCommandSerde(true).deserialize("dummy", json);
+        assertThat(read.getUuid(), is(command.getUuid()));
+        assertThat(read.getTopic(), is(topic));
+    }
+
+    @Test
+    public void testBinaryTopicRoundTrip() {
+        Topic.Builder builder = new Topic.Builder();
+        builder.withTopicName("tom");
+        builder.withNumReplicas((short) 1);
+        builder.withNumPartitions(2);
+        builder.withConfigEntry("cleanup.policy", "bar");
+        builder.withConfigEntry("message.format.version", "2.8-IV1 \u00e9");
+        Topic topic = builder.build();
+
+        byte[] binary = TopicSerialization.toBinary(topic);
+        assertThat(binary.length < TopicSerialization.toJson(topic).length, is(true));
+        assertThat(TopicSerialization.fromBinary(binary), is(topic));
+
+        // A newer format version cannot be read
+        binary[1] = TopicSerialization.BINARY_VERSION + 1;
+        byte[] newer = binary;
+        assertThrows(IllegalArgumentException.class, () -> TopicSerialization.fromBinary(newer));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -12,7 +14,9 @@ import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -98,4 +102,53 @@ public abstract class TopicStoreTestBase {
             })));
     }
 
+    @Test
+    public void testApplyCommands(VertxTestContext context) {
+        Assumptions.assumeTrue(canRunTest());
+
+        Checkpoint async = context.checkpoint();
+
+        String prefix = "my_topic_" + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE) + "_";
+        List<TopicCommand> creates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            creates.add(TopicCommand.create(new Topic.Builder(prefix + i, 1, (short) 1, Collections.emptyMap()).build()));
+        }
+
+        @SuppressWarnings("rawtypes")
+        List<Future> created = new ArrayList<>(store.apply(creates));
+        CompositeFuture.all(created)
+            .onComplete(context.succeeding())
+            .compose(v -> store.read(new TopicName(prefix + 9)))
+            .onComplete(context.succeeding(readTopic -> context.verify(() ->
+                assertThat(readTopic.getNumPartitions(), is(1)))))
+
+            // the commands complete independently of each other
+            .compose(v -> {
+                List<TopicCommand> commands = new ArrayList<>();
+                commands.add(TopicCommand.update(new Topic.Builder(prefix + 0, 2, (short) 1, Collections.emptyMap()).build()));
+                commands.add(TopicCommand.create(new Topic.Builder(prefix + 1, 1, (short) 1, Collections.emptyMap()).build()));
+                for (int i = 2; i < 10; i++) {
+                    commands.add(TopicCommand.delete(new TopicName(prefix + i)));
+                }
+                List<Future<Void>> results = store.apply(commands);
+                return results.get(0)
+                    .compose(ignored -> results.get(1))
+                    .onComplete(context.failing(e -> context.verify(() ->
+                        assertThat(e, instanceOf(TopicStore.EntityExistsException.class)))))
+                    .recover(e -> {
+                        @SuppressWarnings("rawtypes")
+                        List<Future> deleted = new ArrayList<>(results.subList(2, results.size()));
+                        return CompositeFuture.all(deleted).mapEmpty();
+                    });
+            })
+            .onComplete(context.succeeding())
+            .compose(v -> store.read(new TopicName(prefix + 0)))
+            .onComplete(context.succeeding(readTopic -> context.verify(() ->
+                assertThat(readTopic.getNumPartitions(), is(2)))))
+            .compose(v -> store.read(new TopicName(prefix + 2)))
+            .onComplete(context.succeeding(deletedTopic -> context.verify(() -> {
+                assertThat(deletedTopic, is(nullValue()));
+                async.flag();
+            })));
+    }
 }
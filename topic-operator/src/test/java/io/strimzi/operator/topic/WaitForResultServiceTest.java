@@ -0,0 +1,36 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WaitForResultServiceTest {
+
+    @Test
+    public void testResultsCompleteOrTimeOut() throws Exception {
+        ForeachActionDispatcher<String, Integer> dispatcher = new ForeachActionDispatcher<>();
+        try (WaitForResultService service = new WaitForResultService(2_000, dispatcher)) {
+            CompletableFuture<Integer> completed = service.apply("foo", "uuid-1").toCompletableFuture();
+            CompletableFuture<Integer> existing = service.apply("bar", "uuid-2").toCompletableFuture();
+            CompletableFuture<Integer> stale = service.apply("baz", "uuid-3").toCompletableFuture();
+
+            dispatcher.apply("uuid-1", null);
+            dispatcher.apply("uuid-2", KafkaStreamsTopicStore.toIndex(TopicStore.EntityExistsException.class));
+            assertThat(completed.get(1, TimeUnit.SECONDS), is(nullValue()));
+            assertThat(existing.get(1, TimeUnit.SECONDS), is(KafkaStreamsTopicStore.toIndex(TopicStore.EntityExistsException.class)));
+
+            // The result which was not notified is completed with an error after the timeout
+            assertThat(stale.get(10, TimeUnit.SECONDS), is(KafkaStreamsTopicStore.toIndex(TopicStore.InvalidStateException.class)));
+        }
+    }
+}
@@ -6,15 +6,36 @@ package io.strimzi.operator.topic;
 
 import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 public class ZkTopicsWatcherTest {
@@ -81,4 +102,99 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testConfigChangeNotifications() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.dataResult = Future.succeededFuture(new byte[0]);
+        mockZk.pathChildrenResults.put("/config/changes", Future.succeededFuture(singletonList("config_change_0000000001")));
+        notification("config_change_0000000001", "{\"version\":2,\"entity_path\":\"topics/foo\"}");
+        notification("config_change_0000000002", "{\"version\":2,\"entity_path\":\"topics/foo\"}");
+        notification("config_change_0000000003", "{\"version\":2,\"entity_path\":\"users/alice\"}");
+        notification("config_change_0000000004", "{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"bar\"}");
+        notification("config_change_0000000005", "{\"version\":2,\"entity_path\":\"topics/unknown\"}");
+
+        ZkConfigChangesWatcher topicConfigsWatcher = new ZkConfigChangesWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, new ZkTopicWatcher(operator));
+        topicsWatcher.start(mockZk);
+        assertThat(topicConfigsWatcher.watching("foo"), is(true));
+
+        // The config znodes of the topics are not watched
+        mockZk.triggerData("/config/topics/foo", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        // Only the notifications written after the start are processed
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000001",
+                "config_change_0000000002", "config_change_0000000003", "config_change_0000000004", "config_change_0000000005")));
+        assertThat(operator.getMockOperatorEvents(), is(asList(
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")),
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+
+        // Every notification is processed only once
+        operator.clearEvents();
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000004", "config_change_0000000005")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+
+    private void notification(String child, String json) {
+        mockZk.pathDataResults.put("/config/changes/" + child, Future.succeededFuture(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testPartitionsPolling(Vertx vertx) {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar", "baz"));
+        mockZk.dataResult = Future.succeededFuture(new byte[0]);
+
+        Map<String, Integer> partitions = new HashMap<>();
+        partitions.put("foo", 1);
+        partitions.put("bar", 1);
+        Admin admin = mock(Admin.class);
+        when(admin.describeTopics(any(Collection.class))).thenAnswer(invocation -> {
+            Map<String, KafkaFuture<TopicDescription>> values = new HashMap<>();
+            for (String topic : invocation.<Collection<String>>getArgument(0)) {
+                values.put(topic, describe(topic, partitions.get(topic)));
+            }
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        KafkaPartitionsPoller topicWatcher = new KafkaPartitionsPoller(operator, vertx, admin, 2, 3_600_000L);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, new ZkConfigChangesWatcher(operator), topicWatcher);
+        topicsWatcher.start(mockZk);
+
+        try {
+            // The first poll only records the partitions
+            topicWatcher.poll();
+            assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+            verify(admin, times(2)).describeTopics(any(Collection.class));
+
+            partitions.put("foo", 3);
+            topicWatcher.poll();
+            assertThat(operator.getMockOperatorEvents(),
+                    is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("foo")))));
+
+            operator.clearEvents();
+            topicWatcher.poll();
+            assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+        } finally {
+            topicsWatcher.stop();
+        }
+    }
+
+    private static KafkaFuture<TopicDescription> describe(String topic, Integer numPartitions) {
+        KafkaFutureImpl<TopicDescription> future = new KafkaFutureImpl<>();
+        if (numPartitions == null) {
+            future.completeExceptionally(new UnknownTopicOrPartitionException(topic));
+        } else {
+            List<TopicPartitionInfo> partitions = new ArrayList<>();
+            for (int i = 0; i < numPartitions; i++) {
+                partitions.add(new TopicPartitionInfo(i, null, emptyList(), emptyList()));
+            }
+            future.complete(new TopicDescription(topic, false, partitions));
+        }
+        return future;
+    }
 }
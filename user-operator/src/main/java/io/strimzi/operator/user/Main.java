@@ -8,15 +8,23 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JcaCertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.AdminApiScramShaCredentialsOperator;
+import io.strimzi.operator.user.operator.BatchingKafkaUserQuotasOperator;
+import io.strimzi.operator.user.operator.BatchingSimpleAclOperator;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.strimzi.operator.user.operator.KafkaUserQuotasOperator;
 import io.strimzi.operator.user.operator.ScramShaCredentials;
@@ -29,11 +37,13 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.security.Security;
+import java.util.concurrent.TimeUnit;
 
 @SuppressFBWarnings("DM_EXIT")
 @SuppressWarnings("deprecation")
@@ -71,20 +81,62 @@ public class Main {
         });
     }
 
+    /**
+     * Creates the in-process certificate manager. With a key pair pool, the key pairs of the user certificates are
+     * generated in advance.
+     *
+     * @param keyPairPoolSize   Number of key pairs generated in advance (0 generates them on demand)
+     *
+     * @return  Certificate manager
+     */
+    private static CertManager inProcessCertManager(int keyPairPoolSize) {
+        JcaCertManager certManager = keyPairPoolSize > 0 ? JcaCertManager.withKeyPairPool(keyPairPoolSize) : new JcaCertManager();
+
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        if (registry != null) {
+            certManager.bindTo(registry);
+        }
+
+        return certManager;
+    }
+
+    /**
+     * Creates the operator for the SCRAM-SHA credentials. They are managed either using the Kafka Admin API or
+     * directly in ZooKeeper.
+     *
+     * @param vertx         Vertx instance
+     * @param adminClient   Kafka Admin client
+     * @param config        User Operator configuration
+     *
+     * @return  SCRAM-SHA credentials operator
+     */
+    private static ScramShaCredentialsOperator scramShaCredentialsOperator(Vertx vertx, Admin adminClient, UserOperatorConfig config) {
+        if (config.isScramShaAdminApi()) {
+            return new AdminApiScramShaCredentialsOperator(vertx, adminClient, config.getBatchSize(), config.getBatchWindowMs());
+        } else {
+            ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+            return new ScramShaCredentialsOperator(vertx, scramShaCredentials);
+        }
+    }
+
     static Future<String> run(Vertx vertx, KubernetesClient client, AdminClientProvider adminClientProvider, UserOperatorConfig config) {
         Util.printEnvInfo();
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
         Security.setProperty("networkaddress.cache.ttl", dnsCacheTtl);
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.isInProcessCertManager() ? inProcessCertManager(config.getKeyPairPoolSize()) : new OpenSslCertManager();
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND);
-        return createAdminClient(adminClientProvider, config, secretOperations)
+        return enableSecretCache(vertx, secretOperations, config)
+                .compose(ignore -> createAdminClient(adminClientProvider, config, secretOperations))
                 .compose(adminClient -> {
-                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
-                    ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
-                    ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, scramShaCredentials);
-                    KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, adminClient);
+                    SimpleAclOperator aclOperations = config.getBatchWindowMs() > 0
+                            ? new BatchingSimpleAclOperator(vertx, adminClient, config.getBatchSize(), config.getBatchWindowMs())
+                            : new SimpleAclOperator(vertx, adminClient);
+                    ScramShaCredentialsOperator scramShaCredentialsOperator = scramShaCredentialsOperator(vertx, adminClient, config);
+                    KafkaUserQuotasOperator quotasOperator = config.getBatchWindowMs() > 0
+                            ? new BatchingKafkaUserQuotasOperator(vertx, adminClient, config.getBatchSize(), config.getBatchWindowMs(), config.getReconciliationIntervalMs())
+                            : new KafkaUserQuotasOperator(vertx, adminClient);
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx,
                             certManager, crdOperations,
@@ -111,6 +163,35 @@ public class Main {
                 });
     }
 
+    /**
+     * Enables the watch-backed cache of the Secrets in the watched namespace and in the namespace with the clients CA.
+     * The clients CA Secrets and the user Secrets are then read from the cache in every user reconciliation instead of
+     * from the Kubernetes API.
+     *
+     * @param vertx             Vertx instance
+     * @param secretOperations  Secret operator
+     * @param config            User Operator configuration
+     *
+     * @return  Future which completes when the cache is synced
+     */
+    /* test */ static Future<Void> enableSecretCache(Vertx vertx, SecretOperator secretOperations, UserOperatorConfig config) {
+        if (!config.isSecretCache()) {
+            return Future.succeededFuture();
+        }
+
+        // The cache uses the shared worker pool, so it needs to be configured before the cache is synced
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+
+        MetricsProvider metrics = new MicrometerMetricsProvider();
+        Future<Void> cache = secretOperations.enableCache(config.getNamespace(), metrics);
+
+        if (config.getCaNamespace() != null && !config.getCaNamespace().equals(config.getNamespace())) {
+            cache = CompositeFuture.join(cache, secretOperations.enableCache(config.getCaNamespace(), metrics)).mapEmpty();
+        }
+
+        return cache;
+    }
+
     private static Future<Admin> createAdminClient(AdminClientProvider adminClientProvider, UserOperatorConfig config, SecretOperator secretOperations) {
         Promise<Admin> promise = Promise.promise();
 
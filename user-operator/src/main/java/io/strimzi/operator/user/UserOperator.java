@@ -30,6 +30,7 @@ public class UserOperator extends AbstractVerticle {
     private final KubernetesClient client;
     private final String namespace;
     private final long reconciliationInterval;
+    private final int certificateIssuancePoolSize;
     private final KafkaUserOperator kafkaUserOperator;
 
     private final PrometheusMeterRegistry metrics;
@@ -44,6 +45,7 @@ public class UserOperator extends AbstractVerticle {
         LOGGER.info("Creating UserOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.reconciliationInterval = config.getReconciliationIntervalMs();
+        this.certificateIssuancePoolSize = config.getCertificateIssuancePoolSize();
         this.client = client;
         this.kafkaUserOperator = kafkaUserOperator;
         this.metrics = (PrometheusMeterRegistry) BackendRegistries.getDefaultNow();
@@ -53,8 +55,9 @@ public class UserOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         LOGGER.info("Starting UserOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
+        // Configure the executors here, but they are used only in other places
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        getVertx().createSharedWorkerExecutor("certificate-issuance-pool", certificateIssuancePoolSize, TimeUnit.SECONDS.toNanos(120));
 
         kafkaUserOperator.createWatch(namespace, kafkaUserOperator.recreateWatch(namespace))
             .compose(w -> {
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -29,12 +30,26 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
+    public static final String STRIMZI_IN_PROCESS_CERT_MANAGER = "STRIMZI_IN_PROCESS_CERT_MANAGER";
+    public static final String STRIMZI_KEY_PAIR_POOL_SIZE = "STRIMZI_KEY_PAIR_POOL_SIZE";
+    public static final String STRIMZI_CERTIFICATE_ISSUANCE_POOL_SIZE = "STRIMZI_CERTIFICATE_ISSUANCE_POOL_SIZE";
+    public static final String STRIMZI_KAFKA_ADMIN_BATCH_WINDOW_MS = "STRIMZI_KAFKA_ADMIN_BATCH_WINDOW_MS";
+    public static final String STRIMZI_KAFKA_ADMIN_BATCH_SIZE = "STRIMZI_KAFKA_ADMIN_BATCH_SIZE";
+    public static final String STRIMZI_SCRAM_SHA_ADMIN_API = "STRIMZI_SCRAM_SHA_ADMIN_API";
+    public static final String STRIMZI_SECRET_CACHE = "STRIMZI_SECRET_CACHE";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 18_000;
     public static final String DEFAULT_SECRET_PREFIX = "";
+    public static final boolean DEFAULT_IN_PROCESS_CERT_MANAGER = false;
+    public static final int DEFAULT_KEY_PAIR_POOL_SIZE = KeyPairPool.DEFAULT_CAPACITY;
+    public static final int DEFAULT_CERTIFICATE_ISSUANCE_POOL_SIZE = 4;
+    public static final long DEFAULT_KAFKA_ADMIN_BATCH_WINDOW_MS = 0;
+    public static final int DEFAULT_KAFKA_ADMIN_BATCH_SIZE = 100;
+    public static final boolean DEFAULT_SCRAM_SHA_ADMIN_API = false;
+    public static final boolean DEFAULT_SECRET_CACHE = false;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +63,13 @@ public class UserOperatorConfig {
     private final String eoKeySecretName;
     private final String caNamespace;
     private final String secretPrefix;
+    private final boolean inProcessCertManager;
+    private final int keyPairPoolSize;
+    private final int certificateIssuancePoolSize;
+    private final long batchWindowMs;
+    private final int batchSize;
+    private final boolean scramShaAdminApi;
+    private final boolean secretCache;
 
     /**
      * Constructor
@@ -64,6 +86,13 @@ public class UserOperatorConfig {
      * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
      * @param caNamespace Namespace with the CA secret.
      * @param secretPrefix Prefix used for the Secret names
+     * @param inProcessCertManager Indicates whether the certificates are generated in-process instead of using openssl
+     * @param keyPairPoolSize Number of key pairs generated in advance by the in-process certificate manager (0 disables the pool)
+     * @param certificateIssuancePoolSize Number of worker threads which create the user models and issue the user certificates
+     * @param batchWindowMs Time for which the Kafka Admin API requests of different users are collected into one request (0 disables the batching)
+     * @param batchSize Maximal number of users in a single batched Kafka Admin API request
+     * @param scramShaAdminApi Indicates whether the SCRAM-SHA credentials are managed using the Kafka Admin API instead of ZooKeeper
+     * @param secretCache Indicates whether the Secrets are read from a watch-backed cache instead of the Kubernetes API
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
     public UserOperatorConfig(String namespace,
@@ -76,7 +105,14 @@ public class UserOperatorConfig {
                               String clusterCaCertSecretName,
                               String eoKeySecretName,
                               String caNamespace,
-                              String secretPrefix) {
+                              String secretPrefix,
+                              boolean inProcessCertManager,
+                              int keyPairPoolSize,
+                              int certificateIssuancePoolSize,
+                              long batchWindowMs,
+                              int batchSize,
+                              boolean scramShaAdminApi,
+                              boolean secretCache) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -89,6 +125,13 @@ public class UserOperatorConfig {
         this.eoKeySecretName = eoKeySecretName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.inProcessCertManager = inProcessCertManager;
+        this.keyPairPoolSize = keyPairPoolSize;
+        this.certificateIssuancePoolSize = certificateIssuancePoolSize;
+        this.batchWindowMs = batchWindowMs;
+        this.batchSize = batchSize;
+        this.scramShaAdminApi = scramShaAdminApi;
+        this.secretCache = secretCache;
     }
 
     /**
@@ -161,8 +204,51 @@ public class UserOperatorConfig {
             secretPrefix = DEFAULT_SECRET_PREFIX;
         }
 
+        boolean inProcessCertManager = DEFAULT_IN_PROCESS_CERT_MANAGER;
+        String inProcessCertManagerEnvVar = map.get(UserOperatorConfig.STRIMZI_IN_PROCESS_CERT_MANAGER);
+        if (inProcessCertManagerEnvVar != null) {
+            inProcessCertManager = Boolean.parseBoolean(inProcessCertManagerEnvVar);
+        }
+
+        int keyPairPoolSize = DEFAULT_KEY_PAIR_POOL_SIZE;
+        String keyPairPoolSizeEnvVar = map.get(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE);
+        if (keyPairPoolSizeEnvVar != null) {
+            keyPairPoolSize = Integer.parseInt(keyPairPoolSizeEnvVar);
+        }
+
+        int certificateIssuancePoolSize = DEFAULT_CERTIFICATE_ISSUANCE_POOL_SIZE;
+        String certificateIssuancePoolSizeEnvVar = map.get(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_POOL_SIZE);
+        if (certificateIssuancePoolSizeEnvVar != null) {
+            certificateIssuancePoolSize = Integer.parseInt(certificateIssuancePoolSizeEnvVar);
+        }
+
+        long batchWindowMs = DEFAULT_KAFKA_ADMIN_BATCH_WINDOW_MS;
+        String batchWindowMsEnvVar = map.get(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_BATCH_WINDOW_MS);
+        if (batchWindowMsEnvVar != null) {
+            batchWindowMs = Long.parseLong(batchWindowMsEnvVar);
+        }
+
+        int batchSize = DEFAULT_KAFKA_ADMIN_BATCH_SIZE;
+        String batchSizeEnvVar = map.get(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_BATCH_SIZE);
+        if (batchSizeEnvVar != null) {
+            batchSize = Integer.parseInt(batchSizeEnvVar);
+        }
+
+        boolean scramShaAdminApi = DEFAULT_SCRAM_SHA_ADMIN_API;
+        String scramShaAdminApiEnvVar = map.get(UserOperatorConfig.STRIMZI_SCRAM_SHA_ADMIN_API);
+        if (scramShaAdminApiEnvVar != null) {
+            scramShaAdminApi = Boolean.parseBoolean(scramShaAdminApiEnvVar);
+        }
+
+        boolean secretCache = DEFAULT_SECRET_CACHE;
+        String secretCacheEnvVar = map.get(UserOperatorConfig.STRIMZI_SECRET_CACHE);
+        if (secretCacheEnvVar != null) {
+            secretCache = Boolean.parseBoolean(secretCacheEnvVar);
+        }
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix);
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix, inProcessCertManager,
+                keyPairPoolSize, certificateIssuancePoolSize, batchWindowMs, batchSize, scramShaAdminApi, secretCache);
     }
 
     public static int getClientsCaValidityDays() {
@@ -266,6 +352,57 @@ public class UserOperatorConfig {
         return secretPrefix;
     }
 
+    /**
+     * @return  True if the certificates should be generated in-process instead of using openssl
+     */
+    public boolean isInProcessCertManager() {
+        return inProcessCertManager;
+    }
+
+    /**
+     * @return  Number of key pairs which the in-process certificate manager generates in advance. 0 when the key pairs
+     * are generated on demand.
+     */
+    public int getKeyPairPoolSize() {
+        return keyPairPoolSize;
+    }
+
+    /**
+     * @return  Number of worker threads which create the user models and issue the user certificates in parallel
+     */
+    public int getCertificateIssuancePoolSize() {
+        return certificateIssuancePoolSize;
+    }
+
+    /**
+     * @return  Time in milliseconds for which the Kafka Admin API requests of different users are collected into one
+     * request. 0 when the requests are not batched.
+     */
+    public long getBatchWindowMs() {
+        return batchWindowMs;
+    }
+
+    /**
+     * @return  Maximal number of users in a single batched Kafka Admin API request
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return  True if the SCRAM-SHA credentials should be managed using the Kafka Admin API instead of ZooKeeper
+     */
+    public boolean isScramShaAdminApi() {
+        return scramShaAdminApi;
+    }
+
+    /**
+     * @return  True if the Secrets should be read from a watch-backed cache instead of the Kubernetes API
+     */
+    public boolean isSecretCache() {
+        return secretCache;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -279,6 +416,13 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",inProcessCertManager=" + inProcessCertManager +
+                ",keyPairPoolSize=" + keyPairPoolSize +
+                ",certificateIssuancePoolSize=" + certificateIssuancePoolSize +
+                ",batchWindowMs=" + batchWindowMs +
+                ",batchSize=" + batchSize +
+                ",scramShaAdminApi=" + scramShaAdminApi +
+                ",secretCache=" + secretCache +
                 ")";
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Collects the Admin API requests for individual users (or principals) and sends them as one Admin API request when
+ * the batch window elapses or when the batch is full. Every caller gets its own future with the result for its user.
+ *
+ * Each user can be in the batch only once. The reconciliations of the same user are serialized by the operator, so
+ * this normally does not happen. When it does, the batch is sent first and the new request starts the next batch.
+ *
+ * The batch is sent from a worker thread, because the Admin client does some of the work in the calling thread. For
+ * example, it hashes the SCRAM-SHA passwords before sending the request.
+ *
+ * @param <R>   Type of the request for a single user
+ * @param <T>   Type of the result for a single user
+ */
+class AdminApiBatch<R, T> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiBatch.class);
+
+    private final Vertx vertx;
+    private final String operation;
+    private final int batchSize;
+    private final long batchWindowMs;
+    private final Function<Map<String, R>, Map<String, KafkaFuture<T>>> send;
+
+    private Map<String, R> requests = new LinkedHashMap<>();
+    private Map<String, Promise<T>> promises = new HashMap<>();
+    private boolean scheduled = false;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance
+     * @param operation     Name of the Admin API operation (used in log messages)
+     * @param batchSize     Maximal number of users in a single Admin API request
+     * @param batchWindowMs Time for which the requests are collected before they are sent. When it is 0, every request
+     *                      is sent immediately on its own.
+     * @param send          Function which sends the Admin API request for the batch and returns the result for every user
+     */
+    AdminApiBatch(Vertx vertx, String operation, int batchSize, long batchWindowMs, Function<Map<String, R>, Map<String, KafkaFuture<T>>> send) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.batchSize = batchSize;
+        this.batchWindowMs = batchWindowMs;
+        this.send = send;
+    }
+
+    /**
+     * Adds the request for the user to the batch
+     *
+     * @param user      Name of the user or principal
+     * @param request   Request for the user
+     *
+     * @return  Future which completes with the result for the user
+     */
+    Future<T> add(String user, R request) {
+        Promise<T> promise = Promise.promise();
+        boolean duplicate;
+
+        synchronized (this) {
+            duplicate = requests.containsKey(user);
+        }
+
+        if (duplicate) {
+            flush();
+        }
+
+        boolean full;
+
+        synchronized (this) {
+            requests.put(user, request);
+            promises.put(user, promise);
+            full = requests.size() >= batchSize || batchWindowMs <= 0;
+
+            if (!full && !scheduled) {
+                scheduled = true;
+                vertx.setTimer(batchWindowMs, id -> flush());
+            }
+        }
+
+        if (full) {
+            flush();
+        }
+
+        return promise.future();
+    }
+
+    private void flush() {
+        Map<String, R> requests;
+        Map<String, Promise<T>> promises;
+
+        synchronized (this) {
+            requests = this.requests;
+            promises = this.promises;
+            this.requests = new LinkedHashMap<>();
+            this.promises = new HashMap<>();
+            this.scheduled = false;
+        }
+
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debugOp("Sending {} request for {} users", operation, requests.size());
+        Context context = vertx.getOrCreateContext();
+
+        context.<Map<String, KafkaFuture<T>>>executeBlocking(future -> future.complete(send.apply(requests)), false, res -> {
+            if (res.failed()) {
+                promises.values().forEach(promise -> promise.fail(res.cause()));
+                return;
+            }
+
+            for (Map.Entry<String, Promise<T>> entry : promises.entrySet()) {
+                KafkaFuture<T> result = res.result().get(entry.getKey());
+
+                if (result == null) {
+                    entry.getValue().fail(new IllegalStateException("No " + operation + " result for user " + entry.getKey()));
+                } else {
+                    result.whenComplete((value, error) -> context.runOnContext(ignored -> {
+                        if (error != null) {
+                            entry.getValue().fail(error);
+                        } else {
+                            entry.getValue().complete(value);
+                        }
+                    }));
+                }
+            }
+        });
+    }
+}
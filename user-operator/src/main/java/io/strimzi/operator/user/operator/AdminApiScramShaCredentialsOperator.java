@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link ScramShaCredentialsOperator} which manages the SCRAM-SHA credentials using the Kafka Admin API instead of
+ * writing them directly to ZooKeeper. The credential changes of different users made within the batch window are sent
+ * as one {@code alterUserScramCredentials} request, and the users with credentials are listed with a single
+ * {@code describeUserScramCredentials} request. The Kafka brokers apply the changes without the config change
+ * notifications in ZooKeeper which every broker has to process.
+ */
+public class AdminApiScramShaCredentialsOperator extends ScramShaCredentialsOperator {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiScramShaCredentialsOperator.class.getName());
+
+    private final static int ITERATIONS = 4096;
+    private final static ScramMechanism MECHANISM = ScramMechanism.SCRAM_SHA_512;
+
+    private final Admin adminClient;
+    private final AdminApiBatch<UserScramCredentialAlteration, Void> alterations;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchSize Maximal number of users in a single Admin API request
+     * @param batchWindowMs Time for which the credential changes are collected before they are sent (0 sends them immediately)
+     */
+    public AdminApiScramShaCredentialsOperator(Vertx vertx, Admin adminClient, int batchSize, long batchWindowMs) {
+        super(vertx);
+        this.adminClient = adminClient;
+        this.alterations = new AdminApiBatch<>(vertx, "alterUserScramCredentials", batchSize, batchWindowMs,
+            requests -> adminClient.alterUserScramCredentials(new ArrayList<>(requests.values())).values());
+    }
+
+    @Override
+    Future<Void> reconcile(Reconciliation reconciliation, String username, String password) {
+        if (password != null) {
+            LOGGER.debugCr(reconciliation, "Creating or updating {} credentials for user {}", MECHANISM.mechanismName(), username);
+            return alterations.add(username, new UserScramCredentialUpsertion(username, new ScramCredentialInfo(MECHANISM, ITERATIONS), password));
+        } else {
+            LOGGER.debugCr(reconciliation, "Deleting {} credentials for user {}", MECHANISM.mechanismName(), username);
+            return alterations.add(username, new UserScramCredentialDeletion(username, MECHANISM))
+                    .recover(e -> {
+                        if (e instanceof ResourceNotFoundException) {
+                            LOGGER.debugCr(reconciliation, "Credentials for user {} already don't exist", username);
+                            return Future.succeededFuture();
+                        }
+
+                        return Future.failedFuture(e);
+                    });
+        }
+    }
+
+    /**
+     * List users with SCRAM-SHA credentials
+     *
+     * @return List of usernames configured for given mechanism
+     */
+    @Override
+    public List<String> list() {
+        try {
+            Map<String, UserScramCredentialsDescription> descriptions = adminClient.describeUserScramCredentials().all().get();
+            List<String> result = new ArrayList<>(descriptions.size());
+
+            for (UserScramCredentialsDescription description : descriptions.values()) {
+                if (description.credentialInfos().stream().anyMatch(info -> info.mechanism() == MECHANISM)) {
+                    result.add(description.name());
+                }
+            }
+
+            return result;
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to list the users with " + MECHANISM.mechanismName() + " credentials", e);
+        }
+    }
+}
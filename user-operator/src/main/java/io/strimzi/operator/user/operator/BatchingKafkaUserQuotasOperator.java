@@ -0,0 +1,205 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KafkaUserQuotasOperator} which reconciles the quotas against a snapshot of the quotas of all users instead of
+ * describing the quotas of every user, and which batches the quota changes of many users.
+ *
+ * <ul>
+ *     <li>The snapshot is loaded with a single {@code describeClientQuotas} request and reloaded when it is older than
+ *     the maximal age, which is normally the interval of the periodic reconciliation. In between, it is updated by the
+ *     quota changes done by this operator.</li>
+ *     <li>The quota changes of different users made within the batch window are sent as one {@code alterClientQuotas}
+ *     request with up to {@code batchSize} users.</li>
+ * </ul>
+ *
+ * When the snapshot cannot be loaded, or when a change of the user's quotas failed, the quotas of the user are described
+ * individually as in the {@link KafkaUserQuotasOperator}.
+ */
+public class BatchingKafkaUserQuotasOperator extends KafkaUserQuotasOperator {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingKafkaUserQuotasOperator.class.getName());
+
+    private final AdminApiBatch<ClientQuotaAlteration, Void> alterations;
+    private final long snapshotMaxAgeNs;
+
+    // Users whose quotas in the snapshot might not be up to date and have to be described individually
+    private final Set<String> stale = ConcurrentHashMap.newKeySet();
+    private volatile Map<String, KafkaUserQuotas> snapshot;
+    private volatile long snapshotLoadedNs;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchSize Maximal number of users in a single Admin API request
+     * @param batchWindowMs Time for which the quota changes are collected before they are sent (0 sends them immediately)
+     * @param snapshotMaxAgeMs Time after which the snapshot of the quotas of all users is reloaded
+     */
+    public BatchingKafkaUserQuotasOperator(Vertx vertx, Admin adminClient, int batchSize, long batchWindowMs, long snapshotMaxAgeMs) {
+        super(vertx, adminClient);
+        this.snapshotMaxAgeNs = TimeUnit.MILLISECONDS.toNanos(snapshotMaxAgeMs);
+        this.alterations = new AdminApiBatch<>(vertx, "alterClientQuotas", batchSize, batchWindowMs,
+            requests -> byUsername(adminClient.alterClientQuotas(new ArrayList<>(requests.values())).values()));
+    }
+
+    private static Map<String, KafkaFuture<Void>> byUsername(Map<ClientQuotaEntity, KafkaFuture<Void>> results) {
+        Map<String, KafkaFuture<Void>> byUsername = new HashMap<>(results.size());
+
+        for (Map.Entry<ClientQuotaEntity, KafkaFuture<Void>> result : results.entrySet()) {
+            byUsername.put(result.getKey().entries().get(ClientQuotaEntity.USER), result.getValue());
+        }
+
+        return byUsername;
+    }
+
+    /**
+     * @return  The snapshot of the quotas of all users. It is loaded when needed or when it is too old. Null when it
+     * could not be loaded.
+     */
+    private synchronized Map<String, KafkaUserQuotas> snapshot() {
+        if (snapshot == null || System.nanoTime() - snapshotLoadedNs > snapshotMaxAgeNs) {
+            try {
+                LOGGER.debugOp("Loading the snapshot of the quotas of all users");
+                ClientQuotaFilter filter = ClientQuotaFilter.containsOnly(Collections.singletonList(ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER)));
+                Map<ClientQuotaEntity, Map<String, Double>> entities = adminClient.describeClientQuotas(filter).entities().get();
+
+                Map<String, KafkaUserQuotas> index = new ConcurrentHashMap<>(entities.size());
+                for (Map.Entry<ClientQuotaEntity, Map<String, Double>> entity : entities.entrySet()) {
+                    String username = entity.getKey().entries().get(ClientQuotaEntity.USER);
+
+                    // The default quotas of all users have no username
+                    if (username != null) {
+                        index.put(username, fromClientQuota(entity.getValue()));
+                    }
+                }
+
+                stale.clear();
+                snapshot = index;
+                snapshotLoadedNs = System.nanoTime();
+            } catch (Exception e) {
+                LOGGER.debugOp("Failed to load the snapshot of the quotas of all users", e);
+                snapshot = null;
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Returns the current quotas of the user from the snapshot. When the snapshot is not available or when the
+     * quotas of the user in the snapshot might not be up to date, the quotas of the user are described.
+     */
+    private KafkaUserQuotas currentQuotas(Reconciliation reconciliation, String username) throws Exception {
+        Map<String, KafkaUserQuotas> current = snapshot();
+
+        if (current == null || stale.contains(username)) {
+            KafkaUserQuotas quotas = describeUserQuotas(reconciliation, username);
+
+            if (current != null) {
+                if (quotas != null) {
+                    current.put(username, quotas);
+                } else {
+                    current.remove(username);
+                }
+                stale.remove(username);
+            }
+
+            return quotas;
+        }
+
+        LOGGER.debugCr(reconciliation, "Using quotas of user {} from the quota snapshot", username);
+        return current.get(username);
+    }
+
+    @Override
+    Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas quotas) {
+        Promise<KafkaUserQuotas> current = Promise.promise();
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                try {
+                    future.complete(currentQuotas(reconciliation, username));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            false,
+            current);
+
+        return current.future().compose(currentQuotas -> {
+            if (quotas != null) {
+                if (currentQuotas != null && quotasEquals(currentQuotas, quotas)) {
+                    LOGGER.debugCr(reconciliation, "Nothing to update in quotas for user {}", username);
+                    return Future.succeededFuture(ReconcileResult.created(quotas));
+                }
+
+                LOGGER.debugCr(reconciliation, "Creating or updating quotas for user {}", username);
+                return alter(reconciliation, username, quotas, quotas)
+                        .map(currentQuotas != null ? ReconcileResult.created(quotas) : ReconcileResult.patched(quotas));
+            } else if (currentQuotas != null) {
+                LOGGER.debugCr(reconciliation, "Deleting quotas for user {}", username);
+                return alter(reconciliation, username, new KafkaUserQuotas(), null)
+                        .map(ReconcileResult.deleted());
+            } else {
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            }
+        });
+    }
+
+    /**
+     * Adds the quota change to the batch and updates the snapshot when the change succeeds
+     *
+     * @param reconciliation The reconciliation
+     * @param username Name of the user
+     * @param quotas The quotas which should be set (quotas which are not set are removed)
+     * @param desired The quotas of the user after the change, or null when the user will not have any quotas
+     *
+     * @return Future which completes when the change is done
+     */
+    private Future<Void> alter(Reconciliation reconciliation, String username, KafkaUserQuotas quotas, KafkaUserQuotas desired) {
+        ClientQuotaEntity entity = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+
+        return alterations.add(username, new ClientQuotaAlteration(entity, toClientQuotaAlterationOps(quotas)))
+                .map(ignored -> {
+                    Map<String, KafkaUserQuotas> current = snapshot;
+                    if (current != null) {
+                        if (desired != null) {
+                            current.put(username, desired);
+                        } else {
+                            current.remove(username);
+                        }
+                    }
+                    return (Void) null;
+                })
+                .recover(e -> {
+                    LOGGER.errorCr(reconciliation, "Creating/Altering quotas for user {} failed", username, e);
+                    stale.add(username);
+                    return Future.failedFuture(e);
+                });
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.security.auth.KafkaPrincipal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * {@link SimpleAclOperator} which reconciles the ACLs against a snapshot of all ACLs in the cluster instead of
+ * describing the ACLs of every user, and which batches the ACL changes of many users.
+ *
+ * <ul>
+ *     <li>The snapshot is indexed by principal. It is loaded by the periodic {@link #getUsersWithAcls()}, which already
+ *     describes all ACLs, and on the first reconciliation. Between the periodic reconciliations, it is updated by the
+ *     ACL changes done by this operator. ACL changes done by someone else are picked up by the next periodic
+ *     reconciliation.</li>
+ *     <li>The ACL creations and deletions of different users made within the batch window are sent as one
+ *     {@code createAcls} and one {@code deleteAcls} request with up to {@code batchSize} users.</li>
+ * </ul>
+ *
+ * When the snapshot cannot be loaded, or when a change of the user's ACLs failed, the ACLs of the user are described
+ * individually as in the {@link SimpleAclOperator}.
+ */
+public class BatchingSimpleAclOperator extends SimpleAclOperator {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingSimpleAclOperator.class.getName());
+
+    private final AdminApiBatch<Collection<AclBinding>, Void> creations;
+    private final AdminApiBatch<Collection<AclBindingFilter>, Void> deletions;
+
+    // Principals whose ACLs in the snapshot might not be up to date and have to be described individually
+    private final Set<String> stale = ConcurrentHashMap.newKeySet();
+    private volatile Map<String, Set<SimpleAclRule>> snapshot;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batchSize Maximal number of users in a single Admin API request
+     * @param batchWindowMs Time for which the ACL changes are collected before they are sent
+     */
+    public BatchingSimpleAclOperator(Vertx vertx, Admin adminClient, int batchSize, long batchWindowMs) {
+        super(vertx, adminClient);
+
+        this.creations = new AdminApiBatch<>(vertx, "createAcls", batchSize, batchWindowMs,
+            requests -> byPrincipal(adminClient.createAcls(flatten(requests)).values(), binding -> binding.entry().principal()));
+        this.deletions = new AdminApiBatch<>(vertx, "deleteAcls", batchSize, batchWindowMs,
+            requests -> byPrincipal(adminClient.deleteAcls(flatten(requests)).values(), filter -> filter.entryFilter().principal()));
+    }
+
+    private static <V> List<V> flatten(Map<String, Collection<V>> requests) {
+        List<V> all = new ArrayList<>();
+        requests.values().forEach(all::addAll);
+        return all;
+    }
+
+    /**
+     * Groups the results for the individual ACL bindings (or binding filters) by principal. The deletion of the
+     * bindings matching a filter fails when the deletion of any of the matching bindings failed.
+     */
+    private static <K, V> Map<String, KafkaFuture<Void>> byPrincipal(Map<K, KafkaFuture<V>> results, Function<K, String> principal) {
+        Map<String, List<KafkaFuture<?>>> grouped = new HashMap<>();
+
+        for (Map.Entry<K, KafkaFuture<V>> result : results.entrySet()) {
+            KafkaFuture<?> future = result.getValue().thenApply(value -> {
+                if (value instanceof DeleteAclsResult.FilterResults) {
+                    for (DeleteAclsResult.FilterResult filterResult : ((DeleteAclsResult.FilterResults) value).values()) {
+                        if (filterResult.exception() != null) {
+                            throw filterResult.exception();
+                        }
+                    }
+                }
+                return value;
+            });
+
+            grouped.computeIfAbsent(principal.apply(result.getKey()), p -> new ArrayList<>()).add(future);
+        }
+
+        Map<String, KafkaFuture<Void>> byPrincipal = new HashMap<>(grouped.size());
+        for (Map.Entry<String, List<KafkaFuture<?>>> futures : grouped.entrySet()) {
+            byPrincipal.put(futures.getKey(), KafkaFuture.allOf(futures.getValue().toArray(new KafkaFuture<?>[0])));
+        }
+
+        return byPrincipal;
+    }
+
+    private static String principal(String username) {
+        return new KafkaPrincipal(KafkaPrincipal.USER_TYPE, username).toString();
+    }
+
+    /**
+     * Indexes the ACL bindings by principal. When some binding of a principal cannot be converted to a
+     * {@link SimpleAclRule}, the principal is marked as stale, so that its ACLs are described individually.
+     */
+    private Map<String, Set<SimpleAclRule>> index(Collection<AclBinding> aclBindings) {
+        Map<String, Set<SimpleAclRule>> index = new ConcurrentHashMap<>();
+
+        for (AclBinding aclBinding : aclBindings) {
+            String principal = aclBinding.entry().principal();
+
+            try {
+                index.computeIfAbsent(principal, p -> ConcurrentHashMap.newKeySet()).add(SimpleAclRule.fromAclBinding(aclBinding));
+            } catch (IllegalArgumentException e) {
+                LOGGER.debugOp("ACL binding {} cannot be used in the ACL snapshot", aclBinding, e);
+                stale.add(principal);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * @return  The snapshot of all ACLs. It is loaded when needed. Null when it could not be loaded.
+     */
+    private synchronized Map<String, Set<SimpleAclRule>> snapshot() {
+        if (snapshot == null) {
+            try {
+                LOGGER.debugOp("Loading the snapshot of all ACL rules");
+                Collection<AclBinding> aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
+                stale.clear();
+                snapshot = index(aclBindings);
+            } catch (InterruptedException | ExecutionException e) {
+                LOGGER.debugOp("Failed to load the snapshot of all ACL rules", e);
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Returns set with all usernames which have some ACLs and replaces the ACL snapshot with the described ACLs.
+     *
+     * @return The set with all usernames which have some ACLs.
+     */
+    @Override
+    public Set<String> getUsersWithAcls()   {
+        LOGGER.debugOp("Searching for Users with any ACL rules and refreshing the ACL snapshot");
+
+        Collection<AclBinding> aclBindings;
+        try {
+            aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
+        } catch (InterruptedException | ExecutionException e) {
+            return new HashSet<>();
+        }
+
+        synchronized (this) {
+            stale.clear();
+            snapshot = index(aclBindings);
+        }
+
+        return usersWithAcls(aclBindings);
+    }
+
+    /**
+     * Returns Set of ACLs applying to single user from the ACL snapshot.
+     *
+     * @param reconciliation The reconciliation
+     * @param username  Name of the user.
+     * @return The Set of ACLs applying to single user.
+     */
+    @Override
+    public Set<SimpleAclRule> getAcls(Reconciliation reconciliation, String username)   {
+        String principal = principal(username);
+        Map<String, Set<SimpleAclRule>> current = snapshot();
+
+        if (current == null || stale.contains(principal)) {
+            Set<SimpleAclRule> acls = super.getAcls(reconciliation, username);
+
+            if (current != null) {
+                Set<SimpleAclRule> indexed = ConcurrentHashMap.newKeySet();
+                indexed.addAll(acls);
+                current.put(principal, indexed);
+                stale.remove(principal);
+            }
+
+            return acls;
+        }
+
+        LOGGER.debugCr(reconciliation, "Using ACL rules of user {} from the ACL snapshot", username);
+        Set<SimpleAclRule> acls = current.get(principal);
+        return acls != null ? new HashSet<>(acls) : new HashSet<>();
+    }
+
+    @Override
+    protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
+        if (desired.isEmpty()) {
+            return Future.succeededFuture(ReconcileResult.created(desired));
+        }
+
+        String principal = principal(username);
+        List<AclBinding> aclBindings = new ArrayList<>(desired.size());
+        KafkaPrincipal kafkaPrincipal = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, username);
+        for (SimpleAclRule rule : desired) {
+            aclBindings.add(rule.toKafkaAclBinding(kafkaPrincipal));
+        }
+
+        return creations.add(principal, aclBindings)
+                .map(ignored -> {
+                    Map<String, Set<SimpleAclRule>> current = snapshot;
+                    if (current != null) {
+                        current.computeIfAbsent(principal, p -> ConcurrentHashMap.newKeySet()).addAll(desired);
+                    }
+                    return ReconcileResult.created(desired);
+                })
+                .recover(e -> {
+                    LOGGER.errorCr(reconciliation, "Adding Acl rules for user {} failed", username, e);
+                    stale.add(principal);
+                    return Future.failedFuture(e);
+                });
+    }
+
+    @Override
+    protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(Reconciliation reconciliation, String username, Set<SimpleAclRule> current) {
+        if (current.isEmpty()) {
+            return Future.succeededFuture(ReconcileResult.deleted());
+        }
+
+        String principal = principal(username);
+        List<AclBindingFilter> aclBindingFilters = new ArrayList<>(current.size());
+        KafkaPrincipal kafkaPrincipal = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, username);
+        for (SimpleAclRule rule : current) {
+            aclBindingFilters.add(rule.toKafkaAclBinding(kafkaPrincipal).toFilter());
+        }
+
+        return deletions.add(principal, aclBindingFilters)
+                .map(ignored -> {
+                    Map<String, Set<SimpleAclRule>> index = snapshot;
+                    if (index != null) {
+                        Set<SimpleAclRule> indexed = index.get(principal);
+                        if (indexed != null) {
+                            indexed.removeAll(current);
+                        }
+                    }
+                    return ReconcileResult.<Set<SimpleAclRule>>deleted();
+                })
+                .recover(e -> {
+                    LOGGER.errorCr(reconciliation, "Deleting Acl rules for user {} failed", username, e);
+                    stale.add(principal);
+                    return Future.failedFuture(e);
+                });
+    }
+}
@@ -134,22 +134,43 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
      */
     @Override
     protected Future<KafkaUserStatus> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
-        Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
-
         KafkaUserStatus userStatus = new KafkaUserStatus();
+
+        return userModel(reconciliation, resource)
+                .recover(e -> {
+                    LOGGER.warnCr(reconciliation, e);
+                    StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
+                    return Future.failedFuture(new ReconciliationException(userStatus, e));
+                })
+                .compose(user -> updateUser(reconciliation, resource, user, userStatus));
+    }
+
+    /**
+     * Creates the user model, which might need to generate a new user certificate, on a worker thread. The models of
+     * different users are created in parallel, so that a burst of new TLS users does not block the event loop and the
+     * certificates are not generated one by one. The size of the worker pool is configured when the operator starts.
+     *
+     * @param reconciliation Unique identification for the reconciliation
+     * @param resource KafkaUser resources with the desired user configuration.
+     * @return Future with the user model
+     */
+    private Future<KafkaUserModel> userModel(Reconciliation reconciliation, KafkaUser resource) {
+        Promise<KafkaUserModel> result = Promise.promise();
+        vertx.createSharedWorkerExecutor("certificate-issuance-pool").<KafkaUserModel>executeBlocking(future -> {
+            Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
+            Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
+            Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
+
+            future.complete(KafkaUserModel.fromCrd(reconciliation, certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix));
+        },
+            false,
+            result);
+        return result.future();
+    }
+
+    private Future<KafkaUserStatus> updateUser(Reconciliation reconciliation, KafkaUser resource, KafkaUserModel user, KafkaUserStatus userStatus) {
         String namespace = reconciliation.namespace();
         String userName = reconciliation.name();
-        KafkaUserModel user;
-
-        try {
-            user = KafkaUserModel.fromCrd(reconciliation, certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix);
-        } catch (Exception e) {
-            LOGGER.warnCr(reconciliation, e);
-            StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
-            return Future.failedFuture(new ReconciliationException(userStatus, e));
-        }
 
         LOGGER.debugCr(reconciliation, "Updating User {} in namespace {}", userName, namespace);
         Secret desired = user.generateSecret();
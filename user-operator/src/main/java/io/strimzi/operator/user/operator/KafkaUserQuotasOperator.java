@@ -26,8 +26,8 @@ import java.util.Set;
 public class KafkaUserQuotasOperator {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaUserQuotasOperator.class.getName());
 
-    private final Vertx vertx;
-    private final Admin adminClient;
+    protected final Vertx vertx;
+    protected final Admin adminClient;
 
     public KafkaUserQuotasOperator(Vertx vertx, Admin adminClient) {
         this.vertx = vertx;
@@ -197,7 +197,7 @@ public class KafkaUserQuotasOperator {
      * @param kuq2 second instance to compare
      * @return true if they are equals, false otherwise
      */
-    private boolean quotasEquals(KafkaUserQuotas kuq1, KafkaUserQuotas kuq2) {
+    protected boolean quotasEquals(KafkaUserQuotas kuq1, KafkaUserQuotas kuq2) {
         return Objects.equals(kuq1.getProducerByteRate(), kuq2.getProducerByteRate()) &&
                 Objects.equals(kuq1.getConsumerByteRate(), kuq2.getConsumerByteRate()) &&
                 Objects.equals(kuq1.getRequestPercentage(), kuq2.getRequestPercentage()) &&
@@ -22,6 +22,15 @@ public class ScramShaCredentialsOperator {
         this.vertx = vertx;
     }
 
+    /**
+     * Constructor for the subclasses which do not manage the credentials directly in ZooKeeper
+     *
+     * @param vertx Vertx instance
+     */
+    protected ScramShaCredentialsOperator(Vertx vertx) {
+        this(vertx, null);
+    }
+
     Future<Void> reconcile(Reconciliation reconciliation, String username, String password) {
         Promise<Void> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
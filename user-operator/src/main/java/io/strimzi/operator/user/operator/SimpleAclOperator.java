@@ -42,8 +42,8 @@ public class SimpleAclOperator {
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
-    private final Vertx vertx;
-    private final Admin adminClient;
+    protected final Vertx vertx;
+    protected final Admin adminClient;
 
     /**
      * Constructor
@@ -231,18 +231,28 @@ public class SimpleAclOperator {
      * @return The set with all usernames which have some ACLs.
      */
     public Set<String> getUsersWithAcls()   {
-        Set<String> result = new HashSet<>();
-        Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
-
         LOGGER.debugOp("Searching for Users with any ACL rules");
 
         Collection<AclBinding> aclBindings;
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
-            return result;
+            return new HashSet<>();
         }
 
+        return usersWithAcls(aclBindings);
+    }
+
+    /**
+     * Returns set with all usernames which have some of the ACLs.
+     *
+     * @param aclBindings   All ACL bindings
+     * @return The set with all usernames which have some of the ACLs.
+     */
+    protected Set<String> usersWithAcls(Collection<AclBinding> aclBindings)   {
+        Set<String> result = new HashSet<>();
+        Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
+
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.SecretList;
+import io.fabric8.kubernetes.api.model.SecretListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class MainTest {
+    private static final String NAMESPACE = "namespace";
+    private static final String CA_NAMESPACE = "ca-namespace";
+    private static final String NAME = "my-user";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        VertxOptions options = new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true));
+        vertx = Vertx.vertx(options);
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static UserOperatorConfig config(boolean secretCache) {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(UserOperatorConfig.STRIMZI_NAMESPACE, NAMESPACE);
+        envVars.put(UserOperatorConfig.STRIMZI_CA_CERT_SECRET_NAME, "ca-secret-cert");
+        envVars.put(UserOperatorConfig.STRIMZI_CA_KEY_SECRET_NAME, "ca-secret-key");
+        envVars.put(UserOperatorConfig.STRIMZI_CA_NAMESPACE, CA_NAMESPACE);
+        envVars.put(UserOperatorConfig.STRIMZI_SECRET_CACHE, String.valueOf(secretCache));
+
+        return UserOperatorConfig.fromMap(envVars);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MixedOperation<Secret, SecretList, Resource<Secret>> mockSecrets(KubernetesClient client, Resource<Secret> secretResource) {
+        Secret secret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        NonNamespaceOperation<Secret, SecretList, Resource<Secret>> namespaced = mock(NonNamespaceOperation.class);
+        when(namespaced.list()).thenReturn(new SecretListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().withItems(secret).build());
+        when(namespaced.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+        when(namespaced.withName(NAME)).thenReturn(secretResource);
+        when(secretResource.get()).thenReturn(secret);
+
+        MixedOperation<Secret, SecretList, Resource<Secret>> secrets = mock(MixedOperation.class);
+        when(secrets.inNamespace(anyString())).thenReturn(namespaced);
+        when(client.secrets()).thenReturn(secrets);
+
+        return secrets;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSecretsAreReadFromCacheWhenEnabled(VertxTestContext context) {
+        KubernetesClient client = mock(KubernetesClient.class);
+        Resource<Secret> secretResource = mock(Resource.class);
+        MixedOperation<Secret, SecretList, Resource<Secret>> secrets = mockSecrets(client, secretResource);
+        SecretOperator secretOperations = new SecretOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        Main.enableSecretCache(vertx, secretOperations, config(true))
+                .compose(v -> secretOperations.getAsync(NAMESPACE, NAME))
+                .onComplete(context.succeeding(secret -> context.verify(() -> {
+                    assertThat(secret.getMetadata().getName(), is(NAME));
+                    assertThat(secretOperations.get(NAMESPACE, NAME).getMetadata().getName(), is(NAME));
+
+                    // Both the watched namespace and the clients CA namespace are cached
+                    verify(secrets, times(1)).inNamespace(NAMESPACE);
+                    verify(secrets, times(1)).inNamespace(CA_NAMESPACE);
+                    verify(secretResource, never()).get();
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSecretsAreReadFromApiWhenCacheDisabled(VertxTestContext context) {
+        KubernetesClient client = mock(KubernetesClient.class);
+        Resource<Secret> secretResource = mock(Resource.class);
+        MixedOperation<Secret, SecretList, Resource<Secret>> secrets = mockSecrets(client, secretResource);
+        SecretOperator secretOperations = new SecretOperator(vertx, client);
+
+        Checkpoint async = context.checkpoint();
+        Main.enableSecretCache(vertx, secretOperations, config(false))
+                .compose(v -> secretOperations.getAsync(NAMESPACE, NAME))
+                .onComplete(context.succeeding(secret -> context.verify(() -> {
+                    assertThat(secret.getMetadata().getName(), is(NAME));
+                    assertThat(secretOperations.get(NAMESPACE, NAME).getMetadata().getName(), is(NAME));
+
+                    verify(secretResource, times(2)).get();
+
+                    async.flag();
+                })));
+    }
+}
@@ -47,6 +47,69 @@ public class UserOperatorConfigTest {
         assertThat(config.getCaNamespace(), is(envVars.get(UserOperatorConfig.STRIMZI_CA_NAMESPACE)));
         assertThat(config.getZookeperConnect(), is(envVars.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_CONNECT)));
         assertThat(config.getZookeeperSessionTimeoutMs(), is(Long.parseLong(envVars.get(UserOperatorConfig.STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS))));
+        assertThat(config.isInProcessCertManager(), is(UserOperatorConfig.DEFAULT_IN_PROCESS_CERT_MANAGER));
+        assertThat(config.getKeyPairPoolSize(), is(UserOperatorConfig.DEFAULT_KEY_PAIR_POOL_SIZE));
+        assertThat(config.getCertificateIssuancePoolSize(), is(UserOperatorConfig.DEFAULT_CERTIFICATE_ISSUANCE_POOL_SIZE));
+        assertThat(config.getBatchWindowMs(), is(UserOperatorConfig.DEFAULT_KAFKA_ADMIN_BATCH_WINDOW_MS));
+        assertThat(config.getBatchSize(), is(UserOperatorConfig.DEFAULT_KAFKA_ADMIN_BATCH_SIZE));
+        assertThat(config.isScramShaAdminApi(), is(UserOperatorConfig.DEFAULT_SCRAM_SHA_ADMIN_API));
+        assertThat(config.isSecretCache(), is(UserOperatorConfig.DEFAULT_SECRET_CACHE));
+    }
+
+    @Test
+    public void testFromMapInProcessCertManager()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_IN_PROCESS_CERT_MANAGER, "true");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isInProcessCertManager(), is(true));
+    }
+
+    @Test
+    public void testFromMapKeyPairPoolSize()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_KEY_PAIR_POOL_SIZE, "32");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getKeyPairPoolSize(), is(32));
+    }
+
+    @Test
+    public void testFromMapCertificateIssuancePoolSize()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUANCE_POOL_SIZE, "8");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getCertificateIssuancePoolSize(), is(8));
+    }
+
+    @Test
+    public void testFromMapKafkaAdminBatching()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_BATCH_WINDOW_MS, "50");
+        envVars.put(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_BATCH_SIZE, "500");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getBatchWindowMs(), is(50L));
+        assertThat(config.getBatchSize(), is(500));
+    }
+
+    @Test
+    public void testFromMapScramShaAdminApi()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_ADMIN_API, "true");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isScramShaAdminApi(), is(true));
+    }
+
+    @Test
+    public void testFromMapSecretCache()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_SECRET_CACHE, "true");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.isSecretCache(), is(true));
     }
 
     @Test
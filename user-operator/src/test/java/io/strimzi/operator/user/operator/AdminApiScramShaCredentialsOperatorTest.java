@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AdminApiScramShaCredentialsOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testChangesOfMultipleUsersAreBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor, new HashMap<>());
+
+        AdminApiScramShaCredentialsOperator scramOp = new AdminApiScramShaCredentialsOperator(vertx, mockAdminClient, 100, 50);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", "foo-password"),
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", "bar-password"),
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "baz", null))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // One request for all users
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+
+                    List<UserScramCredentialAlteration> alterations = alterationsCaptor.getValue();
+                    assertThat(alterations, hasSize(3));
+
+                    UserScramCredentialUpsertion foo = (UserScramCredentialUpsertion) alterations.get(0);
+                    assertThat(foo.user(), is("foo"));
+                    assertThat(foo.credentialInfo().mechanism(), is(ScramMechanism.SCRAM_SHA_512));
+                    assertThat(foo.credentialInfo().iterations(), is(4096));
+                    assertThat(new String(foo.password()), is("foo-password"));
+
+                    assertThat(alterations.get(1).user(), is("bar"));
+
+                    UserScramCredentialDeletion baz = (UserScramCredentialDeletion) alterations.get(2);
+                    assertThat(baz.user(), is("baz"));
+                    assertThat(baz.mechanism(), is(ScramMechanism.SCRAM_SHA_512));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testChangesAreSentImmediatelyWithoutBatchWindow(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor, new HashMap<>());
+
+        AdminApiScramShaCredentialsOperator scramOp = new AdminApiScramShaCredentialsOperator(vertx, mockAdminClient, 100, 0);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", "foo-password"),
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", "bar-password"))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(2)).alterUserScramCredentials(any());
+                    assertThat(alterationsCaptor.getAllValues().get(0), hasSize(1));
+                    assertThat(alterationsCaptor.getAllValues().get(1), hasSize(1));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDeletionOfMissingCredentialsSucceeds(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        Map<String, Exception> errors = new HashMap<>();
+        errors.put("foo", new ResourceNotFoundException("Attempt to delete a user credential that does not exist"));
+        errors.put("bar", new IllegalStateException("Failed"));
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor, errors);
+
+        AdminApiScramShaCredentialsOperator scramOp = new AdminApiScramShaCredentialsOperator(vertx, mockAdminClient, 100, 10);
+
+        Checkpoint async = context.checkpoint(2);
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", null)
+                .onComplete(context.succeeding(rr -> async.flag()));
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", null)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e instanceof IllegalStateException, is(true));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testList() {
+        Admin mockAdminClient = mock(AdminClient.class);
+        Map<String, UserScramCredentialsDescription> descriptions = new HashMap<>();
+        descriptions.put("foo", new UserScramCredentialsDescription("foo", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))));
+        descriptions.put("bar", new UserScramCredentialsDescription("bar", asList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_256, 4096),
+                new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))));
+        descriptions.put("baz", new UserScramCredentialsDescription("baz", singletonList(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_256, 4096))));
+
+        DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(descriptions));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(result);
+
+        AdminApiScramShaCredentialsOperator scramOp = new AdminApiScramShaCredentialsOperator(vertx, mockAdminClient, 100, 10);
+        assertThat(scramOp.list(), containsInAnyOrder("foo", "bar"));
+    }
+
+    private void mockAlterUserScramCredentials(Admin mockAdminClient, ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor, Map<String, Exception> errors) {
+        when(mockAdminClient.alterUserScramCredentials(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+
+            for (UserScramCredentialAlteration alteration : alterations) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (errors.containsKey(alteration.user())) {
+                    future.completeExceptionally(errors.get(alteration.user()));
+                } else {
+                    future.complete(null);
+                }
+                values.put(alteration.user(), future);
+            }
+
+            return new AlterUserScramCredentialsResult(values);
+        });
+    }
+}
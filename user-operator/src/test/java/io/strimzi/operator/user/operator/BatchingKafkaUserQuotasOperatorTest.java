@@ -0,0 +1,199 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class BatchingKafkaUserQuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ClientQuotaEntity entity(String username) {
+        return new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+    }
+
+    private static KafkaUserQuotas quotas(int producerByteRate) {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(producerByteRate);
+        return quotas;
+    }
+
+    @Test
+    public void testChangesOfMultipleUsersAreBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        Map<ClientQuotaEntity, Map<String, Double>> entities = new HashMap<>();
+        entities.put(entity("foo"), Collections.singletonMap("producer_byte_rate", 1024.0));
+        entities.put(entity("bar"), Collections.singletonMap("producer_byte_rate", 1024.0));
+        entities.put(entity("baz"), Collections.singletonMap("producer_byte_rate", 1024.0));
+        entities.put(entity(null), Collections.singletonMap("producer_byte_rate", 512.0));
+        mockDescribeClientQuotas(mockAdminClient, entities);
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor, null);
+
+        BatchingKafkaUserQuotasOperator quotasOp = new BatchingKafkaUserQuotasOperator(vertx, mockAdminClient, 100, 50, 60_000);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(2048)),
+                quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", null),
+                quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "baz", quotas(1024)),
+                quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "qux", null),
+                quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "quux", quotas(1024)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // Only one describe and one alter request for all users
+                    verify(mockAdminClient, times(1)).describeClientQuotas(any(ClientQuotaFilter.class));
+                    verify(mockAdminClient, times(1)).alterClientQuotas(any());
+
+                    Set<ClientQuotaEntity> altered = alterationsCaptor.getValue().stream().map(ClientQuotaAlteration::entity).collect(Collectors.toSet());
+                    assertThat(altered, containsInAnyOrder(entity("foo"), entity("bar"), entity("quux")));
+
+                    assertThat(rr.<ReconcileResult<KafkaUserQuotas>>resultAt(1), is(ReconcileResult.deleted()));
+                    assertThat(rr.<ReconcileResult<KafkaUserQuotas>>resultAt(3), instanceOf(ReconcileResult.Noop.class));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSnapshotIsUpdatedWithChanges(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        mockDescribeClientQuotas(mockAdminClient, new HashMap<>());
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor, null);
+
+        BatchingKafkaUserQuotasOperator quotasOp = new BatchingKafkaUserQuotasOperator(vertx, mockAdminClient, 100, 10, 60_000);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024))
+                .compose(ignore -> quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The second reconciliation knows the quotas from the snapshot and does not change anything
+                    verify(mockAdminClient, times(1)).describeClientQuotas(any(ClientQuotaFilter.class));
+                    verify(mockAdminClient, times(1)).alterClientQuotas(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedChangeDescribesUserQuotasIndividually(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        mockDescribeClientQuotas(mockAdminClient, new HashMap<>());
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor, new ClusterAuthorizationException("Not authorized"));
+
+        BatchingKafkaUserQuotasOperator quotasOp = new BatchingKafkaUserQuotasOperator(vertx, mockAdminClient, 100, 10, 60_000);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024))
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e instanceof ClusterAuthorizationException, is(true));
+
+                    mockDescribeClientQuotas(mockAdminClient, Collections.singletonMap(entity("foo"), Collections.singletonMap("producer_byte_rate", 1024.0)));
+                    quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024))
+                            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                                // The quotas of the user were described again and match the desired quotas
+                                verify(mockAdminClient, times(2)).describeClientQuotas(any(ClientQuotaFilter.class));
+                                verify(mockAdminClient, times(1)).alterClientQuotas(any());
+
+                                async.flag();
+                            })));
+                })));
+    }
+
+    @Test
+    public void testSnapshotIsReloadedWhenTooOld(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        mockDescribeClientQuotas(mockAdminClient, Collections.singletonMap(entity("foo"), Collections.singletonMap("producer_byte_rate", 1024.0)));
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor, null);
+
+        BatchingKafkaUserQuotasOperator quotasOp = new BatchingKafkaUserQuotasOperator(vertx, mockAdminClient, 100, 10, 0);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024))
+                .compose(ignore -> quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(2)).describeClientQuotas(any(ClientQuotaFilter.class));
+                    verify(mockAdminClient, never()).alterClientQuotas(any());
+
+                    async.flag();
+                })));
+    }
+
+    private void mockDescribeClientQuotas(Admin mockAdminClient, Map<ClientQuotaEntity, Map<String, Double>> entities) {
+        when(mockAdminClient.describeClientQuotas(any(ClientQuotaFilter.class)))
+                .thenReturn(new DescribeClientQuotasResult(KafkaFuture.completedFuture(entities)));
+    }
+
+    private void mockAlterClientQuotas(Admin mockAdminClient, ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor, Exception error) {
+        when(mockAdminClient.alterClientQuotas(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = new HashMap<>();
+
+            for (ClientQuotaAlteration alteration : alterations) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(null);
+                }
+                values.put(alteration.entity(), future);
+            }
+
+            return new AlterClientQuotasResult(values);
+        });
+    }
+}
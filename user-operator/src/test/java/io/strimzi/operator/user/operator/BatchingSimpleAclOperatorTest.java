@@ -0,0 +1,217 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.AclResourcePatternType;
+import io.strimzi.api.kafka.model.AclRuleType;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
+import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.apache.kafka.common.security.auth.KafkaPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class BatchingSimpleAclOperatorTest {
+    private static final ResourcePattern TOPIC = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+    private static final SimpleAclRuleResource RULE_TOPIC = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+    private static final SimpleAclRule READ_RULE = new SimpleAclRule(AclRuleType.ALLOW, RULE_TOPIC, "*", AclOperation.READ);
+    private static final SimpleAclRule WRITE_RULE = new SimpleAclRule(AclRuleType.ALLOW, RULE_TOPIC, "*", AclOperation.WRITE);
+
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static AclBinding aclBinding(String username, org.apache.kafka.common.acl.AclOperation operation) {
+        return new AclBinding(TOPIC, new AccessControlEntry(new KafkaPrincipal(KafkaPrincipal.USER_TYPE, username).toString(),
+                "*", operation, AclPermissionType.ALLOW));
+    }
+
+    @Test
+    public void testGetAclsUsesSnapshot() {
+        Admin mockAdminClient = mock(AdminClient.class);
+        BatchingSimpleAclOperator aclOp = new BatchingSimpleAclOperator(vertx, mockAdminClient, 100, 10);
+
+        mockDescribeAcls(mockAdminClient, asList(aclBinding("foo", org.apache.kafka.common.acl.AclOperation.READ),
+                aclBinding("bar", org.apache.kafka.common.acl.AclOperation.WRITE)));
+
+        assertThat(aclOp.getUsersWithAcls(), is(new HashSet<>(asList("foo", "bar"))));
+        assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "foo"), is(singleton(READ_RULE)));
+        assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "bar"), is(singleton(WRITE_RULE)));
+        assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "baz"), is(new HashSet<>()));
+
+        // Only the describe request for all ACLs was sent
+        verify(mockAdminClient, times(1)).describeAcls(any());
+    }
+
+    @Test
+    public void testSnapshotIsLoadedOnFirstUse() {
+        Admin mockAdminClient = mock(AdminClient.class);
+        BatchingSimpleAclOperator aclOp = new BatchingSimpleAclOperator(vertx, mockAdminClient, 100, 10);
+
+        mockDescribeAcls(mockAdminClient, singleton(aclBinding("foo", org.apache.kafka.common.acl.AclOperation.READ)));
+
+        assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "foo"), is(singleton(READ_RULE)));
+        assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "bar"), is(new HashSet<>()));
+        verify(mockAdminClient, times(1)).describeAcls(AclBindingFilter.ANY);
+    }
+
+    @Test
+    public void testChangesOfMultipleUsersAreBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        BatchingSimpleAclOperator aclOp = new BatchingSimpleAclOperator(vertx, mockAdminClient, 100, 50);
+
+        mockDescribeAcls(mockAdminClient, asList(aclBinding("foo", org.apache.kafka.common.acl.AclOperation.READ),
+                aclBinding("bar", org.apache.kafka.common.acl.AclOperation.READ)));
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockCreateAcls(mockAdminClient, aclBindingsCaptor, null);
+        mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", singleton(WRITE_RULE)),
+                aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", singleton(WRITE_RULE)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // One request for both users
+                    verify(mockAdminClient, times(1)).createAcls(any());
+                    verify(mockAdminClient, times(1)).deleteAcls(any());
+                    assertThat(aclBindingsCaptor.getValue(), containsInAnyOrder(
+                            aclBinding("foo", org.apache.kafka.common.acl.AclOperation.WRITE),
+                            aclBinding("bar", org.apache.kafka.common.acl.AclOperation.WRITE)));
+                    assertThat(aclBindingFiltersCaptor.getValue(), containsInAnyOrder(
+                            aclBinding("foo", org.apache.kafka.common.acl.AclOperation.READ).toFilter(),
+                            aclBinding("bar", org.apache.kafka.common.acl.AclOperation.READ).toFilter()));
+
+                    // The snapshot was updated with the changes
+                    assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "foo"), is(singleton(WRITE_RULE)));
+                    assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "bar"), is(singleton(WRITE_RULE)));
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedChangeDescribesUserAclsIndividually(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        BatchingSimpleAclOperator aclOp = new BatchingSimpleAclOperator(vertx, mockAdminClient, 100, 10);
+
+        mockDescribeAcls(mockAdminClient, emptyList());
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockCreateAcls(mockAdminClient, aclBindingsCaptor, new ClusterAuthorizationException("Not authorized"));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", singleton(READ_RULE))
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e instanceof ClusterAuthorizationException, is(true));
+
+                    // The ACLs of the user are not known anymore and are described again
+                    mockDescribeAcls(mockAdminClient, singleton(aclBinding("foo", org.apache.kafka.common.acl.AclOperation.READ)));
+                    assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "foo"), is(singleton(READ_RULE)));
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+
+                    // ... but only once
+                    assertThat(aclOp.getAcls(Reconciliation.DUMMY_RECONCILIATION, "foo"), is(singleton(READ_RULE)));
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+
+                    async.flag();
+                })));
+    }
+
+    private void mockDescribeAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings) {
+        DescribeAclsResult result = mock(DescribeAclsResult.class);
+        when(result.values()).thenReturn(KafkaFuture.completedFuture(aclBindings));
+        when(mockAdminClient.describeAcls(any())).thenReturn(result);
+    }
+
+    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor, Exception error) {
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+
+            for (AclBinding aclBinding : aclBindings) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(null);
+                }
+                values.put(aclBinding, future);
+            }
+
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+    }
+
+    private void mockDeleteAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> filters = invocation.getArgument(0);
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = new HashMap<>();
+
+            for (AclBindingFilter filter : filters) {
+                DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+                when(filterResults.values()).thenReturn(emptyList());
+                values.put(filter, KafkaFuture.completedFuture(filterResults));
+            }
+
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+    }
+}